@@ -0,0 +1,24 @@
+package git.goossensmichael.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled. Accepts the regular JMH command line options, e.g. a regex to
+ * select the days to run.
+ */
+public class BenchmarkRunner {
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final OptionsBuilder options = new OptionsBuilder();
+        options.parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class);
+
+        new Runner(options.build()).run();
+    }
+
+}
@@ -0,0 +1,23 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day10;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day10Benchmark extends SolverBenchmark {
+
+    @Param({ "1" })
+    public int scale;
+
+    public Day10Benchmark() {
+        super(new Day10());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        // The program draws on a screen of a fixed size, a longer program does not fit.
+        return input;
+    }
+
+}
@@ -0,0 +1,23 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day11;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day11Benchmark extends SolverBenchmark {
+
+    // The size of a generated input, 0 is the puzzle input.
+    @Param({ "0", "1000" })
+    public int size;
+
+    public Day11Benchmark() {
+        super(new Day11());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.generated(input, 11, size);
+    }
+
+}
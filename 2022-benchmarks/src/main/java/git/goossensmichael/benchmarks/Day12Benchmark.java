@@ -0,0 +1,23 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day12;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day12Benchmark extends SolverBenchmark {
+
+    // The size of a generated input, 0 is the puzzle input.
+    @Param({ "0", "1000" })
+    public int size;
+
+    public Day12Benchmark() {
+        super(new Day12());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.generated(input, 12, size);
+    }
+
+}
@@ -0,0 +1,22 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day14;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day14Benchmark extends SolverBenchmark {
+
+    @Param({ "1", "100" })
+    public int scale;
+
+    public Day14Benchmark() {
+        super(new Day14());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.repeat(input, scale, "\n");
+    }
+
+}
@@ -0,0 +1,23 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day15;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day15Benchmark extends SolverBenchmark {
+
+    // The size of a generated input, 0 is the puzzle input.
+    @Param({ "0", "100" })
+    public int size;
+
+    public Day15Benchmark() {
+        super(new Day15());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.generated(input, 15, size);
+    }
+
+}
@@ -0,0 +1,23 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day16;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day16Benchmark extends SolverBenchmark {
+
+    // The size of a generated input, 0 is the puzzle input.
+    @Param({ "0", "60" })
+    public int size;
+
+    public Day16Benchmark() {
+        super(new Day16());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.generated(input, 16, size);
+    }
+
+}
@@ -0,0 +1,22 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day17;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day17Benchmark extends SolverBenchmark {
+
+    @Param({ "1", "100", "1000" })
+    public int scale;
+
+    public Day17Benchmark() {
+        super(new Day17());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.repeat(input, scale, "");
+    }
+
+}
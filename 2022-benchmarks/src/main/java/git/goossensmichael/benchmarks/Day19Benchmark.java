@@ -0,0 +1,23 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day19;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day19Benchmark extends SolverBenchmark {
+
+    // The size of a generated input, 0 is the puzzle input.
+    @Param({ "0", "30" })
+    public int size;
+
+    public Day19Benchmark() {
+        super(new Day19());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.generated(input, 19, size);
+    }
+
+}
@@ -0,0 +1,22 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day1;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day1Benchmark extends SolverBenchmark {
+
+    @Param({ "1", "100", "1000" })
+    public int scale;
+
+    public Day1Benchmark() {
+        super(new Day1());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.repeat(input, scale, "\n\n");
+    }
+
+}
@@ -0,0 +1,24 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day20;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day20Benchmark extends SolverBenchmark {
+
+    // The size of a generated input, 0 is the puzzle input. Part 2 moves every number across up to the whole list ten
+    // times, so it is quadratic and 10^6 numbers would take hours.
+    @Param({ "0", "20000" })
+    public int size;
+
+    public Day20Benchmark() {
+        super(new Day20());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.generated(input, 20, size);
+    }
+
+}
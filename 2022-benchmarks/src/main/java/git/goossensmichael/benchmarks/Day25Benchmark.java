@@ -0,0 +1,22 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day25;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day25Benchmark extends SolverBenchmark {
+
+    @Param({ "1", "100", "1000" })
+    public int scale;
+
+    public Day25Benchmark() {
+        super(new Day25());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.repeat(input, scale, "\n");
+    }
+
+}
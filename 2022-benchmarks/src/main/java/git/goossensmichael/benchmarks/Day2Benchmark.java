@@ -0,0 +1,22 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day2;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day2Benchmark extends SolverBenchmark {
+
+    @Param({ "1", "100", "1000" })
+    public int scale;
+
+    public Day2Benchmark() {
+        super(new Day2());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.repeat(input, scale, "\n");
+    }
+
+}
@@ -0,0 +1,22 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Day8;
+import org.openjdk.jmh.annotations.Param;
+
+import java.nio.ByteBuffer;
+
+public class Day8Benchmark extends SolverBenchmark {
+
+    @Param({ "1", "100" })
+    public int scale;
+
+    public Day8Benchmark() {
+        super(new Day8());
+    }
+
+    @Override
+    protected ByteBuffer input(final ByteBuffer input) {
+        return ScaledInputs.tile(input, scale);
+    }
+
+}
@@ -0,0 +1,50 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.generators.InputGenerators;
+import git.goossensmichael.utils.Inputs;
+
+import java.nio.ByteBuffer;
+
+// Builds larger inputs out of the puzzle input for the days where that still gives a valid input, or generates them.
+public class ScaledInputs {
+
+    private ScaledInputs() {
+    }
+
+    // Repeats the records of the input, joined by the given separator.
+    public static ByteBuffer repeat(final ByteBuffer input, final int times, final String separator) {
+        final String records = Inputs.asString(input).strip();
+
+        final StringBuilder sb = new StringBuilder((records.length() + separator.length()) * times);
+        for (int i = 0; i < times; i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            sb.append(records);
+        }
+        sb.append('\n');
+
+        return Inputs.of(sb.toString());
+    }
+
+    // Tiles a rectangular grid so that it covers about the given amount of times the original area.
+    public static ByteBuffer tile(final ByteBuffer input, final int times) {
+        final String[] rows = Inputs.asString(input).strip().split("\n");
+        final int tiles = (int) Math.round(Math.sqrt(times));
+
+        final StringBuilder sb = new StringBuilder();
+        for (int t = 0; t < tiles; t++) {
+            for (final String row : rows) {
+                sb.append(row.repeat(tiles)).append('\n');
+            }
+        }
+
+        return Inputs.of(sb.toString());
+    }
+
+    // A generated input of the given size, always from the same seed so every run measures the same input.
+    public static ByteBuffer generated(final ByteBuffer input, final int day, final int size) {
+        return size == 0 ? input : InputGenerators.generate(day, size, InputGenerators.DEFAULT_SEED);
+    }
+
+}
@@ -0,0 +1,65 @@
+package git.goossensmichael.benchmarks;
+
+import git.goossensmichael.Solver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing and both parts of a single day. The input is parsed once per trial, the parts are measured
+ * against that same model just like the harness runs them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class SolverBenchmark {
+
+    private final Solver<Object> solver;
+
+    private ByteBuffer input;
+    private Object model;
+
+    @SuppressWarnings("unchecked")
+    protected SolverBenchmark(final Solver<?> solver) {
+        this.solver = (Solver<Object>) solver;
+    }
+
+    // The input of the day at the scale selected by the parameters of the benchmark.
+    protected abstract ByteBuffer input(ByteBuffer input);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = input(solver.input());
+        model = solver.parse(input.duplicate());
+    }
+
+    @Benchmark
+    public Object parse() {
+        return solver.parse(input.duplicate());
+    }
+
+    @Benchmark
+    public Object part1() {
+        return solver.part1(model);
+    }
+
+    @Benchmark
+    public Object part2() {
+        return solver.part2(model);
+    }
+
+}
@@ -0,0 +1,90 @@
+package git.goossensmichael.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures the cold start of a run of a single day, a new JVM per run. Compares the JVM without class data sharing,
+ * with only the archive of the JDK and with the archive that {@code mvn -P cds package} trains for the solvers.
+ *
+ * <p>Arguments are the jar of the solvers, the options {@code --archive=<file>} (adventofcode.jsa next to the jar by
+ * default) and {@code --runs=<runs>}, and the day to run, day 1 by default.
+ */
+public class StartupBenchmark {
+
+    private static final int RUNS = 20;
+
+    private record Configuration(String name, List<String> options) {}
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        Path jar = null;
+        Path archive = null;
+        int runs = RUNS;
+        String day = "1";
+        for (final String arg : args) {
+            if (arg.startsWith("--archive=")) {
+                archive = Path.of(arg.substring(10));
+            } else if (arg.startsWith("--runs=")) {
+                runs = Integer.parseInt(arg.substring(7));
+            } else if (jar == null) {
+                jar = Path.of(arg);
+            } else {
+                day = arg;
+            }
+        }
+        if (jar == null) {
+            System.out.println("Usage: StartupBenchmark <jar> [--archive=<file>] [--runs=<runs>] [day]");
+            return;
+        }
+        if (archive == null) {
+            archive = jar.resolveSibling("adventofcode.jsa");
+        }
+
+        final List<Configuration> configurations = new ArrayList<>();
+        configurations.add(new Configuration("no CDS", List.of("-Xshare:off")));
+        configurations.add(new Configuration("JDK CDS", List.of()));
+        if (Files.exists(archive)) {
+            configurations.add(new Configuration("AppCDS", List.of("-XX:SharedArchiveFile=" + archive, "-Xshare:on")));
+        } else {
+            System.out.println("No archive at " + archive + ", build it with mvn -P cds package.");
+        }
+
+        System.out.println("Config  |     min ms |  median ms |    mean ms");
+        for (final Configuration configuration : configurations) {
+            // The first run warms up the file system cache, it is not measured.
+            run(jar, configuration, day);
+            final long[] nanos = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                nanos[i] = run(jar, configuration, day);
+            }
+            Arrays.sort(nanos);
+
+            System.out.printf("%-7s | %10.1f | %10.1f | %10.1f%n", configuration.name(),
+                    nanos[0] / 1e6, nanos[runs / 2] / 1e6, Arrays.stream(nanos).average().orElse(0) / 1e6);
+        }
+    }
+
+    private static long run(final Path jar, final Configuration configuration, final String day)
+            throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(configuration.options());
+        command.addAll(List.of("-cp", jar.toString(), "git.goossensmichael.Runner", day));
+
+        final long start = System.nanoTime();
+        final Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException(configuration.name() + " run failed with exit code " + process.exitValue());
+        }
+
+        return System.nanoTime() - start;
+    }
+
+}
@@ -0,0 +1,12 @@
+#!/bin/sh
+# Runs the packaged solvers, e.g. ./run.sh 20 --cpu=2. Starts from the class data sharing archive that
+# "mvn -P cds package" trains when it exists.
+target="$(dirname "$0")/target"
+jar="$target/adventofcode-1.0-SNAPSHOT.jar"
+archive="$target/adventofcode.jsa"
+java="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+if [ -f "$archive" ]; then
+    exec "$java" -XX:SharedArchiveFile="$archive" -cp "$jar" git.goossensmichael.Runner "$@"
+fi
+exec "$java" -cp "$jar" git.goossensmichael.Runner "$@"
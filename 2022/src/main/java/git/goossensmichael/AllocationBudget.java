@@ -0,0 +1,24 @@
+package git.goossensmichael;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The bytes every phase of a solver may allocate per byte of its input, checked by {@link AllocationHarness}. Once a
+ * hot path no longer allocates, lowering its budget keeps it that way. Phases without a budget are only measured.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AllocationBudget {
+
+    double NONE = -1;
+
+    double parse() default NONE;
+
+    double part1() default NONE;
+
+    double part2() default NONE;
+
+}
@@ -0,0 +1,113 @@
+package git.goossensmichael;
+
+import git.goossensmichael.utils.OffHeapGrid;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the bytes every phase of a day allocates and fails when a phase allocates more than the
+ * {@link AllocationBudget} of its solver allows. Every phase runs a few times before it is measured, so the measured
+ * run sees the code as the JIT compiler left it. Solvers run on the calling thread, allocations of other threads are
+ * not seen. The direct buffers of {@link OffHeapGrid} count as allocated too, the allocation counter of the thread only
+ * sees the heap. Runs in {@code mvn verify}, skip it with {@code -Dalloc.skip}.
+ *
+ * <p>Arguments are the days to check, all days with a budget when none are given, and the option
+ * {@code --warmups=<runs>}. Exits with status 1 when a phase is over its budget.
+ */
+public class AllocationHarness {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final int WARMUPS = 5;
+
+    record Measurement(int day, String phase, long allocatedBytes, int inputBytes, double budget) {
+
+        double bytesPerInputByte() {
+            return (double) allocatedBytes / inputBytes;
+        }
+
+        boolean isOverBudget() {
+            return budget != AllocationBudget.NONE && bytesPerInputByte() > budget;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Day %2d | %-6s | %14d | %12.2f | %12s | %s",
+                    day, phase, allocatedBytes, bytesPerInputByte(),
+                    budget == AllocationBudget.NONE ? "-" : String.format("%.2f", budget),
+                    budget == AllocationBudget.NONE ? "" : isOverBudget() ? "OVER" : "ok");
+        }
+    }
+
+    public static void main(final String[] args) {
+        final List<String> dayArguments = new ArrayList<>();
+        int warmups = WARMUPS;
+        for (final String arg : args) {
+            if (arg.startsWith("--warmups=")) {
+                warmups = Integer.parseInt(arg.substring(10));
+            } else {
+                dayArguments.add(arg);
+            }
+        }
+        final Set<Integer> days = dayArguments.stream().map(Integer::parseInt).collect(Collectors.toSet());
+
+        final List<Solver<?>> solvers = SolverHarness.solvers().stream()
+                .filter(solver -> days.isEmpty() ? solver.getClass().isAnnotationPresent(AllocationBudget.class)
+                        : days.contains(solver.day()))
+                .toList();
+
+        System.out.println("Day    | phase  |      allocated | bytes / byte |       budget |");
+        int overBudget = 0;
+        for (final Solver<?> solver : solvers) {
+            for (final Measurement measurement : measure(solver, warmups)) {
+                System.out.println(measurement);
+                if (measurement.isOverBudget()) {
+                    overBudget++;
+                }
+            }
+        }
+
+        if (overBudget > 0) {
+            System.out.printf("%d phase(s) over their allocation budget%n", overBudget);
+            System.exit(1);
+        }
+    }
+
+    public static <I> List<Measurement> measure(final Solver<I> solver, final int warmups) {
+        final ByteBuffer input = solver.input();
+        final AllocationBudget budget = solver.getClass().getAnnotation(AllocationBudget.class);
+        final I model = solver.parse(input.duplicate());
+
+        return List.of(
+                measure(solver, "parse", input, () -> solver.parse(input.duplicate()),
+                        budget == null ? AllocationBudget.NONE : budget.parse(), warmups),
+                measure(solver, "part 1", input, () -> solver.part1(model),
+                        budget == null ? AllocationBudget.NONE : budget.part1(), warmups),
+                measure(solver, "part 2", input, () -> solver.part2(model),
+                        budget == null ? AllocationBudget.NONE : budget.part2(), warmups)
+        );
+    }
+
+    private static Measurement measure(final Solver<?> solver, final String phase, final ByteBuffer input,
+                                       final Supplier<?> run, final double budget, final int warmups) {
+        for (int i = 0; i < warmups; i++) {
+            run.get();
+        }
+
+        // The off-heap count is read first, so initialising its classes is not charged to the phase.
+        final long offHeapStart = OffHeapGrid.allocatedBytes();
+        final long start = THREADS.getCurrentThreadAllocatedBytes();
+        run.get();
+        final long allocatedBytes = THREADS.getCurrentThreadAllocatedBytes() - start
+                + OffHeapGrid.allocatedBytes() - offHeapStart;
+
+        return new Measurement(solver.day(), phase, allocatedBytes, input.remaining(), budget);
+    }
+
+}
@@ -0,0 +1,130 @@
+package git.goossensmichael;
+
+import git.goossensmichael.utils.Inputs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Solves every input in a directory with the solver of a single day, e.g. to check a corpus of inputs against earlier
+ * answers. Inputs are solved concurrently on a work stealing pool while the results are written in the order of the
+ * file names, each as soon as all results before it are written. Only a limited amount of inputs is parsed at the same
+ * time, so the parsed models of a large corpus never all live on the heap at once.
+ *
+ * <p>Arguments are the day, the directory of inputs and the options {@code --parallelism=<threads>} (the amount of
+ * available processors by default) and {@code --max-parsed=<inputs>} (twice the parallelism by default).
+ */
+public class Batch {
+
+    record Result(Path file, SolverHarness.Report report, Throwable failure) {
+
+        @Override
+        public String toString() {
+            if (failure != null) {
+                return String.format("%s | failed: %s", file.getFileName(), failure);
+            }
+
+            return String.format("%s | %10.3f | %10.3f | %10.3f | %s | %s",
+                    file.getFileName(), report.parseNanos() / 1e6, report.part1Nanos() / 1e6,
+                    report.part2Nanos() / 1e6, report.part1(), report.part2());
+        }
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final List<String> arguments = new ArrayList<>();
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        Integer maxParsed = null;
+        for (final String arg : args) {
+            if (arg.startsWith("--parallelism=")) {
+                parallelism = Integer.parseInt(arg.substring(14));
+            } else if (arg.startsWith("--max-parsed=")) {
+                maxParsed = Integer.parseInt(arg.substring(13));
+            } else {
+                arguments.add(arg);
+            }
+        }
+        if (arguments.size() != 2) {
+            System.out.println("Usage: Batch <day> <directory> [--parallelism=<threads>] [--max-parsed=<inputs>]");
+            return;
+        }
+
+        final int day = Integer.parseInt(arguments.get(0));
+        final Solver<?> solver = SolverHarness.solvers().stream()
+                .filter(s -> s.day() == day)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No solver for day " + day));
+
+        final List<Path> files;
+        try (Stream<Path> directory = Files.list(Path.of(arguments.get(1)))) {
+            files = directory.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        final long start = System.nanoTime();
+        final int failures = solve(solver, files, parallelism, maxParsed == null ? 2 * parallelism : maxParsed);
+        final long wallNanos = System.nanoTime() - start;
+
+        System.out.printf("Total | %d inputs | %d failed | wall %.3f ms | %.1f inputs/s%n",
+                files.size(), failures, wallNanos / 1e6, files.size() / (wallNanos / 1e9));
+    }
+
+    // Writes the result of every file to the standard output in order and returns the amount of failed inputs.
+    public static int solve(final Solver<?> solver, final List<Path> files, final int parallelism, final int maxParsed)
+            throws InterruptedException {
+        final ExecutorService pool = Executors.newWorkStealingPool(parallelism);
+        final Semaphore parsed = new Semaphore(maxParsed);
+        final List<Future<Result>> results = new ArrayList<>(files.size());
+
+        System.out.println("Input | parse ms | part 1 ms | part 2 ms | part 1 | part 2");
+        int written = 0;
+        int failures = 0;
+        for (final Path file : files) {
+            // A permit is held from before the input is mapped until both parts are solved.
+            parsed.acquire();
+            results.add(pool.submit(() -> {
+                try {
+                    return solve(solver, file);
+                } finally {
+                    parsed.release();
+                }
+            }));
+
+            while (written < results.size() && results.get(written).isDone()) {
+                failures += write(results.get(written++));
+            }
+        }
+        while (written < results.size()) {
+            failures += write(results.get(written++));
+        }
+        pool.shutdown();
+
+        return failures;
+    }
+
+    private static Result solve(final Solver<?> solver, final Path file) {
+        try {
+            return new Result(file, SolverHarness.run(solver, Inputs.map(file)), null);
+        } catch (final RuntimeException | StackOverflowError e) {
+            return new Result(file, null, e);
+        }
+    }
+
+    private static int write(final Future<Result> future) throws InterruptedException {
+        try {
+            final Result result = future.get();
+            System.out.println(result);
+            return result.failure() == null ? 0 : 1;
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,179 @@
+package git.goossensmichael;
+
+import git.goossensmichael.utils.Inputs;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the solvers in a running JVM, so repeated requests neither pay for the start of a JVM nor for warming up the
+ * JIT compiler again. Requests come in over a Unix domain socket, every connection is served on its own virtual
+ * thread. Parsed inputs are kept as long as their file does not change, so a request only runs the part itself.
+ *
+ * <p>A request is a line {@code <day> <part> [<input file>]}, the input of the day when no file is given. It is
+ * answered with a line {@code ok <answer>} or {@code error <message>}, new lines in the answer are sent as
+ * {@code \n}. The line {@code stop} stops the daemon. E.g. {@code echo "20 1" | nc -U /tmp/adventofcode.sock}.
+ *
+ * <p>Arguments are the option {@code --socket=<file>}, adventofcode.sock in the temporary directory by default.
+ */
+public class Daemon {
+
+    private static final int PARSED_INPUTS = 64;
+
+    private final Map<Integer, Solver<?>> solvers = SolverHarness.solvers().stream()
+            .collect(Collectors.toMap(Solver::day, Function.identity()));
+
+    // The most recently used parsed inputs. A parse runs once, concurrent requests for the same input wait for it.
+    private final Map<ParsedInput, FutureTask<Object>> parsedInputs = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<ParsedInput, FutureTask<Object>> eldest) {
+            return size() > PARSED_INPUTS;
+        }
+    };
+
+    // A changed input file has another size or modification time, so it is parsed again.
+    private record ParsedInput(int day, Path file, long size, long lastModified) {}
+
+    private final Path socket;
+    private ServerSocketChannel server;
+
+    public Daemon(final Path socket) {
+        this.socket = socket;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        Path socket = Path.of(System.getProperty("java.io.tmpdir"), "adventofcode.sock");
+        for (final String arg : args) {
+            if (arg.startsWith("--socket=")) {
+                socket = Path.of(arg.substring(9));
+            }
+        }
+
+        new Daemon(socket).serve();
+    }
+
+    public void serve() throws IOException {
+        Files.deleteIfExists(socket);
+        try (ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server = channel;
+            channel.bind(UnixDomainSocketAddress.of(socket));
+            System.out.println("Listening on " + socket);
+
+            final ExecutorService connections = Runner.dayExecutor();
+            while (true) {
+                final SocketChannel client;
+                try {
+                    client = channel.accept();
+                } catch (final ClosedChannelException e) {
+                    break;
+                }
+                connections.submit(() -> handle(client));
+            }
+            connections.shutdownNow();
+        } finally {
+            Files.deleteIfExists(socket);
+        }
+    }
+
+    public void stop() throws IOException {
+        server.close();
+    }
+
+    private Void handle(final SocketChannel client) throws IOException {
+        try (client;
+             BufferedReader in = new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(Channels.newWriter(client, StandardCharsets.UTF_8))) {
+            String request;
+            while ((request = in.readLine()) != null) {
+                if (request.isBlank()) {
+                    continue;
+                }
+                if (request.strip().equals("stop")) {
+                    out.println("ok stopping");
+                    out.flush();
+                    stop();
+                    break;
+                }
+
+                String response;
+                try {
+                    response = "ok " + answer(request.strip().split("\\s+", 3));
+                } catch (final Exception e) {
+                    response = "error " + e;
+                }
+                out.println(response.replace("\n", "\\n"));
+                out.flush();
+            }
+        }
+
+        return null;
+    }
+
+    private Object answer(final String[] request) throws Exception {
+        if (request.length < 2) {
+            throw new IllegalArgumentException("Expected <day> <part> [<input file>]");
+        }
+        final int day = Integer.parseInt(request[0]);
+        final int part = Integer.parseInt(request[1]);
+        @SuppressWarnings("unchecked")
+        final Solver<Object> solver = (Solver<Object>) solvers.get(day);
+        if (solver == null) {
+            throw new IllegalArgumentException("No solver for day " + day);
+        }
+
+        final Object model = parsed(solver, request.length > 2 ? Path.of(request[2]) : null);
+        return switch (part) {
+            case 1 -> solver.part1(model);
+            case 2 -> solver.part2(model);
+            default -> throw new IllegalArgumentException("No part " + part);
+        };
+    }
+
+    private Object parsed(final Solver<Object> solver, final Path file) throws Exception {
+        final ParsedInput key = file == null
+                ? new ParsedInput(solver.day(), null, 0, 0)
+                : new ParsedInput(solver.day(), file.toAbsolutePath(), Files.size(file), Files.getLastModifiedTime(file).toMillis());
+
+        final FutureTask<Object> parse;
+        final boolean first;
+        synchronized (parsedInputs) {
+            final FutureTask<Object> existing = parsedInputs.get(key);
+            first = existing == null;
+            parse = first ? new FutureTask<>(() -> solver.parse(file == null ? solver.input() : Inputs.map(file))) : existing;
+            if (first) {
+                parsedInputs.put(key, parse);
+            }
+        }
+        if (first) {
+            parse.run();
+        }
+
+        try {
+            return parse.get();
+        } catch (final ExecutionException e) {
+            // A failed parse is not kept, a next request tries again.
+            synchronized (parsedInputs) {
+                parsedInputs.remove(key, parse);
+            }
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+}
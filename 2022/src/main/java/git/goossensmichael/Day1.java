@@ -1,2284 +1,58 @@
 package git.goossensmichael;
 
+import git.goossensmichael.utils.FastScanner;
+
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.stream.IntStream;
+
+@SolverVersion(1)
+@AllocationBudget(parse = 0.5, part1 = 1.5, part2 = 1.5)
+public class Day1 implements Solver<int[]> {
 
-public class Day1 {
     public static void main(String[] args) {
-        {
-            final int total = Arrays.stream(INPUT.split("\n\n"))
-                    .map(elf -> Arrays.stream(elf.split("\n"))
-                            .mapToInt(Integer::parseInt)
-                            .sum())
-                    .sorted(Comparator.reverseOrder())
-                    .mapToInt(Integer::intValue)
-                    .limit(1)
-                    .sum();
+        final Day1 solver = new Day1();
+        final int[] elves = solver.parse(solver.input());
 
-            System.out.println(total);
-        }
+        System.out.println(solver.part1(elves));
+        System.out.println(solver.part2(elves));
+    }
 
-        {
-            final int total = Arrays.stream(INPUT.split("\n\n"))
-                    .map(elf -> Arrays.stream(elf.split("\n"))
-                            .mapToInt(Integer::parseInt)
-                            .sum())
-                    .sorted(Comparator.reverseOrder())
-                    .mapToInt(Integer::intValue)
-                    .limit(3)
-                    .sum();
+    // Total amount of calories carried by each elf.
+    @Override
+    public int[] parse(final ByteBuffer input) {
+        final FastScanner scanner = new FastScanner(input);
+        final IntStream.Builder elves = IntStream.builder();
 
-            System.out.println(total);
+        while (scanner.nextRecord()) {
+            int calories = 0;
+            while (!scanner.atEndOfLine()) {
+                calories += scanner.nextInt();
+                scanner.nextLine();
+            }
+            elves.add(calories);
         }
 
+        return elves.build().toArray();
     }
 
-    private final static String INPUT = "7844\n" +
-            "1892\n" +
-            "10928\n" +
-            "4800\n" +
-            "9730\n" +
-            "3485\n" +
-            "7293\n" +
-            "\n" +
-            "11956\n" +
-            "2767\n" +
-            "12893\n" +
-            "2757\n" +
-            "3026\n" +
-            "9979\n" +
-            "\n" +
-            "4507\n" +
-            "4199\n" +
-            "2855\n" +
-            "1792\n" +
-            "2041\n" +
-            "4162\n" +
-            "3855\n" +
-            "2650\n" +
-            "2165\n" +
-            "5464\n" +
-            "2125\n" +
-            "4979\n" +
-            "4878\n" +
-            "6301\n" +
-            "\n" +
-            "2546\n" +
-            "3750\n" +
-            "1192\n" +
-            "4692\n" +
-            "6809\n" +
-            "2808\n" +
-            "6505\n" +
-            "2811\n" +
-            "6448\n" +
-            "4270\n" +
-            "2919\n" +
-            "1297\n" +
-            "1678\n" +
-            "\n" +
-            "2006\n" +
-            "6163\n" +
-            "5949\n" +
-            "2074\n" +
-            "5917\n" +
-            "5796\n" +
-            "3456\n" +
-            "1161\n" +
-            "6843\n" +
-            "3988\n" +
-            "4064\n" +
-            "5591\n" +
-            "\n" +
-            "17062\n" +
-            "14531\n" +
-            "5297\n" +
-            "\n" +
-            "16033\n" +
-            "18054\n" +
-            "25935\n" +
-            "\n" +
-            "3621\n" +
-            "3121\n" +
-            "5884\n" +
-            "5199\n" +
-            "4584\n" +
-            "4796\n" +
-            "1325\n" +
-            "3374\n" +
-            "5789\n" +
-            "2545\n" +
-            "5842\n" +
-            "1760\n" +
-            "5766\n" +
-            "1882\n" +
-            "3084\n" +
-            "\n" +
-            "10364\n" +
-            "1136\n" +
-            "2256\n" +
-            "5654\n" +
-            "7065\n" +
-            "5990\n" +
-            "3621\n" +
-            "8063\n" +
-            "\n" +
-            "4334\n" +
-            "1865\n" +
-            "4485\n" +
-            "4741\n" +
-            "2591\n" +
-            "2594\n" +
-            "2991\n" +
-            "3928\n" +
-            "5849\n" +
-            "6864\n" +
-            "4932\n" +
-            "\n" +
-            "6627\n" +
-            "8318\n" +
-            "11410\n" +
-            "18778\n" +
-            "\n" +
-            "14870\n" +
-            "13264\n" +
-            "8777\n" +
-            "2567\n" +
-            "15388\n" +
-            "\n" +
-            "11837\n" +
-            "11042\n" +
-            "12115\n" +
-            "11169\n" +
-            "8021\n" +
-            "4206\n" +
-            "8637\n" +
-            "\n" +
-            "2955\n" +
-            "2115\n" +
-            "2292\n" +
-            "2759\n" +
-            "6464\n" +
-            "2843\n" +
-            "3817\n" +
-            "1628\n" +
-            "6486\n" +
-            "2499\n" +
-            "3935\n" +
-            "4944\n" +
-            "1427\n" +
-            "4870\n" +
-            "\n" +
-            "14800\n" +
-            "13942\n" +
-            "2563\n" +
-            "18543\n" +
-            "\n" +
-            "8415\n" +
-            "5943\n" +
-            "6117\n" +
-            "3863\n" +
-            "7123\n" +
-            "8666\n" +
-            "9834\n" +
-            "7437\n" +
-            "\n" +
-            "12318\n" +
-            "5577\n" +
-            "8108\n" +
-            "11695\n" +
-            "2720\n" +
-            "3413\n" +
-            "\n" +
-            "4765\n" +
-            "2805\n" +
-            "2850\n" +
-            "5241\n" +
-            "3910\n" +
-            "4837\n" +
-            "5770\n" +
-            "4998\n" +
-            "3358\n" +
-            "5141\n" +
-            "1052\n" +
-            "2281\n" +
-            "4405\n" +
-            "1714\n" +
-            "\n" +
-            "7984\n" +
-            "4685\n" +
-            "12922\n" +
-            "11579\n" +
-            "4278\n" +
-            "\n" +
-            "14877\n" +
-            "4676\n" +
-            "4571\n" +
-            "9279\n" +
-            "11337\n" +
-            "\n" +
-            "1782\n" +
-            "3009\n" +
-            "14712\n" +
-            "\n" +
-            "5936\n" +
-            "5243\n" +
-            "3849\n" +
-            "1001\n" +
-            "10728\n" +
-            "3847\n" +
-            "9986\n" +
-            "\n" +
-            "1531\n" +
-            "3707\n" +
-            "3599\n" +
-            "5533\n" +
-            "4025\n" +
-            "4651\n" +
-            "3934\n" +
-            "4205\n" +
-            "2481\n" +
-            "3462\n" +
-            "1672\n" +
-            "1806\n" +
-            "3833\n" +
-            "4072\n" +
-            "1497\n" +
-            "\n" +
-            "16920\n" +
-            "25420\n" +
-            "17042\n" +
-            "\n" +
-            "43927\n" +
-            "\n" +
-            "8193\n" +
-            "3107\n" +
-            "2831\n" +
-            "4122\n" +
-            "16336\n" +
-            "\n" +
-            "7507\n" +
-            "1665\n" +
-            "8553\n" +
-            "3231\n" +
-            "2528\n" +
-            "1046\n" +
-            "3491\n" +
-            "4631\n" +
-            "3574\n" +
-            "\n" +
-            "35988\n" +
-            "29345\n" +
-            "\n" +
-            "3520\n" +
-            "4006\n" +
-            "6327\n" +
-            "1658\n" +
-            "4714\n" +
-            "1123\n" +
-            "1938\n" +
-            "3667\n" +
-            "3807\n" +
-            "1824\n" +
-            "4808\n" +
-            "4586\n" +
-            "3275\n" +
-            "4548\n" +
-            "\n" +
-            "9989\n" +
-            "32096\n" +
-            "\n" +
-            "52470\n" +
-            "\n" +
-            "1188\n" +
-            "7694\n" +
-            "7875\n" +
-            "6114\n" +
-            "6189\n" +
-            "4343\n" +
-            "6974\n" +
-            "4812\n" +
-            "1776\n" +
-            "4794\n" +
-            "8065\n" +
-            "\n" +
-            "2364\n" +
-            "4111\n" +
-            "3663\n" +
-            "4182\n" +
-            "3667\n" +
-            "5440\n" +
-            "5482\n" +
-            "2657\n" +
-            "3931\n" +
-            "5871\n" +
-            "5403\n" +
-            "5956\n" +
-            "2659\n" +
-            "2320\n" +
-            "\n" +
-            "10249\n" +
-            "13770\n" +
-            "\n" +
-            "6331\n" +
-            "7262\n" +
-            "1498\n" +
-            "1329\n" +
-            "8943\n" +
-            "1563\n" +
-            "8197\n" +
-            "6898\n" +
-            "2300\n" +
-            "\n" +
-            "5116\n" +
-            "5930\n" +
-            "8363\n" +
-            "8908\n" +
-            "6063\n" +
-            "8325\n" +
-            "1070\n" +
-            "\n" +
-            "7829\n" +
-            "8877\n" +
-            "5631\n" +
-            "6100\n" +
-            "1007\n" +
-            "4754\n" +
-            "7353\n" +
-            "8363\n" +
-            "\n" +
-            "13160\n" +
-            "16304\n" +
-            "6155\n" +
-            "15418\n" +
-            "\n" +
-            "18068\n" +
-            "24378\n" +
-            "16529\n" +
-            "\n" +
-            "8216\n" +
-            "1918\n" +
-            "3305\n" +
-            "7698\n" +
-            "5936\n" +
-            "2012\n" +
-            "2053\n" +
-            "3575\n" +
-            "5705\n" +
-            "\n" +
-            "5372\n" +
-            "3627\n" +
-            "2860\n" +
-            "3742\n" +
-            "4117\n" +
-            "5514\n" +
-            "2590\n" +
-            "4503\n" +
-            "2494\n" +
-            "4418\n" +
-            "1908\n" +
-            "4109\n" +
-            "5255\n" +
-            "5749\n" +
-            "5061\n" +
-            "\n" +
-            "14547\n" +
-            "31905\n" +
-            "\n" +
-            "4691\n" +
-            "4268\n" +
-            "3887\n" +
-            "4136\n" +
-            "5724\n" +
-            "4507\n" +
-            "2298\n" +
-            "6660\n" +
-            "5243\n" +
-            "4719\n" +
-            "5145\n" +
-            "2949\n" +
-            "1460\n" +
-            "\n" +
-            "6324\n" +
-            "1211\n" +
-            "2329\n" +
-            "4872\n" +
-            "5530\n" +
-            "1645\n" +
-            "2989\n" +
-            "3687\n" +
-            "3925\n" +
-            "2578\n" +
-            "1153\n" +
-            "4364\n" +
-            "\n" +
-            "1864\n" +
-            "8160\n" +
-            "9219\n" +
-            "6479\n" +
-            "1098\n" +
-            "9364\n" +
-            "7442\n" +
-            "9665\n" +
-            "1522\n" +
-            "\n" +
-            "3185\n" +
-            "3657\n" +
-            "5730\n" +
-            "7979\n" +
-            "8956\n" +
-            "2138\n" +
-            "8288\n" +
-            "3524\n" +
-            "7910\n" +
-            "\n" +
-            "20487\n" +
-            "\n" +
-            "4948\n" +
-            "4419\n" +
-            "3363\n" +
-            "6742\n" +
-            "1536\n" +
-            "3809\n" +
-            "4289\n" +
-            "1861\n" +
-            "2490\n" +
-            "4842\n" +
-            "1005\n" +
-            "2083\n" +
-            "3115\n" +
-            "\n" +
-            "5872\n" +
-            "2895\n" +
-            "2163\n" +
-            "6140\n" +
-            "4962\n" +
-            "1566\n" +
-            "1502\n" +
-            "6407\n" +
-            "6241\n" +
-            "7154\n" +
-            "\n" +
-            "8910\n" +
-            "5483\n" +
-            "10358\n" +
-            "10448\n" +
-            "5912\n" +
-            "9133\n" +
-            "1919\n" +
-            "5768\n" +
-            "\n" +
-            "7887\n" +
-            "1592\n" +
-            "3503\n" +
-            "6182\n" +
-            "10088\n" +
-            "12143\n" +
-            "\n" +
-            "3897\n" +
-            "4813\n" +
-            "2087\n" +
-            "2953\n" +
-            "5308\n" +
-            "1587\n" +
-            "7320\n" +
-            "4947\n" +
-            "1366\n" +
-            "6723\n" +
-            "2720\n" +
-            "\n" +
-            "16484\n" +
-            "15947\n" +
-            "2582\n" +
-            "11421\n" +
-            "\n" +
-            "2457\n" +
-            "1498\n" +
-            "4113\n" +
-            "5639\n" +
-            "3930\n" +
-            "4950\n" +
-            "4130\n" +
-            "5475\n" +
-            "6156\n" +
-            "4966\n" +
-            "1322\n" +
-            "5749\n" +
-            "5892\n" +
-            "2257\n" +
-            "\n" +
-            "24070\n" +
-            "\n" +
-            "2634\n" +
-            "2784\n" +
-            "5289\n" +
-            "1472\n" +
-            "5770\n" +
-            "4442\n" +
-            "1733\n" +
-            "2003\n" +
-            "2281\n" +
-            "4283\n" +
-            "4183\n" +
-            "3183\n" +
-            "5405\n" +
-            "5055\n" +
-            "4089\n" +
-            "\n" +
-            "6167\n" +
-            "5650\n" +
-            "6531\n" +
-            "8255\n" +
-            "11103\n" +
-            "12421\n" +
-            "\n" +
-            "8499\n" +
-            "15327\n" +
-            "4714\n" +
-            "\n" +
-            "52582\n" +
-            "\n" +
-            "8000\n" +
-            "4408\n" +
-            "4744\n" +
-            "7665\n" +
-            "3565\n" +
-            "6676\n" +
-            "4983\n" +
-            "3282\n" +
-            "1095\n" +
-            "8269\n" +
-            "\n" +
-            "6893\n" +
-            "4008\n" +
-            "2512\n" +
-            "5249\n" +
-            "6578\n" +
-            "2231\n" +
-            "7044\n" +
-            "7903\n" +
-            "3901\n" +
-            "2480\n" +
-            "1832\n" +
-            "\n" +
-            "2278\n" +
-            "5805\n" +
-            "7783\n" +
-            "1497\n" +
-            "4503\n" +
-            "5569\n" +
-            "4260\n" +
-            "7618\n" +
-            "3310\n" +
-            "8083\n" +
-            "\n" +
-            "8025\n" +
-            "17429\n" +
-            "14782\n" +
-            "12645\n" +
-            "\n" +
-            "5914\n" +
-            "1865\n" +
-            "9622\n" +
-            "4014\n" +
-            "9577\n" +
-            "1812\n" +
-            "8287\n" +
-            "10720\n" +
-            "\n" +
-            "3848\n" +
-            "12978\n" +
-            "12735\n" +
-            "3860\n" +
-            "\n" +
-            "5562\n" +
-            "11339\n" +
-            "9051\n" +
-            "6703\n" +
-            "13290\n" +
-            "10611\n" +
-            "\n" +
-            "1232\n" +
-            "1116\n" +
-            "2620\n" +
-            "2495\n" +
-            "4198\n" +
-            "4751\n" +
-            "6099\n" +
-            "3727\n" +
-            "3111\n" +
-            "2493\n" +
-            "3780\n" +
-            "2379\n" +
-            "3042\n" +
-            "4395\n" +
-            "6100\n" +
-            "\n" +
-            "62606\n" +
-            "\n" +
-            "13357\n" +
-            "13984\n" +
-            "11428\n" +
-            "18201\n" +
-            "\n" +
-            "33875\n" +
-            "5610\n" +
-            "\n" +
-            "2504\n" +
-            "19711\n" +
-            "17021\n" +
-            "5985\n" +
-            "\n" +
-            "3759\n" +
-            "5522\n" +
-            "8815\n" +
-            "2113\n" +
-            "2333\n" +
-            "9169\n" +
-            "4805\n" +
-            "2870\n" +
-            "6419\n" +
-            "\n" +
-            "6210\n" +
-            "4186\n" +
-            "3763\n" +
-            "5633\n" +
-            "5159\n" +
-            "5116\n" +
-            "4448\n" +
-            "4570\n" +
-            "5894\n" +
-            "4045\n" +
-            "1994\n" +
-            "3044\n" +
-            "\n" +
-            "10366\n" +
-            "6706\n" +
-            "11448\n" +
-            "1927\n" +
-            "10647\n" +
-            "11786\n" +
-            "11927\n" +
-            "\n" +
-            "1350\n" +
-            "10908\n" +
-            "9325\n" +
-            "2455\n" +
-            "\n" +
-            "10527\n" +
-            "8300\n" +
-            "1312\n" +
-            "1403\n" +
-            "8155\n" +
-            "8803\n" +
-            "9663\n" +
-            "7780\n" +
-            "\n" +
-            "2118\n" +
-            "5436\n" +
-            "5909\n" +
-            "4083\n" +
-            "3714\n" +
-            "3001\n" +
-            "2226\n" +
-            "2915\n" +
-            "5627\n" +
-            "6476\n" +
-            "3578\n" +
-            "6112\n" +
-            "\n" +
-            "36649\n" +
-            "6648\n" +
-            "\n" +
-            "17271\n" +
-            "23884\n" +
-            "15032\n" +
-            "\n" +
-            "16967\n" +
-            "17931\n" +
-            "2443\n" +
-            "\n" +
-            "2520\n" +
-            "1468\n" +
-            "2779\n" +
-            "6020\n" +
-            "4477\n" +
-            "4798\n" +
-            "1894\n" +
-            "2429\n" +
-            "4645\n" +
-            "5053\n" +
-            "6478\n" +
-            "5899\n" +
-            "5824\n" +
-            "2554\n" +
-            "\n" +
-            "12614\n" +
-            "11252\n" +
-            "25055\n" +
-            "\n" +
-            "3435\n" +
-            "1317\n" +
-            "5073\n" +
-            "3082\n" +
-            "4576\n" +
-            "5006\n" +
-            "2238\n" +
-            "3055\n" +
-            "4867\n" +
-            "5079\n" +
-            "4385\n" +
-            "5723\n" +
-            "2084\n" +
-            "4307\n" +
-            "\n" +
-            "6609\n" +
-            "1556\n" +
-            "2351\n" +
-            "2301\n" +
-            "4913\n" +
-            "1820\n" +
-            "1122\n" +
-            "5398\n" +
-            "4738\n" +
-            "2377\n" +
-            "2843\n" +
-            "4704\n" +
-            "\n" +
-            "1201\n" +
-            "1092\n" +
-            "1622\n" +
-            "6094\n" +
-            "1793\n" +
-            "6521\n" +
-            "8237\n" +
-            "2848\n" +
-            "5617\n" +
-            "6585\n" +
-            "\n" +
-            "3561\n" +
-            "8072\n" +
-            "3941\n" +
-            "4432\n" +
-            "4740\n" +
-            "9292\n" +
-            "8115\n" +
-            "3586\n" +
-            "5464\n" +
-            "\n" +
-            "2926\n" +
-            "6812\n" +
-            "5551\n" +
-            "3104\n" +
-            "4369\n" +
-            "7421\n" +
-            "3774\n" +
-            "1272\n" +
-            "1492\n" +
-            "1842\n" +
-            "6058\n" +
-            "1815\n" +
-            "\n" +
-            "5555\n" +
-            "2688\n" +
-            "8859\n" +
-            "8517\n" +
-            "3338\n" +
-            "1500\n" +
-            "7276\n" +
-            "8130\n" +
-            "5984\n" +
-            "\n" +
-            "6597\n" +
-            "5544\n" +
-            "4944\n" +
-            "6402\n" +
-            "1336\n" +
-            "4243\n" +
-            "4333\n" +
-            "6374\n" +
-            "6770\n" +
-            "5346\n" +
-            "\n" +
-            "7225\n" +
-            "33323\n" +
-            "\n" +
-            "17863\n" +
-            "9174\n" +
-            "21966\n" +
-            "\n" +
-            "4835\n" +
-            "4359\n" +
-            "6074\n" +
-            "4069\n" +
-            "5984\n" +
-            "11934\n" +
-            "2577\n" +
-            "\n" +
-            "1738\n" +
-            "2317\n" +
-            "6844\n" +
-            "1672\n" +
-            "4213\n" +
-            "3930\n" +
-            "4658\n" +
-            "5785\n" +
-            "8074\n" +
-            "5695\n" +
-            "\n" +
-            "3063\n" +
-            "6287\n" +
-            "7248\n" +
-            "5656\n" +
-            "1571\n" +
-            "5468\n" +
-            "1512\n" +
-            "5555\n" +
-            "3192\n" +
-            "7892\n" +
-            "5664\n" +
-            "\n" +
-            "5819\n" +
-            "28895\n" +
-            "\n" +
-            "4407\n" +
-            "5072\n" +
-            "4733\n" +
-            "2964\n" +
-            "4073\n" +
-            "5739\n" +
-            "2423\n" +
-            "6131\n" +
-            "3999\n" +
-            "1454\n" +
-            "1221\n" +
-            "1243\n" +
-            "\n" +
-            "26391\n" +
-            "\n" +
-            "35896\n" +
-            "26888\n" +
-            "\n" +
-            "1171\n" +
-            "4136\n" +
-            "1050\n" +
-            "5788\n" +
-            "1049\n" +
-            "5686\n" +
-            "5297\n" +
-            "6035\n" +
-            "2968\n" +
-            "2274\n" +
-            "2771\n" +
-            "5596\n" +
-            "4478\n" +
-            "3401\n" +
-            "5860\n" +
-            "\n" +
-            "6699\n" +
-            "15009\n" +
-            "4368\n" +
-            "13135\n" +
-            "13609\n" +
-            "\n" +
-            "6033\n" +
-            "3972\n" +
-            "1214\n" +
-            "1549\n" +
-            "3996\n" +
-            "2251\n" +
-            "3213\n" +
-            "5217\n" +
-            "5525\n" +
-            "3656\n" +
-            "2585\n" +
-            "2710\n" +
-            "6035\n" +
-            "1903\n" +
-            "1586\n" +
-            "\n" +
-            "8651\n" +
-            "\n" +
-            "4494\n" +
-            "7096\n" +
-            "7913\n" +
-            "1024\n" +
-            "1334\n" +
-            "1353\n" +
-            "2705\n" +
-            "5405\n" +
-            "1601\n" +
-            "7386\n" +
-            "\n" +
-            "18756\n" +
-            "19801\n" +
-            "24646\n" +
-            "\n" +
-            "8490\n" +
-            "5254\n" +
-            "1932\n" +
-            "3706\n" +
-            "1980\n" +
-            "6058\n" +
-            "1961\n" +
-            "3150\n" +
-            "5200\n" +
-            "1337\n" +
-            "\n" +
-            "2846\n" +
-            "6123\n" +
-            "3274\n" +
-            "4632\n" +
-            "3068\n" +
-            "5384\n" +
-            "5842\n" +
-            "2688\n" +
-            "1307\n" +
-            "3279\n" +
-            "2424\n" +
-            "4783\n" +
-            "3932\n" +
-            "\n" +
-            "2720\n" +
-            "7808\n" +
-            "5871\n" +
-            "1416\n" +
-            "7979\n" +
-            "6594\n" +
-            "7325\n" +
-            "4214\n" +
-            "5444\n" +
-            "2132\n" +
-            "\n" +
-            "2626\n" +
-            "6949\n" +
-            "6034\n" +
-            "4887\n" +
-            "6773\n" +
-            "1111\n" +
-            "3317\n" +
-            "3388\n" +
-            "4209\n" +
-            "2809\n" +
-            "2730\n" +
-            "6578\n" +
-            "2700\n" +
-            "\n" +
-            "8995\n" +
-            "10064\n" +
-            "\n" +
-            "2134\n" +
-            "5564\n" +
-            "5889\n" +
-            "3719\n" +
-            "6357\n" +
-            "3523\n" +
-            "4600\n" +
-            "2138\n" +
-            "5976\n" +
-            "6025\n" +
-            "5689\n" +
-            "5950\n" +
-            "3745\n" +
-            "1542\n" +
-            "\n" +
-            "5545\n" +
-            "5789\n" +
-            "4295\n" +
-            "6717\n" +
-            "8612\n" +
-            "3847\n" +
-            "7911\n" +
-            "3367\n" +
-            "6867\n" +
-            "5975\n" +
-            "\n" +
-            "23119\n" +
-            "18834\n" +
-            "3134\n" +
-            "\n" +
-            "7080\n" +
-            "2729\n" +
-            "4118\n" +
-            "1407\n" +
-            "7022\n" +
-            "4796\n" +
-            "8459\n" +
-            "8530\n" +
-            "7721\n" +
-            "7333\n" +
-            "\n" +
-            "5245\n" +
-            "3739\n" +
-            "1338\n" +
-            "1245\n" +
-            "2926\n" +
-            "2695\n" +
-            "4571\n" +
-            "1492\n" +
-            "4794\n" +
-            "4380\n" +
-            "3726\n" +
-            "2225\n" +
-            "2098\n" +
-            "5942\n" +
-            "6081\n" +
-            "\n" +
-            "2192\n" +
-            "2866\n" +
-            "4690\n" +
-            "4240\n" +
-            "6512\n" +
-            "1881\n" +
-            "5789\n" +
-            "1641\n" +
-            "6017\n" +
-            "4327\n" +
-            "3688\n" +
-            "6622\n" +
-            "3555\n" +
-            "\n" +
-            "12879\n" +
-            "2468\n" +
-            "13146\n" +
-            "8534\n" +
-            "10525\n" +
-            "4590\n" +
-            "\n" +
-            "8451\n" +
-            "8697\n" +
-            "11858\n" +
-            "5657\n" +
-            "4893\n" +
-            "\n" +
-            "14019\n" +
-            "13301\n" +
-            "7206\n" +
-            "13988\n" +
-            "\n" +
-            "17234\n" +
-            "22191\n" +
-            "13894\n" +
-            "\n" +
-            "6383\n" +
-            "3682\n" +
-            "5281\n" +
-            "6335\n" +
-            "5412\n" +
-            "5474\n" +
-            "8723\n" +
-            "9536\n" +
-            "8864\n" +
-            "\n" +
-            "14888\n" +
-            "9953\n" +
-            "\n" +
-            "2464\n" +
-            "5875\n" +
-            "2484\n" +
-            "1693\n" +
-            "3441\n" +
-            "5883\n" +
-            "7835\n" +
-            "\n" +
-            "34085\n" +
-            "\n" +
-            "1997\n" +
-            "9058\n" +
-            "7144\n" +
-            "6222\n" +
-            "2930\n" +
-            "3661\n" +
-            "4107\n" +
-            "8058\n" +
-            "4938\n" +
-            "\n" +
-            "3033\n" +
-            "2420\n" +
-            "5196\n" +
-            "5152\n" +
-            "1364\n" +
-            "2192\n" +
-            "3442\n" +
-            "1149\n" +
-            "3575\n" +
-            "6916\n" +
-            "6856\n" +
-            "1995\n" +
-            "6259\n" +
-            "\n" +
-            "1331\n" +
-            "1731\n" +
-            "10757\n" +
-            "3486\n" +
-            "8823\n" +
-            "2450\n" +
-            "8018\n" +
-            "9197\n" +
-            "\n" +
-            "64329\n" +
-            "\n" +
-            "25450\n" +
-            "\n" +
-            "6652\n" +
-            "4972\n" +
-            "5085\n" +
-            "1881\n" +
-            "5555\n" +
-            "1521\n" +
-            "3723\n" +
-            "1158\n" +
-            "3260\n" +
-            "1532\n" +
-            "3131\n" +
-            "2904\n" +
-            "\n" +
-            "1088\n" +
-            "14166\n" +
-            "4490\n" +
-            "15880\n" +
-            "6439\n" +
-            "\n" +
-            "19789\n" +
-            "5274\n" +
-            "7770\n" +
-            "11329\n" +
-            "\n" +
-            "64877\n" +
-            "\n" +
-            "4256\n" +
-            "5811\n" +
-            "3538\n" +
-            "8943\n" +
-            "\n" +
-            "6164\n" +
-            "7843\n" +
-            "5400\n" +
-            "14856\n" +
-            "2882\n" +
-            "\n" +
-            "2781\n" +
-            "3829\n" +
-            "8689\n" +
-            "6347\n" +
-            "8239\n" +
-            "4232\n" +
-            "8606\n" +
-            "5770\n" +
-            "\n" +
-            "10061\n" +
-            "6576\n" +
-            "19346\n" +
-            "15720\n" +
-            "\n" +
-            "9071\n" +
-            "6842\n" +
-            "5147\n" +
-            "8570\n" +
-            "4175\n" +
-            "3801\n" +
-            "6512\n" +
-            "\n" +
-            "21045\n" +
-            "29371\n" +
-            "\n" +
-            "5646\n" +
-            "1786\n" +
-            "11347\n" +
-            "11957\n" +
-            "4226\n" +
-            "12836\n" +
-            "\n" +
-            "1786\n" +
-            "1117\n" +
-            "2905\n" +
-            "5545\n" +
-            "2759\n" +
-            "3168\n" +
-            "5993\n" +
-            "1050\n" +
-            "4096\n" +
-            "1812\n" +
-            "1036\n" +
-            "3048\n" +
-            "1602\n" +
-            "\n" +
-            "5694\n" +
-            "4123\n" +
-            "4940\n" +
-            "8115\n" +
-            "8877\n" +
-            "2063\n" +
-            "7222\n" +
-            "\n" +
-            "5281\n" +
-            "5676\n" +
-            "5429\n" +
-            "5198\n" +
-            "1480\n" +
-            "7224\n" +
-            "6453\n" +
-            "2535\n" +
-            "1894\n" +
-            "2730\n" +
-            "5489\n" +
-            "6674\n" +
-            "\n" +
-            "6091\n" +
-            "3148\n" +
-            "4124\n" +
-            "5837\n" +
-            "1575\n" +
-            "4028\n" +
-            "5943\n" +
-            "2374\n" +
-            "3307\n" +
-            "4535\n" +
-            "2008\n" +
-            "2981\n" +
-            "1251\n" +
-            "1902\n" +
-            "1689\n" +
-            "\n" +
-            "1154\n" +
-            "4931\n" +
-            "1030\n" +
-            "6793\n" +
-            "9190\n" +
-            "6920\n" +
-            "6588\n" +
-            "4759\n" +
-            "5502\n" +
-            "\n" +
-            "23727\n" +
-            "\n" +
-            "1716\n" +
-            "2529\n" +
-            "6082\n" +
-            "5333\n" +
-            "2555\n" +
-            "3710\n" +
-            "4174\n" +
-            "1747\n" +
-            "1506\n" +
-            "2434\n" +
-            "2343\n" +
-            "4019\n" +
-            "5704\n" +
-            "1253\n" +
-            "3978\n" +
-            "\n" +
-            "13129\n" +
-            "11913\n" +
-            "9504\n" +
-            "11759\n" +
-            "5353\n" +
-            "9152\n" +
-            "\n" +
-            "7685\n" +
-            "7469\n" +
-            "2376\n" +
-            "2221\n" +
-            "3446\n" +
-            "2576\n" +
-            "7992\n" +
-            "2538\n" +
-            "3572\n" +
-            "1715\n" +
-            "7268\n" +
-            "\n" +
-            "15241\n" +
-            "4735\n" +
-            "10421\n" +
-            "9976\n" +
-            "1717\n" +
-            "\n" +
-            "3460\n" +
-            "5386\n" +
-            "1806\n" +
-            "3764\n" +
-            "3019\n" +
-            "4349\n" +
-            "6319\n" +
-            "6635\n" +
-            "6608\n" +
-            "7641\n" +
-            "\n" +
-            "3249\n" +
-            "2254\n" +
-            "4624\n" +
-            "2495\n" +
-            "3325\n" +
-            "1502\n" +
-            "2347\n" +
-            "1544\n" +
-            "2806\n" +
-            "2844\n" +
-            "5702\n" +
-            "3594\n" +
-            "3448\n" +
-            "4378\n" +
-            "5474\n" +
-            "\n" +
-            "4447\n" +
-            "1251\n" +
-            "1088\n" +
-            "2070\n" +
-            "4109\n" +
-            "1029\n" +
-            "5779\n" +
-            "3795\n" +
-            "1080\n" +
-            "3589\n" +
-            "3016\n" +
-            "2793\n" +
-            "2636\n" +
-            "5946\n" +
-            "4953\n" +
-            "\n" +
-            "52518\n" +
-            "\n" +
-            "5836\n" +
-            "6177\n" +
-            "4873\n" +
-            "2860\n" +
-            "4545\n" +
-            "2793\n" +
-            "3492\n" +
-            "6810\n" +
-            "2330\n" +
-            "2067\n" +
-            "3626\n" +
-            "\n" +
-            "14370\n" +
-            "14242\n" +
-            "8644\n" +
-            "16054\n" +
-            "7313\n" +
-            "\n" +
-            "8547\n" +
-            "6827\n" +
-            "1264\n" +
-            "8991\n" +
-            "1306\n" +
-            "3829\n" +
-            "6188\n" +
-            "\n" +
-            "1566\n" +
-            "6239\n" +
-            "4931\n" +
-            "5359\n" +
-            "7314\n" +
-            "7493\n" +
-            "2898\n" +
-            "4429\n" +
-            "5609\n" +
-            "3329\n" +
-            "\n" +
-            "6747\n" +
-            "3945\n" +
-            "9283\n" +
-            "10312\n" +
-            "2925\n" +
-            "11240\n" +
-            "\n" +
-            "9133\n" +
-            "14062\n" +
-            "15257\n" +
-            "12353\n" +
-            "\n" +
-            "12534\n" +
-            "17806\n" +
-            "5580\n" +
-            "7262\n" +
-            "\n" +
-            "4311\n" +
-            "3933\n" +
-            "3798\n" +
-            "4932\n" +
-            "3040\n" +
-            "1819\n" +
-            "4434\n" +
-            "5705\n" +
-            "1293\n" +
-            "4348\n" +
-            "4241\n" +
-            "3050\n" +
-            "4471\n" +
-            "4445\n" +
-            "\n" +
-            "21451\n" +
-            "9368\n" +
-            "\n" +
-            "5252\n" +
-            "6300\n" +
-            "3548\n" +
-            "7323\n" +
-            "2328\n" +
-            "2721\n" +
-            "5001\n" +
-            "1261\n" +
-            "7357\n" +
-            "1350\n" +
-            "7024\n" +
-            "5193\n" +
-            "\n" +
-            "15832\n" +
-            "15934\n" +
-            "17497\n" +
-            "7846\n" +
-            "\n" +
-            "1647\n" +
-            "6717\n" +
-            "1323\n" +
-            "5420\n" +
-            "5063\n" +
-            "2488\n" +
-            "3298\n" +
-            "1163\n" +
-            "1205\n" +
-            "3104\n" +
-            "3644\n" +
-            "4177\n" +
-            "2730\n" +
-            "\n" +
-            "6851\n" +
-            "4735\n" +
-            "2851\n" +
-            "7015\n" +
-            "2836\n" +
-            "4052\n" +
-            "6511\n" +
-            "2413\n" +
-            "4049\n" +
-            "6620\n" +
-            "1205\n" +
-            "3131\n" +
-            "\n" +
-            "8028\n" +
-            "6431\n" +
-            "8863\n" +
-            "\n" +
-            "3411\n" +
-            "3434\n" +
-            "1509\n" +
-            "4907\n" +
-            "5244\n" +
-            "2022\n" +
-            "5347\n" +
-            "2648\n" +
-            "5479\n" +
-            "1668\n" +
-            "3461\n" +
-            "1380\n" +
-            "2991\n" +
-            "4789\n" +
-            "1003\n" +
-            "\n" +
-            "3584\n" +
-            "3947\n" +
-            "2670\n" +
-            "2718\n" +
-            "7380\n" +
-            "1243\n" +
-            "2124\n" +
-            "2825\n" +
-            "5907\n" +
-            "7608\n" +
-            "4592\n" +
-            "\n" +
-            "7236\n" +
-            "3836\n" +
-            "2137\n" +
-            "1824\n" +
-            "3283\n" +
-            "4702\n" +
-            "6791\n" +
-            "6370\n" +
-            "4781\n" +
-            "1647\n" +
-            "5176\n" +
-            "6373\n" +
-            "\n" +
-            "2526\n" +
-            "5660\n" +
-            "5065\n" +
-            "1103\n" +
-            "5031\n" +
-            "1394\n" +
-            "1948\n" +
-            "2812\n" +
-            "1240\n" +
-            "4727\n" +
-            "5359\n" +
-            "3119\n" +
-            "2511\n" +
-            "2913\n" +
-            "2763\n" +
-            "\n" +
-            "25820\n" +
-            "24769\n" +
-            "\n" +
-            "2645\n" +
-            "1917\n" +
-            "5280\n" +
-            "1864\n" +
-            "5772\n" +
-            "2984\n" +
-            "1410\n" +
-            "3052\n" +
-            "3599\n" +
-            "2034\n" +
-            "4122\n" +
-            "3678\n" +
-            "1502\n" +
-            "1107\n" +
-            "\n" +
-            "3385\n" +
-            "2149\n" +
-            "2758\n" +
-            "1895\n" +
-            "6232\n" +
-            "3858\n" +
-            "6266\n" +
-            "2861\n" +
-            "6624\n" +
-            "1078\n" +
-            "6721\n" +
-            "5652\n" +
-            "\n" +
-            "6842\n" +
-            "4520\n" +
-            "4919\n" +
-            "6678\n" +
-            "3890\n" +
-            "1823\n" +
-            "6488\n" +
-            "2575\n" +
-            "5245\n" +
-            "3696\n" +
-            "4294\n" +
-            "6071\n" +
-            "5158\n" +
-            "\n" +
-            "38153\n" +
-            "\n" +
-            "4245\n" +
-            "4359\n" +
-            "6283\n" +
-            "3510\n" +
-            "2610\n" +
-            "2592\n" +
-            "4843\n" +
-            "2179\n" +
-            "1218\n" +
-            "\n" +
-            "1895\n" +
-            "3676\n" +
-            "4307\n" +
-            "1886\n" +
-            "2495\n" +
-            "2143\n" +
-            "6751\n" +
-            "6498\n" +
-            "1546\n" +
-            "4454\n" +
-            "2203\n" +
-            "6640\n" +
-            "3713\n" +
-            "\n" +
-            "6943\n" +
-            "2324\n" +
-            "3284\n" +
-            "2277\n" +
-            "1234\n" +
-            "2005\n" +
-            "1168\n" +
-            "3585\n" +
-            "1931\n" +
-            "4371\n" +
-            "5547\n" +
-            "1237\n" +
-            "6250\n" +
-            "\n" +
-            "2722\n" +
-            "6827\n" +
-            "7366\n" +
-            "7001\n" +
-            "8320\n" +
-            "8560\n" +
-            "10331\n" +
-            "\n" +
-            "7759\n" +
-            "11634\n" +
-            "4006\n" +
-            "9406\n" +
-            "12116\n" +
-            "1403\n" +
-            "10477\n" +
-            "\n" +
-            "6213\n" +
-            "6458\n" +
-            "5178\n" +
-            "9407\n" +
-            "5651\n" +
-            "5743\n" +
-            "4120\n" +
-            "\n" +
-            "9958\n" +
-            "18260\n" +
-            "9126\n" +
-            "\n" +
-            "6239\n" +
-            "3466\n" +
-            "2939\n" +
-            "4775\n" +
-            "1326\n" +
-            "6307\n" +
-            "4255\n" +
-            "2843\n" +
-            "7634\n" +
-            "5993\n" +
-            "4585\n" +
-            "\n" +
-            "6607\n" +
-            "8754\n" +
-            "9714\n" +
-            "9844\n" +
-            "12936\n" +
-            "\n" +
-            "20048\n" +
-            "24368\n" +
-            "16320\n" +
-            "\n" +
-            "6152\n" +
-            "1868\n" +
-            "2057\n" +
-            "6981\n" +
-            "6244\n" +
-            "6557\n" +
-            "2858\n" +
-            "4943\n" +
-            "2261\n" +
-            "7241\n" +
-            "6353\n" +
-            "\n" +
-            "3362\n" +
-            "1989\n" +
-            "4154\n" +
-            "6154\n" +
-            "4409\n" +
-            "5546\n" +
-            "1202\n" +
-            "6484\n" +
-            "2812\n" +
-            "4690\n" +
-            "6080\n" +
-            "2564\n" +
-            "6001\n" +
-            "1379\n" +
-            "\n" +
-            "4859\n" +
-            "7852\n" +
-            "4538\n" +
-            "1495\n" +
-            "6904\n" +
-            "7849\n" +
-            "4937\n" +
-            "2986\n" +
-            "8593\n" +
-            "4164\n" +
-            "\n" +
-            "2338\n" +
-            "1139\n" +
-            "4118\n" +
-            "2916\n" +
-            "2087\n" +
-            "2180\n" +
-            "1476\n" +
-            "1669\n" +
-            "6375\n" +
-            "2689\n" +
-            "3890\n" +
-            "6928\n" +
-            "\n" +
-            "2032\n" +
-            "2582\n" +
-            "3926\n" +
-            "2966\n" +
-            "4326\n" +
-            "1334\n" +
-            "4264\n" +
-            "1151\n" +
-            "1513\n" +
-            "3098\n" +
-            "2618\n" +
-            "4087\n" +
-            "5318\n" +
-            "5287\n" +
-            "4176\n" +
-            "\n" +
-            "2012\n" +
-            "3358\n" +
-            "12673\n" +
-            "15745\n" +
-            "13638\n" +
-            "\n" +
-            "18797\n" +
-            "6045\n" +
-            "12915\n" +
-            "\n" +
-            "10036\n" +
-            "10932\n" +
-            "11869\n" +
-            "6686\n" +
-            "2505\n" +
-            "4998\n" +
-            "2545\n" +
-            "\n" +
-            "9353\n" +
-            "24442\n" +
-            "15660\n" +
-            "\n" +
-            "1563\n" +
-            "6832\n" +
-            "6212\n" +
-            "7249\n" +
-            "5815\n" +
-            "3135\n" +
-            "4260\n" +
-            "1632\n" +
-            "1105\n" +
-            "2628\n" +
-            "1693\n" +
-            "4728\n" +
-            "\n" +
-            "5564\n" +
-            "3863\n" +
-            "2269\n" +
-            "1623\n" +
-            "3527\n" +
-            "2445\n" +
-            "4823\n" +
-            "2271\n" +
-            "1102\n" +
-            "2110\n" +
-            "3765\n" +
-            "1731\n" +
-            "4149\n" +
-            "2924\n" +
-            "3807\n" +
-            "\n" +
-            "3049\n" +
-            "8544\n" +
-            "2753\n" +
-            "1454\n" +
-            "6543\n" +
-            "2379\n" +
-            "6571\n" +
-            "3467\n" +
-            "5347\n" +
-            "\n" +
-            "4430\n" +
-            "6186\n" +
-            "8128\n" +
-            "6013\n" +
-            "8050\n" +
-            "6688\n" +
-            "5697\n" +
-            "5250\n" +
-            "3077\n" +
-            "4775\n" +
-            "\n" +
-            "5639\n" +
-            "1567\n" +
-            "4651\n" +
-            "2362\n" +
-            "1676\n" +
-            "2033\n" +
-            "2843\n" +
-            "1577\n" +
-            "5838\n" +
-            "5545\n" +
-            "5803\n" +
-            "2561\n" +
-            "1774\n" +
-            "5371\n" +
-            "4177\n" +
-            "\n" +
-            "2934\n" +
-            "4347\n" +
-            "5400\n" +
-            "1017\n" +
-            "1907\n" +
-            "5367\n" +
-            "3233\n" +
-            "3201\n" +
-            "6389\n" +
-            "3857\n" +
-            "1884\n" +
-            "2082\n" +
-            "5091\n" +
-            "1362\n" +
-            "\n" +
-            "3574\n" +
-            "1873\n" +
-            "5995\n" +
-            "3908\n" +
-            "6154\n" +
-            "5350\n" +
-            "1856\n" +
-            "5219\n" +
-            "5865\n" +
-            "4628\n" +
-            "4904\n" +
-            "1988\n" +
-            "3336\n" +
-            "3602\n" +
-            "\n" +
-            "17499\n" +
-            "8319\n" +
-            "8975\n" +
-            "\n" +
-            "4570\n" +
-            "8463\n" +
-            "8389\n" +
-            "5896\n" +
-            "6657\n" +
-            "5300\n" +
-            "2953\n" +
-            "5541\n" +
-            "3791\n" +
-            "8065\n" +
-            "\n" +
-            "2177\n" +
-            "7674\n" +
-            "10338\n" +
-            "6861\n" +
-            "7176\n" +
-            "12012\n" +
-            "5930\n" +
-            "\n" +
-            "11051\n" +
-            "4024\n" +
-            "11264\n" +
-            "7017\n" +
-            "7432\n" +
-            "3699\n" +
-            "6920\n" +
-            "\n" +
-            "5220\n" +
-            "3483\n" +
-            "7075\n" +
-            "5240\n" +
-            "2156\n" +
-            "2838\n" +
-            "7600\n" +
-            "7522\n" +
-            "3647\n" +
-            "3466\n" +
-            "1903\n" +
-            "\n" +
-            "2400\n" +
-            "6060\n" +
-            "3414\n" +
-            "1852\n" +
-            "6822\n" +
-            "5793\n" +
-            "4895\n" +
-            "2960\n" +
-            "6642\n" +
-            "1477\n" +
-            "1240\n" +
-            "3047\n" +
-            "6426\n" +
-            "\n" +
-            "11128\n" +
-            "22839\n" +
-            "20660\n" +
-            "\n" +
-            "5889\n" +
-            "3600\n" +
-            "7076\n" +
-            "4431\n" +
-            "3604\n" +
-            "4256\n" +
-            "2548\n" +
-            "5482\n" +
-            "3501\n" +
-            "5278\n" +
-            "\n" +
-            "3410\n" +
-            "3519\n" +
-            "9965\n" +
-            "12953\n" +
-            "9463\n" +
-            "6493\n" +
-            "\n" +
-            "3949\n" +
-            "5992\n" +
-            "2986\n" +
-            "2886\n" +
-            "1598\n" +
-            "3393\n" +
-            "5766\n" +
-            "3427\n" +
-            "3750\n" +
-            "2125\n" +
-            "2819\n" +
-            "2818\n" +
-            "3033\n" +
-            "5536\n" +
-            "4458\n" +
-            "\n" +
-            "9958\n" +
-            "8583\n" +
-            "3283\n" +
-            "6782\n" +
-            "10683\n" +
-            "3178\n" +
-            "4486\n" +
-            "\n" +
-            "7674\n" +
-            "1680\n" +
-            "2315\n" +
-            "7486\n" +
-            "3096\n" +
-            "4386\n" +
-            "1553\n" +
-            "3675\n" +
-            "4100\n" +
-            "7705\n" +
-            "3479\n" +
-            "\n" +
-            "6402\n" +
-            "3133\n" +
-            "3192\n" +
-            "3227\n" +
-            "2933\n" +
-            "6881\n" +
-            "3088\n" +
-            "8628\n" +
-            "2271\n" +
-            "\n" +
-            "3697\n" +
-            "4072\n" +
-            "4962\n" +
-            "6101\n" +
-            "4711\n" +
-            "2184\n" +
-            "5168\n" +
-            "3172\n" +
-            "1076\n" +
-            "4206\n" +
-            "4876\n" +
-            "6040\n" +
-            "1844\n" +
-            "2792\n" +
-            "2138\n" +
-            "\n" +
-            "5141\n" +
-            "6671\n" +
-            "7291\n" +
-            "8327\n" +
-            "9200\n" +
-            "1479\n" +
-            "2338\n" +
-            "9402\n" +
-            "4860\n" +
-            "\n" +
-            "12944\n" +
-            "3176\n" +
-            "1343\n" +
-            "\n" +
-            "8561\n" +
-            "4339\n" +
-            "4569\n" +
-            "5435\n" +
-            "4568\n" +
-            "10420\n" +
-            "6843\n" +
-            "\n" +
-            "2642\n" +
-            "11252\n" +
-            "3981\n" +
-            "7926\n" +
-            "9800\n" +
-            "\n" +
-            "6046\n" +
-            "3747\n" +
-            "3534\n" +
-            "5597\n" +
-            "1487\n" +
-            "2726\n" +
-            "3469\n" +
-            "4202\n" +
-            "5847\n" +
-            "3297\n" +
-            "6666\n" +
-            "3832\n" +
-            "\n" +
-            "10609\n" +
-            "2492\n" +
-            "1269\n" +
-            "2012\n" +
-            "5583\n" +
-            "7277\n" +
-            "4471\n" +
-            "9874\n" +
-            "\n" +
-            "4697\n" +
-            "3030\n" +
-            "3002\n" +
-            "6541\n" +
-            "1895\n" +
-            "1254\n" +
-            "2032\n" +
-            "6218\n" +
-            "2624\n" +
-            "4494\n" +
-            "3822\n" +
-            "\n" +
-            "1077\n" +
-            "5664\n" +
-            "2566\n" +
-            "2028\n" +
-            "6227\n" +
-            "5342\n" +
-            "6013\n" +
-            "5994\n" +
-            "6331\n" +
-            "5290\n" +
-            "4154\n" +
-            "1985\n" +
-            "3748\n" +
-            "3666\n" +
-            "\n" +
-            "5745\n" +
-            "1780\n" +
-            "6074\n" +
-            "5641\n" +
-            "2102\n" +
-            "5400\n" +
-            "2585\n" +
-            "6776\n" +
-            "1732\n" +
-            "6493\n" +
-            "4095\n" +
-            "2228\n" +
-            "4647\n" +
-            "\n" +
-            "5283\n" +
-            "6675\n" +
-            "6784\n" +
-            "1759\n" +
-            "6256\n" +
-            "5952\n" +
-            "2476\n" +
-            "4176\n" +
-            "3949\n" +
-            "3097\n" +
-            "5127\n" +
-            "6465\n" +
-            "2571\n" +
-            "\n" +
-            "4670\n" +
-            "5896\n" +
-            "3916\n" +
-            "8881\n" +
-            "6058\n" +
-            "10440\n" +
-            "9862\n" +
-            "10596\n" +
-            "\n" +
-            "10471\n" +
-            "7667\n" +
-            "2665\n" +
-            "10829\n" +
-            "6934\n" +
-            "2179\n" +
-            "5155\n" +
-            "\n" +
-            "3258\n" +
-            "4634\n" +
-            "6263\n" +
-            "2398\n" +
-            "6452\n" +
-            "1536\n" +
-            "3066\n" +
-            "2195\n" +
-            "3431\n" +
-            "1245\n" +
-            "2672\n" +
-            "2692\n" +
-            "1056\n" +
-            "3313\n" +
-            "\n" +
-            "7418\n" +
-            "1070\n" +
-            "2436\n" +
-            "5831\n" +
-            "4648\n" +
-            "3358\n" +
-            "2808\n" +
-            "4966\n" +
-            "5358\n" +
-            "3868\n" +
-            "2124\n" +
-            "\n" +
-            "4779\n" +
-            "5703\n" +
-            "3827\n" +
-            "4386\n" +
-            "6424\n" +
-            "4582\n" +
-            "4501\n" +
-            "2325\n" +
-            "1586\n" +
-            "1450\n" +
-            "5306\n" +
-            "6237\n" +
-            "1210\n" +
-            "\n" +
-            "4882\n" +
-            "4275\n" +
-            "1094\n" +
-            "3855\n" +
-            "5611\n" +
-            "5650\n" +
-            "2271\n" +
-            "1769\n" +
-            "5764\n" +
-            "5895\n" +
-            "2891\n" +
-            "2344\n" +
-            "5228\n" +
-            "6017\n" +
-            "4763\n" +
-            "\n" +
-            "20686\n" +
-            "14164\n" +
-            "24547\n" +
-            "\n" +
-            "26116\n" +
-            "2047\n" +
-            "\n" +
-            "64931\n" +
-            "\n" +
-            "11106\n" +
-            "11298\n" +
-            "3236\n" +
-            "2998\n" +
-            "3995\n" +
-            "10523\n" +
-            "\n" +
-            "1230\n" +
-            "3999\n" +
-            "2775\n" +
-            "2882\n" +
-            "4474\n" +
-            "2490\n" +
-            "5185\n" +
-            "3853\n" +
-            "6045\n" +
-            "1786\n" +
-            "3372\n" +
-            "3548\n" +
-            "2217\n" +
-            "1424\n" +
-            "\n" +
-            "4424\n" +
-            "2982\n" +
-            "3616\n" +
-            "1397\n" +
-            "4217\n" +
-            "3084\n" +
-            "2641\n" +
-            "2703\n" +
-            "1247\n" +
-            "1131\n" +
-            "3372\n" +
-            "1664\n" +
-            "1351\n" +
-            "2609\n" +
-            "4200\n" +
-            "\n" +
-            "10258\n" +
-            "1295\n" +
-            "10597\n" +
-            "5712\n" +
-            "8643\n" +
-            "7976\n" +
-            "5578\n" +
-            "2924\n" +
-            "\n" +
-            "1514\n" +
-            "8050\n" +
-            "4828\n" +
-            "8746\n" +
-            "5551\n" +
-            "8739\n" +
-            "1382\n" +
-            "8218\n" +
-            "6875\n" +
-            "6039\n" +
-            "\n" +
-            "45328\n" +
-            "\n" +
-            "18784\n" +
-            "21739\n" +
-            "\n" +
-            "2884\n" +
-            "7165\n" +
-            "8039\n" +
-            "3978\n" +
-            "6701\n" +
-            "2646\n" +
-            "6171\n" +
-            "3899\n" +
-            "2700\n" +
-            "\n" +
-            "6461\n" +
-            "4227\n" +
-            "7052\n" +
-            "1458\n" +
-            "6367\n" +
-            "4403\n" +
-            "2232\n" +
-            "7085\n" +
-            "\n" +
-            "3490\n" +
-            "4126\n" +
-            "6334\n" +
-            "2320\n" +
-            "4354\n" +
-            "5981\n" +
-            "4319\n" +
-            "2031\n" +
-            "1629\n" +
-            "\n" +
-            "5536\n" +
-            "3182\n" +
-            "6285\n" +
-            "1561\n" +
-            "1215\n" +
-            "2367\n" +
-            "5133\n" +
-            "2720\n" +
-            "3062\n" +
-            "6456\n" +
-            "6160\n" +
-            "3248\n" +
-            "5430\n" +
-            "3354\n" +
-            "\n" +
-            "2124\n" +
-            "7143\n" +
-            "6779\n" +
-            "2022\n" +
-            "2034\n" +
-            "9093\n" +
-            "4122\n" +
-            "1303\n" +
-            "5054";
+    @Override
+    public Object part1(final int[] elves) {
+        return mostCalories(elves, 1);
+    }
+
+    @Override
+    public Object part2(final int[] elves) {
+        return mostCalories(elves, 3);
+    }
+
+    private static int mostCalories(final int[] elves, final int amountOfElves) {
+        return Arrays.stream(elves)
+                .boxed()
+                .sorted(Comparator.reverseOrder())
+                .mapToInt(Integer::intValue)
+                .limit(amountOfElves)
+                .sum();
+    }
 }
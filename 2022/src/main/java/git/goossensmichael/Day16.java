@@ -1,8 +1,18 @@
 package git.goossensmichael;
 
+import git.goossensmichael.utils.ByteScan;
+import git.goossensmichael.utils.Inputs;
+import git.goossensmichael.utils.LongMemoCache;
+import git.goossensmichael.utils.ModelReader;
+import git.goossensmichael.utils.ModelWriter;
+import git.goossensmichael.utils.SearchIterationEvent;
+import git.goossensmichael.utils.SolverProgress;
+import git.goossensmichael.utils.StateCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -14,11 +24,20 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
-public class Day16 {
+@SolverVersion(1)
+public class Day16 implements Solver<Map<String, Day16.Valve>>, ModelCodec<Map<String, Day16.Valve>> {
 
     private static final Logger LOGGER = Logger.getLogger(Day16.class.getName());
     public static final String START_VALVE = "AA";
 
+    // A memo key packs the runner, the minute, the id of the valve and the set of open valves.
+    private static final int VALVE_IDS = 26 * 26;
+    private static final StateCodec STATE_CODEC = new StateCodec(2, 5, 10, 47);
+    private static final int OPEN_VALVES = 3;
+    // Bounds the memory of the search to about 400 MB, evicted states are searched again. The memo only grows that large
+    // when the input has that many states.
+    private static final int MEMO_CAPACITY = 1 << 24;
+
     private static long part1Old(final Map<String, Valve> valvesByName, int minutes) {
         final Valve start = valvesByName.get("AA");
         final int usableValves = valvesByName.values().stream().filter(v -> v.flowRate() > 0).toList().size();
@@ -71,37 +90,141 @@ public class Day16 {
         return previousStates.stream().mapToInt(CaveSTate::pressureReleased).max().orElseThrow();
     }
 
-    private static long part1(final Map<String, Valve> valvesByName) {
-        return solve(new HashMap<>(), valvesByName.get(START_VALVE), 30, new ArrayList<>(), valvesByName, 1);
+    @Override
+    public Map<String, Valve> parse(final ByteBuffer input) {
+        return parse(ByteScan.lines(input));
     }
 
-    private static long part2(final Map<String, Valve> valvesByName) {
-        return solve(new HashMap<>(), valvesByName.get(START_VALVE), 26, new ArrayList<>(), valvesByName, 2);
+    @Override
+    public Long part1(final Map<String, Valve> valvesByName) {
+        try (SolverProgress progress = SolverProgress.start(16, 1)) {
+            return solve(valvesByName, 30, 1, progress);
+        }
+    }
+
+    @Override
+    public Long part2(final Map<String, Valve> valvesByName) {
+        try (SolverProgress progress = SolverProgress.start(16, 2)) {
+            return solve(valvesByName, 26, 2, progress);
+        }
+    }
+
+    // Valves are stored by their id, with their flow rate and the range of their tunnels in the ids of the tunnels.
+    @Override
+    public void write(final Map<String, Valve> valvesByName, final ModelWriter out) {
+        final List<Valve> valves = List.copyOf(valvesByName.values());
+        final int[] ids = new int[valves.size()];
+        final int[] flowRates = new int[valves.size()];
+        final int[] tunnelOffsets = new int[valves.size() + 1];
+        final int[] tunnels = new int[valves.stream().mapToInt(valve -> valve.tunnels().size()).sum()];
+        for (int i = 0; i < valves.size(); i++) {
+            final Valve valve = valves.get(i);
+            ids[i] = id(valve);
+            flowRates[i] = valve.flowRate();
+            tunnelOffsets[i + 1] = tunnelOffsets[i] + valve.tunnels().size();
+            for (int t = 0; t < valve.tunnels().size(); t++) {
+                tunnels[tunnelOffsets[i] + t] = id(valve.tunnels().get(t));
+            }
+        }
+
+        out.ints(ids).ints(flowRates).ints(tunnelOffsets).ints(tunnels);
+    }
+
+    @Override
+    public Map<String, Valve> read(final ModelReader in) {
+        final IntBuffer ids = in.ints();
+        final IntBuffer flowRates = in.ints();
+        final IntBuffer tunnelOffsets = in.ints();
+        final IntBuffer tunnels = in.ints();
+
+        final Valve[] valvesById = new Valve[VALVE_IDS];
+        final Map<String, Valve> valves = new HashMap<>();
+        for (int i = 0; i < ids.limit(); i++) {
+            final int id = ids.get(i);
+            final String name = new String(new char[] { (char) ('A' + id / 26), (char) ('A' + id % 26) });
+            valvesById[id] = new Valve(name, flowRates.get(i), new ArrayList<>());
+            valves.put(name, valvesById[id]);
+        }
+        for (int i = 0; i < ids.limit(); i++) {
+            final List<Valve> valveTunnels = valvesById[ids.get(i)].tunnels();
+            for (int t = tunnelOffsets.get(i); t < tunnelOffsets.get(i + 1); t++) {
+                valveTunnels.add(valvesById[tunnels.get(t)]);
+            }
+        }
+
+        return valves;
     }
 
-    private static long solve(final Map<State, Long> memo, final Valve start, final int minute, final List<Valve> openValves, final Map<String, Valve> valves, final int runners) {
+    // The search is a single memoized recursion, one event covers all of it. The frontier of its progress is the depth
+    // of the recursion.
+    private static long solve(final Map<String, Valve> valvesByName, final int minutes, final int runners, final SolverProgress progress) {
+        final int[] valveBits = valveBits(valvesByName);
+        final SearchIterationEvent event = SearchIterationEvent.begin(16);
+        final LongMemoCache memo = new LongMemoCache(memoCapacity(valvesByName.size(), valveBits, minutes, runners));
+        final long maxReleasePressure = solve(memo, valvesByName.get(START_VALVE), minutes, 0L, valvesByName, valveBits, runners, progress);
+        event.finish(0, memo.misses(), memo.size(), 0);
+        progress.best(maxReleasePressure);
+        LOGGER.log(Level.FINE, () -> "Memo of day 16: " + memo);
+
+        return maxReleasePressure;
+    }
+
+    // There are never more states than a runner, a minute, a valve and a set of open valves.
+    private static int memoCapacity(final int valves, final int[] valveBits, final int minutes, final int runners) {
+        final int openableValves = (int) Arrays.stream(valveBits).filter(bit -> bit >= 0).count();
+        if (openableValves >= Integer.SIZE) {
+            return MEMO_CAPACITY;
+        }
+        final long states = ((long) runners * (minutes + 1) * valves) << openableValves;
+
+        return (int) Math.min(states, MEMO_CAPACITY);
+    }
+
+    // The bit of every valve with a flow rate in the set of open valves, indexed by the id of the valve.
+    private static int[] valveBits(final Map<String, Valve> valvesByName) {
+        final int[] valveBits = new int[VALVE_IDS];
+        Arrays.fill(valveBits, -1);
+        int bit = 0;
+        for (final Valve valve : valvesByName.values().stream().sorted().toList()) {
+            if (valve.flowRate() > 0) {
+                valveBits[id(valve)] = bit++;
+            }
+        }
+        if (bit > STATE_CODEC.width(OPEN_VALVES)) {
+            throw new IllegalArgumentException(bit + " valves with a flow rate do not fit a memo key");
+        }
+
+        return valveBits;
+    }
+
+    private static long solve(final LongMemoCache memo, final Valve start, final int minute, final long openValves, final Map<String, Valve> valves, final int[] valveBits, final int runners, final SolverProgress progress) {
         if (minute == 0) {
-            return runners > 1 ? solve(memo, valves.get(START_VALVE), 26, openValves, valves, runners - 1) : 0;
+            return runners > 1 ? solve(memo, valves.get(START_VALVE), 26, openValves, valves, valveBits, runners - 1, progress) : 0;
         }
 
-        final State state = new State(start, minute, openValves, runners);
-        if (memo.containsKey(state)) {
-            return memo.get(state);
+        final int id = id(start);
+        final long state = STATE_CODEC.pack(runners, minute, id, openValves);
+        final long memoized = memo.getOrDefault(state, -1);
+        if (memoized >= 0) {
+            return memoized;
         }
 
+        progress.expanded(1);
+        progress.frontier(1);
         long maxReleasePressure = 0L;
-        if (start.flowRate() > 0 && !openValves.contains(start)) {
-            openValves.add(start);
-            Collections.sort(openValves);
+        final int bit = valveBits[id];
+        if (bit >= 0 && (openValves & 1L << bit) == 0) {
             maxReleasePressure = ((long) (minute - 1) * start.flowRate()) +
-                    solve(memo, start, minute - 1, openValves, valves, runners);
-            openValves.remove(start);
+                    solve(memo, start, minute - 1, openValves | 1L << bit, valves, valveBits, runners, progress);
         }
 
         for (final Valve valve : start.tunnels()) {
-            maxReleasePressure = Math.max(maxReleasePressure, solve(memo, valve, minute - 1, openValves, valves, runners));
+            maxReleasePressure = Math.max(maxReleasePressure, solve(memo, valve, minute - 1, openValves, valves, valveBits, runners, progress));
         }
+        final int memoSize = memo.size();
         memo.put(state, maxReleasePressure);
+        progress.memoized(memo.size() - memoSize);
+        progress.frontier(-1);
 
         return maxReleasePressure;
     }
@@ -109,33 +232,37 @@ public class Day16 {
     public static void main(final String[] args) {
 
         // Parsing input
-        final var testInput = parse(TST_INPUT.split("\n"));
-        final var input = parse(INPUT.split("\n"));
+        final Day16 solver = new Day16();
+        final var testInput = solver.parse(Inputs.resource("day16-test.txt"));
+        final var input = solver.parse(solver.input());
 
         {
             final var expectedResult = 1651;
-            final var part1 = part1(testInput);
+            final var part1 = solver.part1(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 1: %d", part1));
 
             if (expectedResult == part1) {
-                final var result = part1(input);
+                final var result = solver.part1(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 1: %d", result));
             }
         }
 
         {
             final var expectedResult = 1707;
-            final var testResult = part2(testInput);
+            final var testResult = solver.part2(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 2: %d", testResult));
 
             if (expectedResult == testResult) {
-                final var result = part2(input);
+                final var result = solver.part2(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 2: %d", result));
             }
         }
     }
 
-    private record State(Valve location, int minute, List<Valve> openValves, int runners) {}
+    // Valve names are two capital letters.
+    private static int id(final Valve valve) {
+        return (valve.name().charAt(0) - 'A') * 26 + valve.name().charAt(1) - 'A';
+    }
 
     private record CaveSTate(Valve location, Set<Valve> openValves, int flowRate, int pressureReleased, int remainingMinutes) {
 
@@ -149,7 +276,7 @@ public class Day16 {
         }
     }
 
-    private record Valve(String name, int flowRate, List<Valve> tunnels) implements Comparable<Valve> {
+    record Valve(String name, int flowRate, List<Valve> tunnels) implements Comparable<Valve> {
 
         @Override
         public String toString() {
@@ -207,70 +334,4 @@ public class Day16 {
     private static String resolveValveName(final String input) {
         return input.substring(6, 8);
     }
-
-    private static final String TST_INPUT = """
-            Valve AA has flow rate=0; tunnels lead to valves DD, II, BB
-            Valve BB has flow rate=13; tunnels lead to valves CC, AA
-            Valve CC has flow rate=2; tunnels lead to valves DD, BB
-            Valve DD has flow rate=20; tunnels lead to valves CC, AA, EE
-            Valve EE has flow rate=3; tunnels lead to valves FF, DD
-            Valve FF has flow rate=0; tunnels lead to valves EE, GG
-            Valve GG has flow rate=0; tunnels lead to valves FF, HH
-            Valve HH has flow rate=22; tunnel leads to valve GG
-            Valve II has flow rate=0; tunnels lead to valves AA, JJ
-            Valve JJ has flow rate=21; tunnel leads to valve II
-            """;
-
-    public static final String INPUT = """
-            Valve QJ has flow rate=11; tunnels lead to valves HB, GL
-            Valve VZ has flow rate=10; tunnel leads to valve NE
-            Valve TX has flow rate=19; tunnels lead to valves MG, OQ, HM
-            Valve ZI has flow rate=5; tunnels lead to valves BY, ON, RU, LF, JR
-            Valve IH has flow rate=0; tunnels lead to valves YB, QS
-            Valve QS has flow rate=22; tunnel leads to valve IH
-            Valve QB has flow rate=0; tunnels lead to valves QX, ES
-            Valve NX has flow rate=0; tunnels lead to valves UH, OP
-            Valve PJ has flow rate=0; tunnels lead to valves OC, UH
-            Valve OR has flow rate=6; tunnels lead to valves QH, BH, HB, JD
-            Valve OC has flow rate=7; tunnels lead to valves IZ, JR, TA, ZH, PJ
-            Valve UC has flow rate=0; tunnels lead to valves AA, BY
-            Valve QX has flow rate=0; tunnels lead to valves AA, QB
-            Valve IZ has flow rate=0; tunnels lead to valves OC, SX
-            Valve AG has flow rate=13; tunnels lead to valves NW, GL, SM
-            Valve ON has flow rate=0; tunnels lead to valves MO, ZI
-            Valve XT has flow rate=18; tunnels lead to valves QZ, PG
-            Valve AX has flow rate=0; tunnels lead to valves UH, MO
-            Valve JD has flow rate=0; tunnels lead to valves OR, SM
-            Valve HM has flow rate=0; tunnels lead to valves TX, QH
-            Valve LF has flow rate=0; tunnels lead to valves ZI, UH
-            Valve QH has flow rate=0; tunnels lead to valves OR, HM
-            Valve RT has flow rate=21; tunnel leads to valve PG
-            Valve NE has flow rate=0; tunnels lead to valves VZ, TA
-            Valve OQ has flow rate=0; tunnels lead to valves TX, GE
-            Valve AA has flow rate=0; tunnels lead to valves QZ, UC, OP, QX, EH
-            Valve UH has flow rate=17; tunnels lead to valves PJ, NX, AX, LF
-            Valve GE has flow rate=0; tunnels lead to valves YB, OQ
-            Valve EH has flow rate=0; tunnels lead to valves AA, MO
-            Valve MG has flow rate=0; tunnels lead to valves TX, NW
-            Valve YB has flow rate=20; tunnels lead to valves IH, GE, XG
-            Valve MO has flow rate=15; tunnels lead to valves EH, ON, AX, ZH, CB
-            Valve JR has flow rate=0; tunnels lead to valves ZI, OC
-            Valve GL has flow rate=0; tunnels lead to valves AG, QJ
-            Valve SM has flow rate=0; tunnels lead to valves JD, AG
-            Valve HB has flow rate=0; tunnels lead to valves OR, QJ
-            Valve TA has flow rate=0; tunnels lead to valves OC, NE
-            Valve PG has flow rate=0; tunnels lead to valves RT, XT
-            Valve XG has flow rate=0; tunnels lead to valves CB, YB
-            Valve ES has flow rate=9; tunnels lead to valves QB, FL
-            Valve BH has flow rate=0; tunnels lead to valves RU, OR
-            Valve FL has flow rate=0; tunnels lead to valves SX, ES
-            Valve CB has flow rate=0; tunnels lead to valves MO, XG
-            Valve QZ has flow rate=0; tunnels lead to valves AA, XT
-            Valve BY has flow rate=0; tunnels lead to valves UC, ZI
-            Valve ZH has flow rate=0; tunnels lead to valves MO, OC
-            Valve OP has flow rate=0; tunnels lead to valves NX, AA
-            Valve NW has flow rate=0; tunnels lead to valves MG, AG
-            Valve RU has flow rate=0; tunnels lead to valves ZI, BH
-            Valve SX has flow rate=16; tunnels lead to valves IZ, FL
-            """;
 }
@@ -1,36 +1,68 @@
 package git.goossensmichael;
 
+import git.goossensmichael.utils.Histogram;
+import git.goossensmichael.utils.Inputs;
+import git.goossensmichael.utils.LongHashSet;
+import git.goossensmichael.utils.LongIntHashMap;
+import git.goossensmichael.utils.Metrics;
+import git.goossensmichael.utils.SearchIterationEvent;
+import git.goossensmichael.utils.SolverProgress;
+import git.goossensmichael.utils.StateCodec;
+
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.OptionalLong;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
-public class Day17 {
+@SolverVersion(2)
+public class Day17 implements Solver<String> {
 
     private static final Logger LOGGER = Logger.getLogger(Day17.class.getName());
+    private static final Histogram ROCK_DROP = Metrics.histogram("day17.rock");
 
-    private static long part1(final String jetstream) {
-        return simulate(jetstream, 2022);
+    // A cell of the cave is packed as its height followed by the 3 bits of its column. Unlike Coordinates this leaves
+    // the height the full range of a long.
+    private static final int COLUMN_BITS = 3;
+    private static final long COLUMN_MASK = (1 << COLUMN_BITS) - 1;
+
+    // A state of the cave is the next rock, the next jet and the depth of the air that a falling rock can still reach.
+    // That air itself is kept next to it, the state only holds its depth.
+    private static final StateCodec STATE_CODEC = new StateCodec(3, 32, 29);
+
+    @Override
+    public String parse(final ByteBuffer input) {
+        return Inputs.asString(input).trim();
+    }
+
+    @Override
+    public Long part1(final String jetstream) {
+        try (SolverProgress progress = SolverProgress.start(17, 1)) {
+            return simulate(jetstream, 2022, progress);
+        }
     }
 
-    private static long simulate(final String jetstream, final long cycles) {
+    // A state of the progress is a fallen rock, the frontier is the part of the tower that is kept. Once the cave is in a
+    // state it was in before, the rocks repeat what they did since then, those repeats are skipped.
+    private static long simulate(final String jetstream, final long cycles, final SolverProgress progress) {
         long cycle = 0;
 
-        final Set<Set<Coord>> towerState = new HashSet<>();
+        // The states the cave was in after a rock landed, found through the hash of their state and reachable air.
+        final LongIntHashMap stateByKey = new LongIntHashMap();
+        final List<CaveState> states = new ArrayList<>();
+        boolean lookForCycle = jetstream.length() < 1L << STATE_CODEC.width(1);
+        long skippedHeight = 0;
 
-        final Set<Coord> tower = new HashSet<>();
+        final LongHashSet tower = new LongHashSet();
         long highestPoint = -1;
         long fallenRocks = 0;
         Rock rock = createRock(fallenRocks, 2, highestPoint + 4);
+        long rockStart = System.nanoTime();
+        SearchIterationEvent event = SearchIterationEvent.begin(17);
         while (fallenRocks < cycles) {
             // push stream > or <
-            final char direction = jetstream.charAt((int) cycle % jetstream.length());
+            final char direction = jetstream.charAt((int) (cycle % jetstream.length()));
             cycle++;
             rock.move(direction, tower);
 //            visualise(highestPoint, rock, tower);
@@ -41,58 +73,125 @@ public class Day17 {
                 // * Add rock structure to tower -> Must not contain any of the coordinates yet!
                 // * Update highest point
                 // * Spawn new rock
-                final Collection<Coord> newStructure = rock.getStructure();
-                tower.addAll(newStructure);
-                cleanTower(newStructure, tower);
+                final long[] newStructure = rock.getStructure();
+                final int towerSize = tower.size();
+                for (final long cell : newStructure) {
+                    tower.add(cell);
+                }
                 final long rockHighestPoint = rock.getHighestPoint();
                 if (highestPoint < rockHighestPoint) {
                     highestPoint = rockHighestPoint;
                 }
+
+                final long landed = fallenRocks + 1;
+                final int[] air = reachableAir(tower, highestPoint);
+                if (air != null) {
+                    // Rocks only reach the air and the row of blocks right below it.
+                    cleanTower(tower, highestPoint - air.length);
+                }
+                if (lookForCycle && air != null) {
+                    final long state = STATE_CODEC.pack(landed % 5, cycle % jetstream.length(), air.length);
+                    final long key = state * 31 + Arrays.hashCode(air);
+                    final int seen = stateByKey.getOrDefault(key, -1);
+                    if (seen >= 0 && states.get(seen).state() == state && Arrays.equals(states.get(seen).air(), air)) {
+                        final CaveState before = states.get(seen);
+                        final long period = landed - before.rocks();
+                        final long repeats = (cycles - landed) / period;
+                        skippedHeight = repeats * (highestPoint - before.height());
+                        fallenRocks += repeats * period;
+                        lookForCycle = false;
+                    } else {
+                        stateByKey.put(key, states.size());
+                        states.add(new CaveState(state, air, landed, highestPoint));
+                    }
+                }
+                event.finish(fallenRocks, cycle, states.size(), tower.size());
+                progress.expanded(1);
+                progress.frontier(tower.size() - towerSize);
+                progress.best(highestPoint + 1);
+                event = SearchIterationEvent.begin(17);
                 rock = createRock(++fallenRocks, 2, highestPoint + 4);
+                final long now = System.nanoTime();
+                ROCK_DROP.record(now - rockStart);
+                rockStart = now;
             }
 //            visualise(highestPoint, rock, tower);
         }
 
-        return highestPoint + 1;
+        return highestPoint + 1 + skippedHeight;
     }
 
-    private static void cleanTower(final Collection<Coord> newStructure, final Set<Coord> tower) {
-        final long sizeBefore = tower.size();
-
-        final Set<Coord> chain = new HashSet<>();
-        final List<Coord> toProcess = new ArrayList<>(newStructure);
+    // The air at and below the top of the tower that a falling rock can still reach, a mask of the 7 columns per row from
+    // the top down. Every block of a rock only moves down, left or right into air, so it never leaves this air and the
+    // rocks land the same way in caves with the same air. Null when the air reaches the floor, which is not in the mask.
+    private static int[] reachableAir(final LongHashSet tower, final long highestPoint) {
+        int[] rows = new int[8];
+        int depth = 0;
+        // Cells still to visit packed as their row below the top followed by the 3 bits of their column.
+        int[] pending = new int[16];
+        int count = 0;
+        for (int x = 0; x < 7; x++) {
+            pending[count++] = x;
+        }
 
-        while (!toProcess.isEmpty()) {
-            final Coord current = toProcess.remove(0);
+        while (count > 0) {
+            final int current = pending[--count];
+            final int row = current >>> COLUMN_BITS;
+            final int x = current & (int) COLUMN_MASK;
+            if (highestPoint - row < 0) {
+                return null;
+            }
+            if (row == rows.length) {
+                rows = Arrays.copyOf(rows, rows.length * 2);
+            }
 
-            if (!chain.contains(current)) {
-                chain.add(current);
+            if ((rows[row] & 1 << x) == 0 && !tower.contains(cell(x, highestPoint - row))) {
+                rows[row] |= 1 << x;
+                depth = Math.max(depth, row + 1);
 
-                for (int i = -1; i <= 1; i++) {
-                    for (int j = -1; j <= 1; j++) {
-                        if (!(i == 0 && j == 0)) {
-                            final Coord possibility = new Coord(current.x() + i, current.y() + j);
-                            if (!chain.contains(possibility) && tower.contains(possibility)) {
-                                toProcess.add(possibility);
-                            }
-                        }
-                    }
+                if (count + 3 > pending.length) {
+                    pending = Arrays.copyOf(pending, pending.length * 2);
+                }
+                if (x > 0) {
+                    pending[count++] = current - 1;
                 }
+                if (x < 6) {
+                    pending[count++] = current + 1;
+                }
+                pending[count++] = current + (1 << COLUMN_BITS);
             }
         }
 
-        if (chain.size() >= 7 && chain.stream().anyMatch(c -> c.x() == 0) && chain.stream().anyMatch(c -> c.x() == 6)) {
-            final long maxLeft = chain.stream().filter(c -> c.x() == 0).mapToLong(Coord::y).max().orElse(Long.MAX_VALUE);
-            final long maxRight = chain.stream().filter(c -> c.x() == 6).mapToLong(Coord::y).max().orElse(Long.MAX_VALUE);
-            final long min = Math.min(maxLeft, maxRight);
+        return Arrays.copyOf(rows, depth);
+    }
 
-            tower.stream().filter(c -> c.y() < min).toList().forEach(tower::remove);
-//            System.out.println("Tower size reduced: " + (sizeBefore - tower.size()));
-        }
+    private static long cell(final long x, final long y) {
+        return y << COLUMN_BITS | x;
+    }
 
+    private static long x(final long cell) {
+        return cell & COLUMN_MASK;
     }
 
-    public static void visualise(final int highest, final Rock rock, final Set<Coord> tower) {
+    private static long y(final long cell) {
+        return cell >>> COLUMN_BITS;
+    }
+
+    // Drops the blocks below the given height, rocks no longer reach them.
+    private static void cleanTower(final LongHashSet tower, final long lowest) {
+        final long[] below = new long[tower.size()];
+        final int[] count = new int[1];
+        tower.forEach(cell -> {
+            if (y(cell) < lowest) {
+                below[count[0]++] = cell;
+            }
+        });
+        for (int i = 0; i < count[0]; i++) {
+            tower.remove(below[i]);
+        }
+    }
+
+    public static void visualise(final int highest, final Rock rock, final LongHashSet tower) {
         final int yRange = highest + 4 + rock.height();
         final char[][] v = new char[7][yRange];
 
@@ -102,8 +201,10 @@ public class Day17 {
             }
         }
 
-        rock.getStructure().forEach(c -> v[(int) c.x()][(int) c.y()] = '@');
-        tower.forEach(t -> v[(int) t.x()][(int) t.y()] = '#');
+        for (final long c : rock.getStructure()) {
+            v[(int) x(c)][(int) y(c)] = '@';
+        }
+        tower.forEach(t -> v[(int) x(t)][(int) y(t)] = '#');
 
         for (int j = yRange - 1; j >= 0; j--) {
             for (int i = 0; i < 7; i++) {
@@ -116,7 +217,7 @@ public class Day17 {
     }
 
     public static Rock createRock(long cycle, long x, long y) {
-        return switch ((int) cycle % 5) {
+        return switch ((int) (cycle % 5)) {
             case 0 -> new HBeam(x, y);
             case 1 -> new Cross(x, y);
             case 2 -> new LMirrored(x, y);
@@ -126,34 +227,38 @@ public class Day17 {
         };
     }
 
-    private static long part2(final String jetstream) {
-        return simulate(jetstream, 1000000000000L);
+    @Override
+    public Long part2(final String jetstream) {
+        try (SolverProgress progress = SolverProgress.start(17, 2)) {
+            return simulate(jetstream, 1000000000000L, progress);
+        }
     }
 
     public static void main(final String[] args) {
 
         // Parsing input
-        final var testInput = TST_INPUT;
-        final var input = INPUT;
+        final Day17 solver = new Day17();
+        final var testInput = solver.parse(Inputs.resource("day17-test.txt"));
+        final var input = solver.parse(solver.input());
 
         {
             final var expectedResult = 3068;
-            final var part1 = part1(testInput);
+            final var part1 = solver.part1(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 1: %d", part1));
 
             if (expectedResult == part1) {
-                final var result = part1(input);
+                final var result = solver.part1(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 1: %d", result));
             }
         }
 
         {
             final var expectedResult = 1514285714288L;
-            final var testResult = part2(testInput);
+            final var testResult = solver.part2(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 2: %d", testResult));
 
             if (expectedResult == testResult) {
-                final var result = part2(input);
+                final var result = solver.part2(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 2: %d", result));
             }
         }
@@ -175,11 +280,11 @@ public class Day17 {
 
         public abstract long getHighestPoint();
 
-        public Collection<Coord> getStructure() {
+        public long[] getStructure() {
             return getStructure(x, y);
         }
 
-        public abstract Collection<Coord> getStructure(long x, long y);
+        public abstract long[] getStructure(long x, long y);
 
         public boolean isAgainstLeftWall() {
             return x == 0;
@@ -193,7 +298,7 @@ public class Day17 {
             return y == 0;
         }
 
-        public boolean move(final char direction, final Set<Coord> tower) {
+        public boolean move(final char direction, final LongHashSet tower) {
             final boolean moved;
             if (direction == '>' && isAgainstRightWall()) {
                 moved = false;
@@ -209,8 +314,11 @@ public class Day17 {
                     default -> throw new IllegalArgumentException();
                 };
 
-                final Collection<Coord> hypotheticalStructure = getStructure(x + movement[0], y + movement[1]);
-                final boolean canMove = tower.stream().noneMatch(hypotheticalStructure::contains);
+                final long[] hypotheticalStructure = getStructure(x + movement[0], y + movement[1]);
+                boolean canMove = true;
+                for (int i = 0; canMove && i < hypotheticalStructure.length; i++) {
+                    canMove = !tower.contains(hypotheticalStructure[i]);
+                }
                 if (canMove) {
                     x += movement[0];
                     y += movement[1];
@@ -239,8 +347,8 @@ public class Day17 {
         }
 
         @Override
-        public Collection<Coord> getStructure(final long x, final long y) {
-            return List.of(new Coord(x, y), new Coord(x + 1, y), new Coord(x + 2, y), new Coord(x + 3, y));
+        public long[] getStructure(final long x, final long y) {
+            return new long[]{cell(x, y), cell(x + 1, y), cell(x + 2, y), cell(x + 3, y)};
         }
 
     }
@@ -257,10 +365,10 @@ public class Day17 {
         }
 
         @Override
-        public Collection<Coord> getStructure(final long x, final long y) {
-            return List.of(new Coord(x + 1, y + 2),
-                    new Coord(x, y + 1), new Coord(x + 1, y + 1), new Coord(x + 2, y + 1),
-                    new Coord(x + 1, y));
+        public long[] getStructure(final long x, final long y) {
+            return new long[]{cell(x + 1, y + 2),
+                    cell(x, y + 1), cell(x + 1, y + 1), cell(x + 2, y + 1),
+                    cell(x + 1, y)};
         }
     }
 
@@ -276,10 +384,10 @@ public class Day17 {
         }
 
         @Override
-        public Collection<Coord> getStructure(final long x, final long y) {
-            return List.of(new Coord(x + 2, y + 2),
-                    new Coord(x + 2, y + 1),
-                    new Coord(x, y), new Coord(x + 1, y), new Coord(x + 2, y));
+        public long[] getStructure(final long x, final long y) {
+            return new long[]{cell(x + 2, y + 2),
+                    cell(x + 2, y + 1),
+                    cell(x, y), cell(x + 1, y), cell(x + 2, y)};
         }
     }
 
@@ -295,11 +403,11 @@ public class Day17 {
         }
 
         @Override
-        public Collection<Coord> getStructure(final long x, final long y) {
-            return List.of(new Coord(x, y + 3),
-                    new Coord(x, y + 2),
-                    new Coord(x, y + 1),
-                    new Coord(x, y));
+        public long[] getStructure(final long x, final long y) {
+            return new long[]{cell(x, y + 3),
+                    cell(x, y + 2),
+                    cell(x, y + 1),
+                    cell(x, y)};
         }
     }
 
@@ -315,16 +423,12 @@ public class Day17 {
         }
 
         @Override
-        public Collection<Coord> getStructure(final long x, final long y) {
-            return List.of(new Coord(x, y + 1), new Coord(x + 1, y + 1),
-                    new Coord(x, y), new Coord(x + 1, y));
+        public long[] getStructure(final long x, final long y) {
+            return new long[]{cell(x, y + 1), cell(x + 1, y + 1),
+                    cell(x, y), cell(x + 1, y)};
         }
     }
 
-    private record Coord(long x, long y) {
+    private record CaveState(long state, int[] air, long rocks, long height) {
     }
-
-    private static final String TST_INPUT = ">>><<><>><<<>><>>><<<>>><<<><<<>><>><<>>";
-
-    private static final String INPUT = ">>>><<<<>>><<>>><<<<>><<>>>><><><><<<<><<>>>><<<<>>><><<><<>>>><<>>>><><<>>><>>><<<<>>><<<><<<<>>><<<<>>>><<<<>><<<<><<<<>><<>>><>>>><>>><<>>><<<<>>><>><<<><>>><>>>><><<<<>>><<>>><<><<<<>>><<<<>><>><<>>>><<><>>>><<>><<><>>><>>><<<<><<>><<<>><<>>><<<<>>>><>>>><<<>><<<><<<<>>><>><<<>>>><><<<<>><<><<>>>><<>><<><<>>><><<<><<>><><>>><<<<>><<<<>>>><<<<>>>><<<<>>>><<<<>>><>><<>>>><>>><<>>><<>>><<<>>>><<<<>><<<><>><<<><<<<><><<<>><<><>>>><<>>>><<<>>><<<>>>><>>><<><<<><<<<><<<>>><<<<>><<>>><<><>><>>><>>>><<>>><<<>>>><<<<>>>><>><<<<><>><<>>>><<<<>>><<<><<><<>>><<><>>><>>>><>>><<<>>>><<<<>>>><>>><<<>>>><<<<>>>><<<<><>>><>><<<<>>>><<<>>><<<<>><>>>><<<<><<<<>><<<><<<<>><>><<><<<<>>><>>>><<<<>>><>>><<<><<><<>><<<<>><<>><<><<<><<<<>><<<<>><<<>>><<<<>>>><<<<>>>><>><<<>>><<<>><<<<>>>><<>>><>>>><<<>>>><>><<<<>><>>><<<>><<<<>>>><>>><<><<>><<<>><<<<>>>><><<<<>>><>><>>><<<<>>><>><<<<>>>><>><<>><<<>>>><<>>><<<>>>><><>><<>><<<>>>><<<>><>><>>><<<<>>><<<<>>><><<>><<>>>><<<><<>>><>><>><<<>><<<<>><<<<>>>><<>><><<<>>>><<><><>>>><>><<>><<>><<>><<>><>>>><<>>><<<<><><<><<>><<><<>>><<<<>><<>>><<<<>>><<<<>>><>>><>>><><<<<><><>>>><>>>><<<>>><<<<>><<<<>><<<>>>><>>><<<<>><>>>><<>>>><<>>>><>>><<<<><>><<<<>><<<<>>>><>><><<<<>>><>>>><<>>><<>>><<>><<<>><<<<>>>><<<>><<><<>>><<<><<<<>>><<<<><>>>><>><>>>><<<<>>>><<>><<<<>>><<>><<<>><<><>><<>><><<<<>>><<<<>><>><<>><<>><<>><>><<><<>>>><<>>><>>><>>>><<<>><<><<<><>>><<<><><>>><<<<>>>><<<<>>>><<><<<<>><<<<><<><<<>>><<<<>>>><<>>>><<><<>>><<<<>>><<<<><<<><>>><<>><<<<>>><<<><<<<>>>><<>>><<<><<<<>>>><>>>><<<<><<>><<>>><<>>>><<>><<><<<<>>><<>>><<<>>><<<>><<<<>>>><<>>>><<>>>><>>><<<>>><<>><><<<>>>><<<<><<<>>>><><<>>><>><<>><>><>>>><><<<><><<>><>>>><<<<>><<<<>>><<<><<<<>>><><<<<>>>><<><<<<><<<<>>><<<<><<<>><<<>><>>><<>>>><<<>>><>>>><<><>>>><<<>>><>>>><<<>><<>>>><<<<>>><<<<>>>><<<><<<<>>><<<<>>>><>>>><<<<>><<<>>><<>><<<><<<>>>><<>><<<<>>><<<>>><<<<>>>><><<>><>><<<>><>>><<>><<<<>>>><<<<>><<>>>><<<><>><>><>>><<<>>>><<>>>><<>>><>>><<<<>>><>>><<>>><<<>>>><<>>>><>>><<>>><<<>>><<<><<<><<<<>>><>>>><<<>>><<<<><<<<>>><<<>>>><><<<<>><<>>>><<<><<<<>>><>>>><<<<><<<<><<<<><><<<<>>><<<>>><<<<>><>><>><<>>><<>><<<<>>>><<<<>>><<<><<>>><<<<>>>><><<<><<><<>><<<<><<>>><<>>><<><<<<>>><<<<>><>>>><<<>><<>>><>><<>>>><<><<<>>>><<>>>><>>><<>>>><<<<>>><<<<>>><<<>><<<><<<><<<>>>><<>><<<<>>>><>><><>>>><<<<>><<<><<<>><<>>>><<<<>>>><>>><<<>><<<>><<>><<<<>>>><>><<<<>>><><<>>>><<<>>><<>>>><<<><<>><>>>><<<>><<<<><<<<>>><<<>>><><><<<><>>><<<>>><<>>><<><<><>>><<<>><<>>><<<<>>>><<<<>><>>><>><>>><>>><>><<>>><<><<<>>><>>><<>><<<<>><>>>><<<><><<<<>>>><<<><<<>>><<<<>><<<>><>><<>><<<>>><<<<><<<<>><<<>><>>>><<<<>>><<><<<>>><<>><<><><<<<>>><<<<>>><<<>>><<<<>><<>><<>>>><<<<>>>><><<<<><<<<>>><<>>><<<<><<<>><<<>>><<>>><<<<>>><><<>>><<<<><<><<<<>>><<>>>><<<><<>>><><<>>>><<<<>>>><<<>>>><<<<>>><<<>>>><<<>>><<<><<<<>>><<>><<>>>><<<><<>>><<><<<>>>><>><<<>><<<<>>>><<>>><<<<><<<<>><<><>><<<<>>><<<>><>>>><<<<>><<>><<>>>><<<><>>>><<<><<<<><>>>><<>>><<>><<<>>>><<>>><<<>><<>>><>><<>><>>><<<<>>>><<<>>><>>><<>>><>>><<<><><<<>>><<>><<><>>>><<<>>><<<<><<>>><<<<>>><<<>>>><<><>>>><<>><>>><<>><>><<<>>>><>>><<<<>>><>>><<<>><<<>>>><<<>>><<<><<<><<<<><<<<>>><<<<>><<<<>><<<<>>>><<<<>>><><><<><<<<><>>>><<<<>>><<<><<<>><>>><><<>><>>>><<<<>><<<>>><<<<>>><<<>>><>>>><><<<<>>><<<>>>><<<>><<<<>>>><<<>><<<>><<<>>><<>>>><<>><>>>><<<<>>><<<<>><>>><<<>><><<<>><<<<>>>><>>>><<<><<><><<>><<><>><<<>>>><<><<<>><<>>><<><<>><<<>>><<><<<><<<>><<><>>>><><<<<><<<<>><<<>>><<<<>>><<<<>><<<><<<>><><<<>>><<<<>>><>>><<<<>>><<>>>><<<<>><<>>><<>><>>>><<<<>><<<<>><<<>>>><<<>>>><<><<<><<>>><<>><<<<>>>><<><>><>>><><<><<><>>>><<<<><<<>>>><<>>><<<>>>><<<><<>><<<<>>>><<<<>><<<<>>><<><<><<<<>>><<<<>>><<<>><<>>><<<<><><<<<><<><<<<>>><<>>><<<>>>><<><<<>>>><<<<>>>><<<<>><<<<>>>><<>>>><>>>><>><<<<>><>>>><>>>><>>>><<<>>><<<<>>><>><>>><<>>>><<<>>>><<<<><<<<><<<><<><<>>>><<><>>>><<<>>><<<<>>>><<>>>><<>>><>>>><<<>><<<>>>><<><<><<<>><>><<>>><<>><<>><>>><<<><><<<<>><>><>><>>><<<>>><<<><<<>><<>>>><><<>>>><<>>>><><<<><<>><<<><>>><>>><><<>><>>><><<>><<<<>><<>>>><>>><<<><>>>><>>>><>><>>>><<<<>>><<<>>><<><<>>>><<<<><<>>><<<>>><<<<>>>><>>><<<>>>><<<<><>>><<>><<<>>><<<<><>><<<><<>>>><<<>><><<<<>><><<>>><>>>><<>>><<<><<<<>>>><<<>>><<<<><<<<>>><>>>><<<<>><<>>><>><<>><<>>>><<<<>>><<><<>>>><<<>><<<<>><<<>><>>><<<>>><<><<<<><<>>><>><<<>><<<>>>><<<>><><<>>><<>>><<<<><<>>><<<>><<><<<>>><<<>>><><<<<>><<>>>><>>><<><<<>>>><<><<>>>><<<<>><><<<>>>><<>><>>><<<<><>><<<><<>>><<<><<<>>><>>>><<<>><>>>><<<>>><<>>>><<<<>><>>><<<<><<<<>>>><<<>>>><><<<<>>>><<<>>><<><<<<>><><<>>><<<>>>><<><<<>><<>>><<<>>>><<<><<<>>><<<><>>><<><><<<>>><<<<>><<>>><<<><<<><<><<<<><<<><<>>>><>><<<><<<<>><>><>><>>>><<<<>><<<<>>><>>><>><><>><<<<>><><<<><<><>>>><<>>><<<<>>><<>><<<>>><<<<><<<>>>><<<<>>>><>>>><<><<<<><<<>>>><<<><<<><<<<>>>><<<<>>><<<>><><>>><><<<<>>>><<<>>>><>><>><>>><<<<>>><<<>>><><<<>>>><<>>><>><<<>>><<<<>><<<<>>>><<<>>><<<>>>><<><<>><>>>><<<<>>><>><<<<>><<<>>><<<><>><<><<<>><<<>>>><<<<>>><<>>>><<<<><>>><>>>><<<<>>><<<>>><>>>><<<<>><<<>>>><<><>><<<<>>><<<><<><<>><<><><<<<>>><<><<<>><>>><<>>><<><<<>>><<<<>>><<<<>><<>><<<<>>><<<<>><<<>><<<><<<><<<<>><>><<<<>>>><>>><<<>>><<<<>><<<>>>><<>>>><<<<>>>><<<>>><<><<<><>>>><<><<<>>><<><>><<><><<<<>>>><<<<>><<<>>><<<<><>>>><<<<>><<<<>><<>><<<>><<>>>><<<<>>>><>>><<>>>><<<>>>><<>>>><<><<>>>><<>><<<<>><>>>><><<>>><>><<<>>>><<<<>>><<<<>>>><<<><<<>>>><<<<>>><<<<>><<<<>>><<<><<<<>><<<<><>>>><<<>>>><<>>>><<<<>>><<><<<<><<<><<<<>>>><>>><>>><<<<>>>><<><<<<>>><>>><<<>>>><>>>><>><<>>>><><<<>>><<<<>><<>>><<>>><<<<>>><>>><<<<><<>>><>>><>><<><<<>>>><<<>>>><<<>><>><<<><<<>>><<<<>>><<<>>><>>><<<><<<<>>>><<<<><<>>>><<<>><<<<>><<<>>>><<>>><<>>>><<>>><<<><<>>><><><><>>>><>>>><<><><<>><<>>><<<<>>>><<<<><>><<<<><<<>>><<>>>><<><<<<>>><>><<><>><>>>><>><<<<>>>><<<<>>><>>>><<<<>><<<<>><><>><<><>>><<<>>>><><>>>><><<<>><<<<>>><<<<>><<<>>>><<<>>><<<><<>><<<>><<<<>>><<>>><<>><>>><>><<<>>>><<<><<<<>><><<<<>>>><<<<>>><<<<>><>><<<>>><<<>><<<>>><<<<>>><<>><<<><<<<>>>><<<>>>><<><<<<>><<<><<<<>>><<<<><<>>>><<<><<<<>><<<>>><>>><><<<>>><<>>><<>><<<<>>><>><<<<>>><<<>>><><<<<>>>><<<>>><<>>><<>>><>><>>><<<><>>><<<<>>><<<>>><>>><<<>><<<>><><<<<>>><>>><<>><<>><>>><<>>>><>><>>>><<<>><<>>>><<<<>><<<>><<>><<>>>><<<>><<>><<<><<<>>><>><<<>>>><<>><>>>><<><<<>>>><<>>>><<>><<>>><<<>>><>>>><<<><>>>><<<>><<<<>>>><<<<><<>><<<>><<<>>>><<>>>><<<<><<<<>>><<<>>><>><<<>>><<<><>>>><<<<>><<<>><>>><<>>>><<<>>><<<<>>>><<><<>>><<>>><>><><<<><>>><<<<>>>><<<<>><<<>>>><<<>><<>>><<<>><<>><<<<>><<<>><<<<>><<>>>><>>><<<<>>><<<<>>><><><<<<><<<>>><<<<><<<>>>><<<<>>>><>>><>>><>>><<>>>><<<<>>><<<<>>><<<>>>><<<<>>>><<<<><><<<<>>>><<<>>>><><<>>><<<>>>><<>><<<<>>>><<<><<<<>>><<<>><<>>><<<>>><<>>>><<>><>><<><<<>>>><<>>>><<>><><<>><<<<>><>>><<<>>>><<<<><><<>>>><<>>>><<<><><<<<>><<<<>>>><<>>>><<>>>><>>><<<><<<<>>><<<>>><<<>><<<<>><<<<>><<<<>><<<>>><><<<>>><<>>>><<<>>>><<<>>>><><<<<>>>><<<<>>>><>><<<><<<<>>>><<<<><>>><>>>><><>>><><<<<>>><<<<>>>><<><<<<>>>><>>><>>>><>><<><<<<><<>>>><>><<<<><>>><<<>><<>>>><<>>>><<>>>><<<<>>>><>>>><<<>>>><><>><<<>>>><<<>><<<<>>>><<>>><<<>>><<<>><<<<>><<<<>>>><<<<>><><<<<>><<<<><<<>>>><<<<>><<>>>><>><<<>>><<<><>>><<<><>><>>>><<<<>>>><<<>><<>><>>>><<>>>><<<<>>>><<<<>><>><<<<>><>><<<<>>>><<>>><<>>>><<<<>>><<><<<>>>><<<>>>><<>>>><<>><>>><<<<><<<>>>><<<<>><<<<>>><<>>>><<<><<<<><<>><<<<>><<<<><<>><>>>><<<>><>>>><<<>>>><<>><<>>>><<<<><><<><<><<>><<<<>>>><>>><<<><<><>><<<>>><<<><>><<>>><<<>>><<>>><<>>><<<>>><<<<><>><<<>><<><>>><<<>>><<<<>>><<><>>>><<<<>><<>><<<>><<<><<>>><<>><>><>><<<>>><>><<>>>><<<<>>>><<<<>><<<>>><<>>>><<<<>>>><<>><><<<<>><<>><<>>><>><>>>><<>>><<>>>><<<>>><<<<>>><<>>>><<<<>>>><<>>><<<>><<<>><<>>><<>>><<<>>>><<<<><<>><<><<<><>>>><<<><<<<>>>><<<<><>>>><><<><<>>><<<><>>>><<<>><<<<>><<<>>><<><<>>><<<<>><<>>><<>><<<><<<>><>>><<>><<<<><><<<<>>><<<>>>><<<><<>>>><>><<<<>>>><<<<><<>>>><<<>><<<<>>><<><>>>><><<><>>><>>>><><<><<>><<<<>><<<<>><>><<<>><<><<>><<<>><>><<<>>>><<<>><<<<>><>>>><<<><>>><>>><<<<><<>>><><<<<>>>><<<>><>>>><<>><<<<><<<<>>><><<>><<<><>>>><<>>>><<>><<<<><>><<<<><<<<>>><<>>><<>><<<>>><<<<>>>><<<<><<><>><<<<>>><<><>>><><<<><<>>>><<<><<<><<<<><<<>>>><<<><>>>><>>><>>>><<>><<>>>><<<<>><<<>>><<<<>>>><<<>><><<<>>>><><<>>>><<<><>>>><>>>><<<<>>>><>>>><<><>><<<>>><<<<><>>><>>>><<><<<<><>>><<>>><<>>><<><<<<>>><<<>><<<<>><>>><<<>>>><>><<>>><<<<><<<>>><>><<<><>><<<<>><><>>><<<>>><<>><<<<>><<>>>><<<<><<<>><<><<<<>>>><<>>>><>>>><>><<<<>><<<><>>><<<><<<<><<>><><<<<>><<<><<>>><<><<<><<<><<<>><<<>>><>>><<<<>><<>>><<<>><>>>><<<>><>>>><<<>>><>>><<<>>>><<<<><<<<>>>><<>><<<<>>><<<<>>>><>>><>>><<<>>><<<><<>>><><<<>><<><><>><>><<><<<<><<<>>>><<<>>>><<>>>><<<<>>>><>>>><<<>>><>>>><<<><<<<>>>><<<<><<<<><>>>><<><>>><><<<<>>>><>><<<>>>><<>>><<<>><>>>><<>>><<>><>><<<>>><<<<><<>>>><<>>>><<<>><>><<>>>><<<<><<<>>>><<><<<<>>>><>><<<<><>>>><<>>><<<>>><><>>>><<>>>><<<>>><<>><<>>><>>><<<><>><>>><<<<><>>>><<<<><<<<>><<>>>><<>>><<<<><<<<>><<<>>>><<>>><<><<<<>>>><<<<>><<<>>>><>><<<><<<><<>><<<<>>><<<>>><<<<>>>><>><<>><><<<>>><<>>><<<><<><<<>>><<<>>><<<>>>><<<>>><<<<>><<>><<<><<<>>>><<>>>><>>>><<<<>>><<>><<<>>><<>>>><<<<>>><<<><<><<<<>><<<>><<<>>>><<>>>><>>>><<>><>>>><<<<><<>><<<<><<<<>><>>><<<>><<<>><<<<><<<<>>><<<>><<<>>>><>>>><<<<>>><><<<<><<><<<>>><<<<>><<>>><<<>>><<<>>><<<<>><<>>><<<<>>>><<>><<<>>><<><>><<<<>>>><<>>><>>><>>>><<<>>><<>><>>>><<<>>><>>><<<>>>><<<>>>><>>>><>>><<<<>>><<<>>><<>><>>><<<>><<<<><<<>>><<>>>><><<<<><>><<>>><<<<>><>>><<>>><><<<<>>><<<<>><><<><>><<<<>>><>><<>><<<<><<>>>><<>><><>><<<<>><<<<>>>><<<>>>><<>><<<><>>>><<><<><>>><><>>>><<<><<>>>><<<<>><<<<><<<<><<<>><<>><<<<>>><<>>>><<<><>>><>>>><>>>><<<>>>><<>>>><>>>><<><<>>>><<<<>>>><<<>><<>>><<<<>>>><<<<>>><>>><>>><<<>>>><<>>>><>><><<<>>><<<>>>><>>>><<<<>>><<<><<<>>><<>>>><><>>><<<<><<>><>>>><<>><>>>><<<<>>>><<<<>>><<>><<<><<<<>>><<>>><>>><<<>><>>><><<<>><<><<<<>>>><<>>><<<>>><<<<>><<<<>>>><<<<><<>><<<><<<>>><<<>><<<<>>><>><<>>>><>><<<><<>><<<<>><<<>><<>>><>>><<<>>>><>>>><<<<>><>>><><>>><<<>><<<<>>><<<<>><<<>>><<>>>><>><<<<>><>>>><<><<<><<>>><<<>>>><<<>><<>>><>><>><<<><<<<>>><<<<>><<<<>>><<>>>><<<<><<<>>><<<<>><<<>>>><<<>>>><>>><<><<<><>>><>>><<<>>><<<>>><<<<><<<<>><<<>>>><<<>><<<>>>><><>>>><<<>>>><<<>>>><>><<";
 }
@@ -1,9 +1,15 @@
 package git.goossensmichael;
 
+import git.goossensmichael.utils.FastScanner;
+import git.goossensmichael.utils.Inputs;
+import git.goossensmichael.utils.LongMemoCache;
 import git.goossensmichael.utils.Pair;
+import git.goossensmichael.utils.SearchIterationEvent;
+import git.goossensmichael.utils.SolverProgress;
+import git.goossensmichael.utils.StateCodec;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -12,30 +18,47 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class Day19 {
+@SolverVersion(1)
+public class Day19 implements Solver<List<Pair<Integer, Map<Day19.RobotType, Day19.RobotBlueprint>>>> {
 
     private static final Logger LOGGER = Logger.getLogger(Day19.class.getName());
-
-    private static long part1(final String[] blueprints) {
-        final List<Pair<Integer, Map<RobotType, RobotBlueprint>>> robotBlueprints = parse(blueprints);
-
-        return robotBlueprints.stream()
-                .mapToLong(robotBlueprint -> robotBlueprint.left() * solve(robotBlueprint.right(), 24))
-                .sum();
+    // The amount of every type of robot and of every resource, in the order of the components of a factory state.
+    private static final StateCodec STATE_CODEC = new StateCodec(6, 6, 6, 6, 10, 10, 10, 10);
+    // Bounds the states kept per blueprint to about 25 MB, an evicted state may be expanded again.
+    private static final int MEMO_CAPACITY = 1 << 20;
+
+    @Override
+    public List<Pair<Integer, Map<RobotType, RobotBlueprint>>> parse(final ByteBuffer input) {
+        return parse(new FastScanner(input));
     }
 
-    private static long solve(final Map<RobotType, RobotBlueprint> factoryBlueprint, final int minutes) {
-        final long begin = System.currentTimeMillis();
+    @Override
+    public Long part1(final List<Pair<Integer, Map<RobotType, RobotBlueprint>>> robotBlueprints) {
+        final LongMemoCache memo = new LongMemoCache(MEMO_CAPACITY);
+        try (SolverProgress progress = SolverProgress.start(19, 1)) {
+            return robotBlueprints.stream()
+                    .mapToLong(robotBlueprint -> robotBlueprint.left() * solve(robotBlueprint.right(), 24, memo, progress))
+                    .sum();
+        }
+    }
 
+    // The memo holds the states seen for the blueprint, it is cleared before every blueprint. The best answer of the
+    // progress is the most geodes of any blueprint so far.
+    private static long solve(final Map<RobotType, RobotBlueprint> factoryBlueprint, final int minutes, final LongMemoCache memo, final SolverProgress progress) {
         final Set<Integer> solution = new HashSet<>();
 
         final Map<RobotType, Integer> maxAmountOfRobotsNeeded = getMaxAmountOfRobotsNeeded(factoryBlueprint);
-        final Set<FactoryState> memo = new HashSet<>();
+        memo.clear();
         final Set<FactoryState> states = new HashSet<>();
         // Initial state
         states.add(new FactoryState(1, 0, 0, 0 , 0, 0, 0, 0));
+        progress.frontier(1);
         int i = 0;
+        long statesExplored = 0;
         while (i <= minutes) {
+            final SearchIterationEvent event = SearchIterationEvent.begin(19);
+            final int memoSize = memo.size();
+            final int frontierSize = states.size();
             final List<FactoryState> newStates = new ArrayList<>();
             for (final FactoryState state : states) {
                 // Only treat states that have not reached the 24th minute yet.
@@ -46,13 +69,13 @@ public class Day19 {
                             state.ore() + state.oreRobots(), state.clay() + state.clayRobots(),
                             state.obsidian() + state.obsidianRobots(), state.geodes() + state.geodeRobots());
                     newStates.add(noConstructionState);
-                    memo.add(noConstructionState);
+                    memo.put(noConstructionState.key(), 0);
 
                     possibleStates(state, factoryBlueprint, maxAmountOfRobotsNeeded).stream()
                             .map(s -> addResources(s, state))
-                            .filter(s -> !memo.contains(s))
+                            .filter(s -> !memo.containsKey(s.key()))
                             .forEach(s -> {
-                                memo.add(s);
+                                memo.put(s.key(), 0);
                                 newStates.add(s);
                             });
 
@@ -71,10 +94,20 @@ public class Day19 {
                     // This is of course faster. But I don't know why the value - 2 is needed. Probably depends on the input.
                     //.filter(newState -> newState.geodes() >= maxGeodes - 2)
                     .toList());
+            statesExplored += newStates.size();
+            event.finish(i, statesExplored, memo.size(), states.size());
+            progress.expanded(newStates.size());
+            progress.memoized(memo.size() - memoSize);
+            progress.frontier(states.size() - frontierSize);
             i++;
         }
+        progress.memoized(-memo.size());
+        progress.frontier(-states.size());
 
-        return solution.stream().mapToInt(n -> n).max().orElseThrow();
+        final int geodes = solution.stream().mapToInt(n -> n).max().orElseThrow();
+        progress.best(geodes);
+
+        return geodes;
     }
 
     private static boolean isStillInTheRunning(final int maxGeodes, final int maxGeodesToFarm, final FactoryState newState) {
@@ -125,59 +158,60 @@ public class Day19 {
         };
     }
 
-    private static List<Pair<Integer, Map<RobotType, RobotBlueprint>>> parse(final String[] blueprints) {
-        return Arrays.stream(blueprints).map(Day19::toRobotBlueprint).toList();
+    private static List<Pair<Integer, Map<RobotType, RobotBlueprint>>> parse(final FastScanner scanner) {
+        final List<Pair<Integer, Map<RobotType, RobotBlueprint>>> blueprints = new ArrayList<>();
+        while (scanner.nextRecord()) {
+            blueprints.add(toRobotBlueprint(scanner));
+            scanner.nextLine();
+        }
+
+        return blueprints;
     }
 
-    private static Pair<Integer, Map<RobotType, RobotBlueprint>> toRobotBlueprint(final String robotBlueprint) {
+    // The costs are listed in a fixed order: ore, clay, obsidian and geode robot.
+    private static Pair<Integer, Map<RobotType, RobotBlueprint>> toRobotBlueprint(final FastScanner scanner) {
         final Map<RobotType, RobotBlueprint> robotBlueprints = new HashMap<>(4);
 
+        final int blueprintId = scanner.nextInt();
+
         {
-            final int ore = extractResource(robotBlueprint, robotBlueprint.indexOf("ore robot") + 16,
-                                    robotBlueprint.indexOf("clay robot") - 11);
+            final int ore = scanner.nextInt();
             robotBlueprints.put(RobotType.ORE_COLLECTING, new RobotBlueprint(RobotType.ORE_COLLECTING, ore, 0, 0));
         }
 
         {
-            final int ore = extractResource(robotBlueprint, robotBlueprint.indexOf("clay robot") + 17,
-                    robotBlueprint.indexOf("obsidian robot") - 11);
+            final int ore = scanner.nextInt();
             robotBlueprints.put(RobotType.CLAY_COLLECTING, new RobotBlueprint(RobotType.CLAY_COLLECTING, ore, 0, 0));
         }
 
         {
-            final int ore = extractResource(robotBlueprint, robotBlueprint.indexOf("obsidian robot") + 21,
-                    robotBlueprint.indexOf("ore and") - 1);
-            final int clay = extractResource(robotBlueprint, robotBlueprint.indexOf("ore and") + 8,
-                    robotBlueprint.indexOf("geode robot") - 12);
+            final int ore = scanner.nextInt();
+            final int clay = scanner.nextInt();
             robotBlueprints.put(RobotType.OBSIDIAN_COLLECTING, new RobotBlueprint(RobotType.OBSIDIAN_COLLECTING, ore, clay, 0));
         }
 
         {
-            final int ore = extractResource(robotBlueprint, robotBlueprint.indexOf("geode robot") + 18,
-                    robotBlueprint.lastIndexOf("ore and") - 1);
-            final int obsidian = extractResource(robotBlueprint, robotBlueprint.lastIndexOf("ore and") + 8,
-                    robotBlueprint.lastIndexOf("obsidian") - 1);
+            final int ore = scanner.nextInt();
+            final int obsidian = scanner.nextInt();
             robotBlueprints.put(RobotType.GEODE_CRACKING, new RobotBlueprint(RobotType.GEODE_CRACKING, ore, 0, obsidian));
         }
 
-        final int blueprintId = extractResource(robotBlueprint, 10, robotBlueprint.indexOf(':'));
-
         return new Pair<>(blueprintId, robotBlueprints);
     }
 
-    private static int extractResource(final String robotBlueprint, final int from, final int to) {
-        return Integer.parseInt(robotBlueprint.substring(from, to));
-    }
-
-    private static long part2(final String[] blueprints) {
-        final List<Pair<Integer, Map<RobotType, RobotBlueprint>>> robotBlueprints = parse(blueprints).subList(0, Math.min(blueprints.length, 3));
+    @Override
+    public Long part2(final List<Pair<Integer, Map<RobotType, RobotBlueprint>>> blueprints) {
+        final List<Pair<Integer, Map<RobotType, RobotBlueprint>>> robotBlueprints = blueprints.subList(0, Math.min(blueprints.size(), 3));
 
-        return robotBlueprints.stream()
-                .mapToLong(robotBlueprint -> solve(robotBlueprint.right(), 32))
-                .reduce(1, (acc, p) -> acc * p);
+        final LongMemoCache memo = new LongMemoCache(MEMO_CAPACITY);
+        try (SolverProgress progress = SolverProgress.start(19, 2)) {
+            return robotBlueprints.stream()
+                    .mapToLong(robotBlueprint -> solve(robotBlueprint.right(), 32, memo, progress))
+                    .reduce(1, (acc, p) -> acc * p);
+        }
     }
 
-    private enum RobotType {
+    enum RobotType {
         GEODE_CRACKING,
         OBSIDIAN_COLLECTING,
         CLAY_COLLECTING,
@@ -185,18 +219,13 @@ public class Day19 {
     }
 
     private record FactoryState(int oreRobots, int clayRobots, int obsidianRobots, int geodeRobots, int ore, int clay, int obsidian, int geodes) {
-        @Override
-        public boolean equals(final Object other) {
-            final boolean equals;
-            if (other instanceof FactoryState state) {
-                equals = oreRobots == state.oreRobots && clayRobots == state.clayRobots &&
-                        obsidianRobots == state.obsidianRobots && geodeRobots == state.geodeRobots &&
-                        ore == state.ore && clay == state.clay && obsidian == state.obsidian;
-            } else {
-                equals = false;
-            }
 
-            return equals;
+        long key() {
+            // Field by field, packing all eight at once would allocate an array for every state.
+            return STATE_CODEC.field(0, oreRobots) | STATE_CODEC.field(1, clayRobots)
+                    | STATE_CODEC.field(2, obsidianRobots) | STATE_CODEC.field(3, geodeRobots)
+                    | STATE_CODEC.field(4, ore) | STATE_CODEC.field(5, clay)
+                    | STATE_CODEC.field(6, obsidian) | STATE_CODEC.field(7, geodes);
         }
 
         public boolean canSkip(final Map<RobotType, RobotBlueprint> factoryBlueprint, Map<RobotType, Integer> maxRobotsNeeded) {
@@ -206,7 +235,7 @@ public class Day19 {
         }
     }
 
-    private record RobotBlueprint(RobotType type, int ore, int clay, int obsidian) {
+    record RobotBlueprint(RobotType type, int ore, int clay, int obsidian) {
         private boolean canBeMade(final FactoryState state) {
             return state.ore() >= ore && state.clay() >= clay && state.obsidian() >= obsidian;
         }
@@ -232,66 +261,30 @@ public class Day19 {
     public static void main(final String[] args) {
 
         // Parsing input
-        final var testInput = TST_INPUT.split("\n");
-        final var input = INPUT.split("\n");
+        final Day19 solver = new Day19();
+        final var testInput = solver.parse(Inputs.resource("day19-test.txt"));
+        final var input = solver.parse(solver.input());
 
         {
             final var expectedResult = 33;
-            final var part1 = part1(testInput);
+            final var part1 = solver.part1(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 1: %d", part1));
 
             if (expectedResult == part1) {
-                final var result = part1(input);
+                final var result = solver.part1(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 1: %d", result));
             }
         }
 
         {
             final var expectedResult = 3472;
-            final var testResult = part2(testInput);
+            final var testResult = solver.part2(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 2: %d", testResult));
 
             if (expectedResult == testResult) {
-                final var result = part2(input);
+                final var result = solver.part2(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 2: %d", result));
             }
         }
     }
-    private static final String TST_INPUT = """
-            Blueprint 1: Each ore robot costs 4 ore. Each clay robot costs 2 ore. Each obsidian robot costs 3 ore and 14 clay. Each geode robot costs 2 ore and 7 obsidian.
-            Blueprint 2: Each ore robot costs 2 ore. Each clay robot costs 3 ore. Each obsidian robot costs 3 ore and 8 clay. Each geode robot costs 3 ore and 12 obsidian.
-            """;
-
-    private static final String INPUT = """
-            Blueprint 1: Each ore robot costs 3 ore. Each clay robot costs 3 ore. Each obsidian robot costs 3 ore and 16 clay. Each geode robot costs 3 ore and 20 obsidian.
-            Blueprint 2: Each ore robot costs 4 ore. Each clay robot costs 3 ore. Each obsidian robot costs 4 ore and 20 clay. Each geode robot costs 2 ore and 15 obsidian.
-            Blueprint 3: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 15 clay. Each geode robot costs 3 ore and 8 obsidian.
-            Blueprint 4: Each ore robot costs 3 ore. Each clay robot costs 4 ore. Each obsidian robot costs 2 ore and 15 clay. Each geode robot costs 2 ore and 13 obsidian.
-            Blueprint 5: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 2 ore and 12 clay. Each geode robot costs 3 ore and 15 obsidian.
-            Blueprint 6: Each ore robot costs 2 ore. Each clay robot costs 3 ore. Each obsidian robot costs 3 ore and 11 clay. Each geode robot costs 2 ore and 16 obsidian.
-            Blueprint 7: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 8 clay. Each geode robot costs 2 ore and 15 obsidian.
-            Blueprint 8: Each ore robot costs 3 ore. Each clay robot costs 4 ore. Each obsidian robot costs 2 ore and 11 clay. Each geode robot costs 2 ore and 10 obsidian.
-            Blueprint 9: Each ore robot costs 3 ore. Each clay robot costs 3 ore. Each obsidian robot costs 3 ore and 16 clay. Each geode robot costs 3 ore and 9 obsidian.
-            Blueprint 10: Each ore robot costs 4 ore. Each clay robot costs 2 ore. Each obsidian robot costs 2 ore and 16 clay. Each geode robot costs 2 ore and 8 obsidian.
-            Blueprint 11: Each ore robot costs 3 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 5 clay. Each geode robot costs 3 ore and 12 obsidian.
-            Blueprint 12: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 3 ore and 7 clay. Each geode robot costs 4 ore and 20 obsidian.
-            Blueprint 13: Each ore robot costs 3 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 18 clay. Each geode robot costs 2 ore and 11 obsidian.
-            Blueprint 14: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 20 clay. Each geode robot costs 2 ore and 8 obsidian.
-            Blueprint 15: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 10 clay. Each geode robot costs 2 ore and 7 obsidian.
-            Blueprint 16: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 9 clay. Each geode robot costs 2 ore and 20 obsidian.
-            Blueprint 17: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 17 clay. Each geode robot costs 2 ore and 13 obsidian.
-            Blueprint 18: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 2 ore and 16 clay. Each geode robot costs 4 ore and 16 obsidian.
-            Blueprint 19: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 2 ore and 7 clay. Each geode robot costs 4 ore and 13 obsidian.
-            Blueprint 20: Each ore robot costs 3 ore. Each clay robot costs 3 ore. Each obsidian robot costs 2 ore and 14 clay. Each geode robot costs 3 ore and 17 obsidian.
-            Blueprint 21: Each ore robot costs 3 ore. Each clay robot costs 3 ore. Each obsidian robot costs 3 ore and 19 clay. Each geode robot costs 3 ore and 19 obsidian.
-            Blueprint 22: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 7 clay. Each geode robot costs 2 ore and 16 obsidian.
-            Blueprint 23: Each ore robot costs 3 ore. Each clay robot costs 3 ore. Each obsidian robot costs 3 ore and 19 clay. Each geode robot costs 3 ore and 17 obsidian.
-            Blueprint 24: Each ore robot costs 3 ore. Each clay robot costs 3 ore. Each obsidian robot costs 2 ore and 20 clay. Each geode robot costs 2 ore and 20 obsidian.
-            Blueprint 25: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 14 clay. Each geode robot costs 3 ore and 16 obsidian.
-            Blueprint 26: Each ore robot costs 4 ore. Each clay robot costs 4 ore. Each obsidian robot costs 3 ore and 5 clay. Each geode robot costs 3 ore and 18 obsidian.
-            Blueprint 27: Each ore robot costs 3 ore. Each clay robot costs 4 ore. Each obsidian robot costs 2 ore and 19 clay. Each geode robot costs 2 ore and 12 obsidian.
-            Blueprint 28: Each ore robot costs 2 ore. Each clay robot costs 4 ore. Each obsidian robot costs 4 ore and 15 clay. Each geode robot costs 2 ore and 20 obsidian.
-            Blueprint 29: Each ore robot costs 3 ore. Each clay robot costs 4 ore. Each obsidian robot costs 3 ore and 6 clay. Each geode robot costs 2 ore and 10 obsidian.
-            Blueprint 30: Each ore robot costs 4 ore. Each clay robot costs 3 ore. Each obsidian robot costs 3 ore and 7 clay. Each geode robot costs 3 ore and 9 obsidian.
-            """;
 }
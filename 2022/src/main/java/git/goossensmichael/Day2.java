@@ -1,26 +1,40 @@
 package git.goossensmichael;
+import git.goossensmichael.utils.ByteScan;
+
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
-public class Day2 {
+@SolverVersion(1)
+@AllocationBudget(parse = 40, part1 = 130, part2 = 130)
+public class Day2 implements Solver<String[]> {
 
     public static void main(String[] args) {
-        {
-            final int sum = Arrays.stream(INPUT.split("\n"))
-                    .map(Day2::toRound)
-                    .mapToInt(Round::calculate)
-                    .sum();
+        final Day2 solver = new Day2();
+        final String[] rounds = solver.parse(solver.input());
 
-            System.out.println("Part 1: " + sum);
-        }
+        System.out.println("Part 1: " + solver.part1(rounds));
+        System.out.println("Part 2: " + solver.part2(rounds));
+    }
 
-        {
-            final int sum = Arrays.stream(INPUT.split("\n"))
-                    .map(Day2::toRound2)
-                    .mapToInt(Round::calculate)
-                    .sum();
+    @Override
+    public String[] parse(final ByteBuffer input) {
+        return ByteScan.lines(input);
+    }
 
-            System.out.println("Part 2: " + sum);
-        }
+    @Override
+    public Object part1(final String[] rounds) {
+        return Arrays.stream(rounds)
+                .map(Day2::toRound)
+                .mapToInt(Round::calculate)
+                .sum();
+    }
+
+    @Override
+    public Object part2(final String[] rounds) {
+        return Arrays.stream(rounds)
+                .map(Day2::toRound2)
+                .mapToInt(Round::calculate)
+                .sum();
     }
 
     private static Round toRound(final String round) {
@@ -96,551 +110,4 @@ public class Day2 {
     }
 
     ;
-
-
-    private static final String TST_INPUT = "A Y\n" +
-            "B X\n" +
-            "C Z";
-
-    private static final String INPUT = "A X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "C Y\n" +
-            "B X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "C Y\n" +
-            "C Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "A X\n" +
-            "B X\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A Y\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B Z\n" +
-            "A Z\n" +
-            "B Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "B Z\n" +
-            "B Y\n" +
-            "A Z\n" +
-            "B X\n" +
-            "A Y\n" +
-            "B X\n" +
-            "C X\n" +
-            "B Z\n" +
-            "B X\n" +
-            "C Y\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "C Y\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Y\n" +
-            "A Z\n" +
-            "C Z\n" +
-            "A Z\n" +
-            "B X\n" +
-            "B X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A X\n" +
-            "B Y\n" +
-            "B X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "B X\n" +
-            "A X\n" +
-            "B Z\n" +
-            "C Z\n" +
-            "A Z\n" +
-            "C Z\n" +
-            "B X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Y\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "C Y\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Y\n" +
-            "B X\n" +
-            "C Z\n" +
-            "A Y\n" +
-            "A X\n" +
-            "B Y\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A X\n" +
-            "C Y\n" +
-            "B X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "B Y\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "B Y\n" +
-            "A X\n" +
-            "B Y\n" +
-            "B X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "B X\n" +
-            "A Y\n" +
-            "A X\n" +
-            "C Y\n" +
-            "C Y\n" +
-            "C Y\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "B X\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "C Z\n" +
-            "B X\n" +
-            "A X\n" +
-            "C Y\n" +
-            "C Y\n" +
-            "A Z\n" +
-            "B X\n" +
-            "B Z\n" +
-            "C Y\n" +
-            "B X\n" +
-            "A Y\n" +
-            "B Y\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "B Y\n" +
-            "A Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "C X\n" +
-            "C Y\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "C Y\n" +
-            "C Y\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "C Y\n" +
-            "A Z\n" +
-            "B Y\n" +
-            "A X\n" +
-            "C Y\n" +
-            "B Z\n" +
-            "B X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "A Y\n" +
-            "C X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A Z\n" +
-            "C Z\n" +
-            "A X\n" +
-            "C Y\n" +
-            "B X\n" +
-            "C Y\n" +
-            "C Z\n" +
-            "A Y\n" +
-            "A Z\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Y\n" +
-            "B X\n" +
-            "B X\n" +
-            "C Y\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A Z\n" +
-            "C Y\n" +
-            "B Z\n" +
-            "B X\n" +
-            "C Z\n" +
-            "B X\n" +
-            "B X\n" +
-            "C Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B X\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "B Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "C Y\n" +
-            "B Y\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Y\n" +
-            "B Z\n" +
-            "B X\n" +
-            "A X\n" +
-            "B Z\n" +
-            "B X\n" +
-            "A Y\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "A X\n" +
-            "A X\n" +
-            "C Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "B Y\n" +
-            "A Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "B X\n" +
-            "B Y\n" +
-            "B X\n" +
-            "A X\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "B Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "C Z\n" +
-            "C Z\n" +
-            "B Y\n" +
-            "B X\n" +
-            "B Z\n" +
-            "A X\n" +
-            "A Y\n" +
-            "A X\n" +
-            "C Y\n" +
-            "B X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A Y\n" +
-            "A X\n" +
-            "A Y\n" +
-            "C Z\n" +
-            "A Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "C Z\n" +
-            "C Y\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "C Y\n" +
-            "C Z\n" +
-            "C Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B Z\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "B X\n" +
-            "C X\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "B Y\n" +
-            "C Z\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Y\n" +
-            "B X\n" +
-            "B X\n" +
-            "B X\n" +
-            "C Z\n" +
-            "A Z\n" +
-            "A Y\n" +
-            "B Y\n" +
-            "A X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B Z\n" +
-            "A Y\n" +
-            "B Y\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "C Z\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Y\n" +
-            "A Y\n" +
-            "C Y\n" +
-            "B Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "B Y\n" +
-            "A X\n" +
-            "A Y\n" +
-            "A X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "B X\n" +
-            "A Y\n" +
-            "A X\n" +
-            "A Y\n" +
-            "A Y\n" +
-            "A Z\n" +
-            "B X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "B X\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "B X\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A Y\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A Z\n" +
-            "B Y\n" +
-            "A X\n" +
-            "C Y\n" +
-            "B X\n" +
-            "C X\n" +
-            "C Y\n" +
-            "B Z\n" +
-            "C Y\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "A Y\n" +
-            "B X\n" +
-            "C Z\n" +
-            "B X\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A Z\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "B Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "B Y\n" +
-            "A X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "B X\n" +
-            "A X\n" +
-            "B Y\n" +
-            "A Z\n" +
-            "B X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B X\n" +
-            "A Y\n" +
-            "A X\n" +
-            "A Y\n" +
-            "A Y\n" +
-            "C Z\n" +
-            "B Z\n" +
-            "A X\n" +
-            "B Y\n" +
-            "A X\n" +
-            "C Z\n" +
-            "B X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "A X\n" +
-            "C Z\n" +
-            "C Z\n" +
-            "C Z\n" +
-            "A X\n" +
-            "C Y\n" +
-            "A X\n" +
-            "C X\n" +
-            "C Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "B Z\n" +
-            "A X\n" +
-            "B X\n" +
-            "A Z\n" +
-            "C Y\n" +
-            "A X\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "A Z\n" +
-            "B Z\n" +
-            "B X\n" +
-            "A X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B X\n" +
-            "B X\n";
 }
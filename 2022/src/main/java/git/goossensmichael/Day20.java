@@ -1,27 +1,43 @@
 package git.goossensmichael;
 
+import git.goossensmichael.utils.FastScanner;
+import git.goossensmichael.utils.Inputs;
 import git.goossensmichael.utils.Pair;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
-public class Day20 {
+@SolverVersion(1)
+@AllocationBudget(parse = 15, part1 = 44, part2 = 49)
+public class Day20 implements Solver<List<Long>> {
 
     private static final Logger LOGGER = Logger.getLogger(Day20.class.getName());
 
-    private static long part1(final List<Long> input) {
+    @Override
+    public List<Long> parse(final ByteBuffer input) {
+        final FastScanner scanner = new FastScanner(input);
+        final List<Long> numbers = new ArrayList<>();
+        while (scanner.nextRecord()) {
+            numbers.add(scanner.nextLong());
+        }
+
+        return numbers;
+    }
+
+    @Override
+    public Long part1(final List<Long> input) {
         final EncryptedNumberChain encryptedNumberChain = parsePart1(input);
 
         encryptedNumberChain.decrypt();
         final EncryptedNumberChain.Node zeroNode = encryptedNumberChain.collectNodes().stream().filter(n -> n.number == 0).findFirst().orElseThrow();
 
         EncryptedNumberChain.Node currentNode = zeroNode;
-        int sum = 0;
+        long sum = 0;
         for (int i = 1; i <= 3000; i++) {
             currentNode = currentNode.next;
             if (i % 1000 == 0) {
@@ -46,7 +62,8 @@ public class Day20 {
         return encryptedNumberChain;
     }
 
-    private static long part2(final List<Long> input) {
+    @Override
+    public Long part2(final List<Long> input) {
         final long decryptionKey = 811589153;
         final long mod = input.size() - 1;
         // The decryption key is a prime so modding it will never return zero.
@@ -209,5042 +226,30 @@ public class Day20 {
     public static void main(final String[] args) {
 
         // Parsing input
-        final var testInput = Arrays.stream(TST_INPUT.split("\n")).map(Long::parseLong).toList();
-        final var input = Arrays.stream(INPUT.split("\n")).map(Long::parseLong).toList();
+        final Day20 solver = new Day20();
+        final var testInput = solver.parse(Inputs.resource("day20-test.txt"));
+        final var input = solver.parse(solver.input());
 
         {
             final var expectedResult = 3;
-            final var part1 = part1(testInput);
+            final var part1 = solver.part1(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 1: %d", part1));
 
             if (expectedResult == part1) {
-                final var result = part1(input);
+                final var result = solver.part1(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 1: %d", result));
             }
         }
 
         {
             final var expectedResult = 1623178306L;
-            final var testResult = part2(testInput);
+            final var testResult = solver.part2(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 2: %d", testResult));
 
             if (expectedResult == testResult) {
-                final var result = part2(input);
+                final var result = solver.part2(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 2: %d", result));
             }
         }
     }
-
-    private static final String TST_INPUT = """
-            1
-            2
-            -3
-            3
-            -2
-            0
-            4
-            """;
-
-    private static final String INPUT = """
-            -624
-            8483
-            -251
-            4593
-            -8064
-            9597
-            -1169
-            -7960
-            -5659
-            419
-            1954
-            -1582
-            -2256
-            -5364
-            1728
-            -57
-            2576
-            -2197
-            5898
-            723
-            6609
-            -1352
-            3878
-            9189
-            6069
-            -7928
-            7272
-            3658
-            -1893
-            -9600
-            -8866
-            -1519
-            3785
-            7210
-            -1149
-            -3743
-            -6764
-            -5859
-            -9600
-            9502
-            5315
-            3295
-            -8904
-            8191
-            -5813
-            -6300
-            935
-            -9119
-            2257
-            -6361
-            5755
-            -6858
-            -5128
-            -3450
-            1952
-            8460
-            -3771
-            652
-            -5
-            -8884
-            9144
-            -5676
-            -8931
-            3326
-            1663
-            4297
-            9374
-            -537
-            2162
-            -922
-            7340
-            6051
-            2391
-            -6985
-            2782
-            -3309
-            288
-            4599
-            -6161
-            -7393
-            1572
-            -6314
-            -7085
-            -2763
-            9216
-            4588
-            -1285
-            -8796
-            4414
-            7643
-            -9179
-            -729
-            981
-            -9212
-            2225
-            -1368
-            -5729
-            -658
-            -5957
-            1655
-            2919
-            -3292
-            -7130
-            3785
-            -1321
-            6283
-            -4781
-            6786
-            -6575
-            -2691
-            -3717
-            1751
-            -1901
-            6947
-            2694
-            -3709
-            5439
-            -6314
-            -5110
-            -1749
-            -5117
-            -9999
-            3950
-            2597
-            -2967
-            3292
-            -8753
-            -4704
-            3399
-            29
-            401
-            2058
-            -238
-            -1482
-            -3407
-            2513
-            -1595
-            4389
-            -6170
-            -3867
-            -2725
-            6006
-            3872
-            -3184
-            -3157
-            -570
-            7756
-            -1695
-            -5318
-            7366
-            3812
-            8098
-            1949
-            2969
-            -8165
-            -2863
-            2076
-            -5576
-            -4237
-            -8994
-            -3621
-            -2837
-            4990
-            3197
-            -7253
-            1179
-            -8409
-            7535
-            9228
-            2741
-            -4862
-            -8322
-            -6547
-            -159
-            -1987
-            2685
-            -9821
-            1635
-            9247
-            9926
-            1449
-            -2535
-            938
-            2361
-            1591
-            -8363
-            -5670
-            -8638
-            -3758
-            5470
-            -5647
-            -9108
-            -6436
-            9388
-            -8374
-            -1741
-            -7761
-            5034
-            4983
-            -4488
-            -4653
-            8091
-            -2332
-            4679
-            4792
-            -6574
-            -2038
-            -9137
-            -5086
-            -7620
-            -9869
-            -2254
-            -7575
-            -1507
-            9938
-            -3715
-            7256
-            -6664
-            5534
-            7196
-            -4431
-            -5589
-            3978
-            589
-            -376
-            4416
-            -2842
-            -3218
-            1446
-            7784
-            -6715
-            1572
-            -4238
-            -6367
-            4982
-            -6399
-            3069
-            5643
-            7463
-            -1858
-            5054
-            -8131
-            484
-            5425
-            5378
-            -5540
-            5916
-            -5567
-            -206
-            -6166
-            -3623
-            2151
-            -3370
-            1055
-            -740
-            -9683
-            4910
-            397
-            5757
-            7289
-            -5710
-            9648
-            -8288
-            5875
-            -2213
-            -672
-            5371
-            -8393
-            -1155
-            -904
-            -3051
-            -1689
-            3406
-            -6412
-            -1926
-            2110
-            -6575
-            5318
-            -1776
-            9242
-            -5157
-            8235
-            -1935
-            -9380
-            -9397
-            3367
-            -4086
-            1682
-            2621
-            6621
-            -8687
-            8234
-            9608
-            3198
-            2454
-            -7681
-            -1138
-            2288
-            -2708
-            508
-            -5476
-            1457
-            1643
-            -8376
-            -3612
-            852
-            -9657
-            9131
-            -2639
-            9011
-            -9589
-            4210
-            -4186
-            -6111
-            -2102
-            -8541
-            -2229
-            -1169
-            8744
-            -2267
-            6255
-            571
-            4160
-            -7854
-            9828
-            -5957
-            -852
-            -5970
-            -2233
-            3986
-            6840
-            -1182
-            -4645
-            -9578
-            -5923
-            8501
-            -707
-            -2472
-            4435
-            -8895
-            9760
-            2730
-            -3291
-            -61
-            -3829
-            -670
-            3620
-            8474
-            -7359
-            1236
-            6894
-            -773
-            1170
-            3647
-            -2538
-            -1111
-            3500
-            2651
-            -6300
-            3676
-            -7526
-            -1075
-            -9447
-            -1
-            -1618
-            4677
-            -9146
-            1981
-            -7454
-            -5086
-            -2714
-            -6077
-            -9282
-            8391
-            -9539
-            650
-            2455
-            9786
-            6977
-            -6884
-            -574
-            -1195
-            -589
-            -368
-            -9771
-            9415
-            7283
-            2682
-            -8893
-            -3940
-            -7890
-            9242
-            5836
-            6435
-            8622
-            -8895
-            -2649
-            7416
-            -9027
-            4588
-            -4859
-            6937
-            78
-            -4488
-            8413
-            -2792
-            8700
-            -7392
-            8498
-            6817
-            -5421
-            -3689
-            8238
-            5838
-            8826
-            9289
-            5412
-            3727
-            3168
-            3039
-            -9637
-            2309
-            -9219
-            6241
-            2154
-            6249
-            3205
-            1685
-            -6485
-            9562
-            8407
-            2933
-            -1293
-            -2548
-            4469
-            -5299
-            4022
-            -1179
-            6671
-            9534
-            -7588
-            -5755
-            -7196
-            7030
-            3164
-            -307
-            2070
-            -9705
-            -1889
-            1494
-            3120
-            -6428
-            -8130
-            1618
-            1065
-            2912
-            314
-            -1391
-            -1826
-            -8565
-            -6988
-            -2214
-            5391
-            6249
-            1701
-            7217
-            7911
-            -940
-            -5179
-            -8025
-            -6245
-            -9102
-            8265
-            -9375
-            3463
-            -6867
-            -5656
-            -154
-            -5797
-            -9814
-            3745
-            -3761
-            6481
-            -395
-            -640
-            -5028
-            -6209
-            -3127
-            847
-            6296
-            -4240
-            3186
-            9370
-            9097
-            -2744
-            -3982
-            6674
-            7699
-            2042
-            8410
-            8386
-            -9375
-            -3803
-            6041
-            9683
-            -6286
-            5405
-            8913
-            8622
-            8451
-            3019
-            -3547
-            1650
-            -2583
-            9750
-            5438
-            7643
-            6775
-            -8207
-            -9956
-            -9342
-            -5579
-            4278
-            888
-            4970
-            7949
-            9773
-            -5076
-            -2238
-            3545
-            -9249
-            4328
-            7451
-            3761
-            9264
-            6630
-            3828
-            -5630
-            -9155
-            -7279
-            4200
-            -9951
-            7506
-            -663
-            6691
-            -7862
-            4970
-            2022
-            -1283
-            -7170
-            604
-            4303
-            -5363
-            2428
-            4079
-            -2413
-            4465
-            391
-            3150
-            9824
-            6464
-            -3453
-            6061
-            -9307
-            -9511
-            2684
-            -6937
-            8041
-            9230
-            516
-            9773
-            -7859
-            -7958
-            1875
-            3657
-            -2931
-            9835
-            8888
-            9636
-            4022
-            5779
-            8247
-            -5797
-            6644
-            3200
-            -5647
-            -3011
-            -4707
-            -9358
-            8390
-            -3850
-            -3166
-            6637
-            -3748
-            -2120
-            3212
-            -364
-            7368
-            9083
-            5816
-            5386
-            -206
-            -7988
-            4095
-            -5913
-            3600
-            -3763
-            8682
-            2993
-            171
-            3405
-            8176
-            8043
-            8821
-            -5257
-            4458
-            -2242
-            9153
-            6714
-            3178
-            5627
-            9367
-            1302
-            2615
-            -8291
-            -2512
-            5086
-            -4387
-            1064
-            7114
-            6913
-            -1482
-            -8218
-            4935
-            6719
-            2058
-            -7993
-            -9434
-            -175
-            -8976
-            -1529
-            4386
-            -7580
-            -1016
-            8474
-            617
-            7822
-            4586
-            -9489
-            -5500
-            -2765
-            6618
-            -4105
-            -1913
-            7743
-            -1242
-            -2407
-            -4607
-            1964
-            2983
-            9989
-            -8352
-            1017
-            2888
-            2214
-            -710
-            5852
-            9372
-            6884
-            7763
-            -2197
-            -1339
-            -6476
-            806
-            -7257
-            -4312
-            7826
-            2884
-            8711
-            600
-            6691
-            -5844
-            7156
-            -6721
-            -1032
-            -5196
-            9611
-            -9426
-            2965
-            -5076
-            -4653
-            2296
-            9709
-            -8198
-            3995
-            1782
-            2450
-            -1305
-            -3233
-            3292
-            -804
-            -3771
-            2397
-            5724
-            -4248
-            -2826
-            3501
-            7757
-            9733
-            -6507
-            419
-            6588
-            -7303
-            3612
-            -8200
-            2347
-            6778
-            -7638
-            -2796
-            1701
-            -7228
-            5894
-            -2283
-            413
-            -6469
-            4550
-            -4818
-            -5576
-            5836
-            1316
-            5577
-            -5367
-            -45
-            -61
-            5426
-            -5333
-            -4893
-            -6778
-            6014
-            -1911
-            -2670
-            1409
-            9886
-            -8824
-            -1617
-            -8520
-            -7497
-            4010
-            353
-            1179
-            9242
-            8609
-            -9246
-            9337
-            9090
-            -4846
-            748
-            -1280
-            9680
-            -2744
-            -6023
-            -3522
-            6477
-            -2725
-            -5490
-            6692
-            -1179
-            -9214
-            6077
-            -3433
-            -501
-            -5431
-            -7481
-            4731
-            -9350
-            -2269
-            544
-            2922
-            -1372
-            6077
-            -491
-            5595
-            -2334
-            -3238
-            -4978
-            -6537
-            -773
-            4229
-            9734
-            6943
-            5833
-            6733
-            804
-            5859
-            1103
-            -5713
-            1383
-            164
-            3625
-            676
-            1186
-            -5611
-            -4237
-            8310
-            5614
-            -9066
-            3612
-            921
-            1498
-            -7577
-            3
-            -876
-            1640
-            5127
-            -6477
-            3885
-            -8156
-            -9352
-            -660
-            -4669
-            -374
-            -2373
-            8022
-            -4633
-            -4890
-            -3144
-            4591
-            2182
-            -9658
-            5386
-            -4654
-            -6652
-            1402
-            -5627
-            -5461
-            4523
-            7603
-            7808
-            801
-            -4918
-            -445
-            -4977
-            -8115
-            7284
-            8424
-            -5710
-            6371
-            20
-            -9348
-            -2792
-            4970
-            -17
-            -7468
-            3856
-            7310
-            -6170
-            9693
-            -6806
-            9287
-            -6874
-            7998
-            -5359
-            1703
-            3399
-            1165
-            7842
-            2898
-            -3312
-            4510
-            9918
-            -6780
-            -7723
-            -8074
-            3978
-            1173
-            -4780
-            2492
-            3767
-            7877
-            -5297
-            4470
-            -6134
-            -2434
-            5031
-            -8734
-            7399
-            -1893
-            8802
-            -8498
-            -448
-            -9709
-            -6415
-            2659
-            222
-            -7431
-            9255
-            -3984
-            716
-            -7967
-            -468
-            -1270
-            5544
-            -6985
-            9588
-            -7093
-            7002
-            -8393
-            -9505
-            2637
-            903
-            2193
-            -8954
-            -1988
-            6908
-            -7960
-            -3031
-            5505
-            -1984
-            -8412
-            -8619
-            1555
-            8682
-            -1549
-            6074
-            -7908
-            -4026
-            4102
-            5322
-            -776
-            4981
-            -9102
-            -9207
-            -7145
-            7297
-            -766
-            530
-            -3205
-            7682
-            -3358
-            -2272
-            -4805
-            484
-            2613
-            6866
-            -2607
-            1417
-            -1394
-            -9000
-            5199
-            -1416
-            -1242
-            4145
-            8379
-            -2999
-            -1081
-            5998
-            8204
-            2508
-            1660
-            3766
-            -2632
-            9509
-            4363
-            -4224
-            -3138
-            -3927
-            -5052
-            -3218
-            5615
-            -2885
-            6423
-            -6648
-            -419
-            7887
-            2080
-            2392
-            7772
-            3176
-            -2412
-            9294
-            -456
-            7825
-            -3051
-            -1419
-            8277
-            9378
-            -1925
-            3277
-            -2388
-            4282
-            5721
-            3870
-            -1411
-            -7419
-            4853
-            -6993
-            7805
-            7400
-            -7469
-            1676
-            -222
-            -8471
-            -4931
-            -6025
-            -4369
-            5273
-            -9568
-            -8485
-            6257
-            7190
-            5317
-            -7303
-            3333
-            2882
-            5754
-            -4353
-            4228
-            3100
-            -762
-            1253
-            2111
-            -468
-            8076
-            6280
-            -5791
-            -800
-            -9610
-            4224
-            707
-            -6934
-            5730
-            2454
-            9977
-            8710
-            7035
-            -833
-            -7868
-            -9290
-            -4098
-            4642
-            9577
-            -9956
-            4501
-            8001
-            -676
-            -7884
-            -6997
-            9294
-            1632
-            2413
-            6611
-            4516
-            1589
-            7871
-            977
-            7357
-            -8357
-            3157
-            -9027
-            -2974
-            5701
-            1228
-            4198
-            -7764
-            9835
-            -7532
-            4316
-            2822
-            3870
-            7596
-            -6833
-            -1805
-            239
-            -4653
-            5134
-            2264
-            -744
-            425
-            7842
-            726
-            9493
-            6375
-            9886
-            -9352
-            9499
-            -9428
-            7366
-            7789
-            3939
-            4099
-            998
-            -9940
-            1547
-            -5372
-            -9999
-            -9188
-            8880
-            6196
-            4550
-            -8563
-            6991
-            5773
-            1121
-            8238
-            -9980
-            2502
-            8126
-            7579
-            -398
-            -2549
-            -3560
-            5347
-            -7370
-            -8655
-            -9666
-            2885
-            -6388
-            1994
-            -8333
-            -9119
-            -5481
-            4263
-            6606
-            -5597
-            5462
-            8699
-            -2932
-            -286
-            -5110
-            1395
-            8699
-            1515
-            3381
-            4394
-            -8401
-            -5285
-            608
-            -7246
-            -1229
-            8758
-            -1217
-            -9212
-            3330
-            -2209
-            -9082
-            -6991
-            9635
-            -6061
-            -3171
-            1994
-            -5527
-            8311
-            -3898
-            -8878
-            96
-            -6364
-            8654
-            -5437
-            -6354
-            -5052
-            -9293
-            -8826
-            -9241
-            -5112
-            7093
-            99
-            -2798
-            8001
-            -1793
-            3785
-            -3581
-            4871
-            -3216
-            2363
-            -3269
-            2345
-            4117
-            -364
-            -5534
-            3530
-            -2949
-            -8062
-            -870
-            -8114
-            386
-            -6631
-            6179
-            1751
-            -4672
-            -9273
-            8517
-            -837
-            3050
-            3015
-            -312
-            -3482
-            -8582
-            -5656
-            -9850
-            2482
-            4731
-            -9233
-            2444
-            1736
-            4553
-            4667
-            8758
-            -607
-            5199
-            -5377
-            3531
-            -9256
-            -4444
-            -4821
-            -6279
-            -6577
-            5462
-            -374
-            3349
-            9027
-            -717
-            8509
-            -6189
-            -2974
-            9415
-            -5156
-            -2542
-            1663
-            -2413
-            7779
-            -7085
-            5357
-            -9589
-            -9980
-            -7410
-            4827
-            6185
-            1699
-            -7803
-            -4992
-            -8388
-            -2801
-            -9089
-            7781
-            -2304
-            2852
-            -1348
-            -9009
-            4003
-            -9290
-            -9137
-            -6745
-            -4009
-            -4135
-            -7892
-            -4039
-            102
-            2379
-            -5404
-            6931
-            6473
-            3267
-            -7747
-            -7503
-            7240
-            544
-            -9124
-            7579
-            -5617
-            368
-            5438
-            -6973
-            -7781
-            -7170
-            -5285
-            4185
-            7441
-            -8450
-            4530
-            -5166
-            6202
-            888
-            -9634
-            -3868
-            -4865
-            833
-            -2864
-            2228
-            -1135
-            5081
-            3894
-            -5697
-            -3257
-            -1102
-            655
-            -904
-            8830
-            1301
-            9409
-            -1155
-            -7535
-            1208
-            291
-            6644
-            9069
-            -8798
-            3559
-            564
-            -8321
-            7316
-            -6770
-            2893
-            5206
-            8991
-            7441
-            -2002
-            6
-            -9461
-            5386
-            -4331
-            -4613
-            -7702
-            -4936
-            -7994
-            2919
-            4405
-            -7237
-            -9038
-            2015
-            8726
-            1189
-            -4271
-            902
-            -6716
-            -5369
-            5701
-            -695
-            4737
-            5086
-            -182
-            1052
-            -9526
-            2363
-            8644
-            8423
-            931
-            8352
-            -8020
-            -3002
-            3306
-            -6133
-            9964
-            6591
-            5356
-            -1990
-            2920
-            -3048
-            -3364
-            -6836
-            4923
-            -1706
-            5895
-            -5990
-            3978
-            7685
-            -5076
-            485
-            8024
-            1195
-            -5576
-            5486
-            7853
-            -1935
-            -5191
-            2454
-            3562
-            34
-            2646
-            5724
-            1
-            -1442
-            -5962
-            -6407
-            -459
-            -5218
-            5176
-            -3309
-            -7960
-            7839
-            6196
-            -4028
-            1494
-            2577
-            1832
-            4346
-            -3027
-            4919
-            -8817
-            -8818
-            -1721
-            -1166
-            -1158
-            -5168
-            -5990
-            5693
-            -2077
-            3283
-            6958
-            1719
-            -6361
-            3962
-            -4149
-            1549
-            8422
-            -8061
-            1048
-            -6568
-            -3636
-            -1545
-            2070
-            -3308
-            8746
-            6299
-            5120
-            4701
-            -9607
-            2514
-            852
-            4619
-            2058
-            -482
-            -8118
-            7408
-            -9489
-            4660
-            5562
-            9279
-            -5862
-            -776
-            -7422
-            2664
-            -1085
-            1236
-            -2803
-            -930
-            -8262
-            3351
-            8475
-            4446
-            -4341
-            -5114
-            -9743
-            1572
-            6593
-            4039
-            8969
-            -8453
-            -5247
-            3824
-            -3592
-            -3394
-            1822
-            4311
-            8810
-            8365
-            4183
-            -8364
-            -8003
-            -8898
-            -749
-            -7151
-            6533
-            9070
-            5336
-            1543
-            -1042
-            -9836
-            4730
-            4022
-            9645
-            -8463
-            3139
-            3603
-            1002
-            6588
-            6521
-            -450
-            -9259
-            1705
-            540
-            4617
-            9539
-            -7204
-            -6349
-            -3233
-            8838
-            5918
-            510
-            -5097
-            -3092
-            -3767
-            -8929
-            -7641
-            -2437
-            -5482
-            1990
-            -8009
-            8996
-            6494
-            -7878
-            3886
-            9424
-            -6342
-            285
-            -3918
-            8038
-            6844
-            -3100
-            -7196
-            1179
-            9676
-            1853
-            9887
-            3481
-            6020
-            -6798
-            -8955
-            648
-            2115
-            6536
-            1069
-            5411
-            -2458
-            1646
-            4631
-            -7264
-            2880
-            -5815
-            6434
-            -7471
-            7662
-            7023
-            -4206
-            9264
-            -7181
-            9761
-            9833
-            401
-            9284
-            -1137
-            8040
-            8329
-            8802
-            1808
-            4026
-            5733
-            8528
-            420
-            433
-            1896
-            -9527
-            6969
-            -2067
-            -570
-            3095
-            1001
-            4064
-            8285
-            6439
-            -2825
-            -5697
-            -8669
-            -5082
-            -8569
-            7866
-            6143
-            2101
-            -557
-            5077
-            -3200
-            -3153
-            -121
-            -9683
-            7663
-            -2583
-            -1173
-            -8819
-            -1495
-            -1352
-            7295
-            8333
-            5053
-            -6823
-            8820
-            5201
-            -9861
-            -6517
-            -3208
-            -4160
-            2188
-            7295
-            -6220
-            2486
-            -2577
-            -6670
-            -710
-            3619
-            -4915
-            8483
-            7035
-            2488
-            -3298
-            3797
-            -232
-            6597
-            -4431
-            -6040
-            -7181
-            -3734
-            691
-            -8497
-            -5142
-            -1685
-            9144
-            -4445
-            4817
-            -8232
-            2847
-            -3282
-            -3421
-            -8061
-            -7204
-            -6662
-            6591
-            -1400
-            -5973
-            5793
-            -4532
-            -5789
-            -9109
-            -8061
-            3927
-            625
-            -1462
-            -5202
-            8004
-            3331
-            8371
-            -3157
-            -6434
-            2196
-            -4712
-            2454
-            6346
-            2431
-            8290
-            -6698
-            -2766
-            -9905
-            -5330
-            2701
-            5995
-            4311
-            6523
-            -800
-            -3341
-            699
-            4971
-            6991
-            -5685
-            -2472
-            -1512
-            -6721
-            -795
-            4569
-            -9659
-            -9945
-            1223
-            -191
-            1939
-            20
-            6528
-            6296
-            9760
-            -1324
-            5971
-            -9174
-            -7779
-            9502
-            -8445
-            345
-            472
-            5
-            5881
-            -9171
-            -647
-            2071
-            148
-            5770
-            3600
-            -5671
-            4751
-            -3390
-            -4114
-            5134
-            986
-            6565
-            -3823
-            -5386
-            1779
-            -3521
-            9377
-            5216
-            9835
-            -4315
-            -2493
-            -2019
-            3192
-            -570
-            -1893
-            7498
-            -7153
-            -6350
-            704
-            2861
-            -4105
-            2794
-            -5157
-            -8235
-            7081
-            -5103
-            -2223
-            -9231
-            4619
-            4856
-            -5079
-            6570
-            -2470
-            -2479
-            7784
-            -3292
-            -6993
-            8826
-            8630
-            -7820
-            -2744
-            -6778
-            8306
-            6781
-            -4893
-            2822
-            -3002
-            4731
-            5462
-            3269
-            -8576
-            -3250
-            -9
-            8063
-            -6413
-            -5797
-            -3895
-            -7262
-            -3679
-            -937
-            5132
-            -7663
-            -7735
-            -6614
-            -8650
-            7873
-            9362
-            5698
-            5875
-            542
-            -3044
-            -1233
-            3241
-            204
-            -9603
-            -4028
-            3703
-            -6407
-            -1269
-            9249
-            2593
-            1887
-            1984
-            -1283
-            -9837
-            5696
-            3891
-            -9856
-            3150
-            5738
-            -2334
-            3443
-            5332
-            -2537
-            5675
-            3867
-            -5873
-            -5393
-            -9162
-            7722
-            703
-            8688
-            3573
-            3672
-            478
-            4211
-            -2890
-            8882
-            -9268
-            391
-            4355
-            -1655
-            -378
-            -494
-            -6514
-            -4402
-            -5157
-            7995
-            2759
-            9055
-            -5281
-            -4326
-            7511
-            -2737
-            -8221
-            6940
-            -1652
-            7676
-            -1507
-            3981
-            5861
-            -6272
-            -5457
-            5664
-            5273
-            4022
-            6560
-            9657
-            9242
-            -7000
-            -9891
-            -5028
-            -203
-            -9650
-            4881
-            5656
-            1688
-            2022
-            -4886
-            1812
-            5693
-            5368
-            -9279
-            -9469
-            5270
-            -4264
-            2659
-            -7406
-            -7493
-            6394
-            -4237
-            -4039
-            9678
-            -3144
-            -5207
-            3635
-            4586
-            -3992
-            -6255
-            -8517
-            4139
-            -7581
-            -4805
-            -5437
-            -3266
-            -392
-            8004
-            9767
-            -6103
-            8870
-            -2685
-            -3126
-            1551
-            -8624
-            -1774
-            -9352
-            6442
-            4555
-            3007
-            1415
-            8045
-            7030
-            -8693
-            -7145
-            1870
-            1710
-            -8426
-            -5813
-            -4108
-            3545
-            8949
-            -4630
-            4021
-            -6443
-            -740
-            7367
-            -1925
-            -7068
-            6844
-            2279
-            1331
-            -7497
-            9522
-            -5868
-            6564
-            6781
-            1761
-            3785
-            -5699
-            9013
-            -4619
-            -5856
-            -299
-            5273
-            -6735
-            -249
-            -7292
-            -5540
-            -6869
-            -7431
-            -212
-            -420
-            1960
-            -7882
-            -9741
-            -1067
-            -2696
-            7603
-            3057
-            -7039
-            -74
-            748
-            -3507
-            2203
-            -9136
-            8810
-            5373
-            -7178
-            -4633
-            685
-            7782
-            -3507
-            7080
-            -4309
-            -3138
-            -6750
-            8802
-            -4240
-            8126
-            5183
-            9915
-            8945
-            4418
-            5680
-            1
-            1484
-            -7410
-            -3228
-            1132
-            5870
-            -7995
-            -4360
-            1906
-            -3838
-            2717
-            8904
-            8552
-            -7892
-            -7189
-            -2564
-            -4911
-            -3641
-            9001
-            -5913
-            -769
-            6241
-            2174
-            4922
-            7957
-            8451
-            3711
-            7784
-            -1030
-            2593
-            -1917
-            -9936
-            -4562
-            -9676
-            -4913
-            -5289
-            -1803
-            -2726
-            3885
-            -1501
-            -7532
-            -5202
-            9674
-            8310
-            5754
-            9546
-            -4002
-            7410
-            2125
-            -6436
-            -1217
-            -7928
-            -9568
-            4989
-            4501
-            7093
-            4005
-            -2140
-            -8297
-            7366
-            8608
-            -2877
-            -8084
-            -2090
-            2488
-            2571
-            9738
-            -6061
-            -5618
-            -1233
-            -3257
-            3949
-            9449
-            -2594
-            4965
-            -3022
-            2708
-            -7884
-            8390
-            -1555
-            -385
-            -8620
-            -8363
-            -6799
-            -60
-            -1646
-            9326
-            9709
-            -3174
-            -7040
-            -9397
-            5176
-            -2660
-            -9375
-            -6280
-            -4315
-            5186
-            9887
-            -7319
-            8575
-            -6535
-            2288
-            -5526
-            8257
-            4628
-            7967
-            4800
-            4215
-            -2606
-            780
-            5219
-            1694
-            -1773
-            -1987
-            2058
-            6533
-            -5334
-            8568
-            -2055
-            -5352
-            -6350
-            -4780
-            -1440
-            5826
-            -8771
-            -3893
-            7940
-            -6708
-            -1172
-            -9236
-            9544
-            -7419
-            3044
-            -7245
-            -4821
-            -3031
-            -6815
-            -3709
-            62
-            -5300
-            5990
-            9326
-            108
-            -7146
-            1084
-            3891
-            -5216
-            -3754
-            -6626
-            -9317
-            -5709
-            -9375
-            1875
-            6698
-            8886
-            7615
-            -898
-            9072
-            9659
-            -9241
-            -6855
-            -5710
-            1672
-            9864
-            -5071
-            5315
-            -2983
-            -3546
-            -2832
-            -3208
-            -102
-            -4495
-            8022
-            9007
-            2290
-            -6742
-            5416
-            5622
-            -257
-            6410
-            -7761
-            -5130
-            3404
-            7097
-            -2332
-            -2945
-            -3507
-            5030
-            -5943
-            6787
-            4881
-            2918
-            5971
-            960
-            350
-            -3544
-            6409
-            4281
-            837
-            -9427
-            -6434
-            -5110
-            -6909
-            6383
-            -9045
-            5438
-            6283
-            9674
-            5079
-            8536
-            6435
-            6842
-            -9085
-            4181
-            1777
-            -3298
-            -2311
-            -1012
-            5612
-            5406
-            9537
-            -1304
-            686
-            -3825
-            5182
-            2742
-            6639
-            5443
-            9436
-            8581
-            5355
-            -7964
-            -9577
-            1302
-            -5269
-            -7363
-            -2618
-            -8413
-            -6556
-            4607
-            3874
-            -2801
-            4279
-            -7015
-            -1263
-            8273
-            -1155
-            1227
-            515
-            -5990
-            2503
-            4176
-            -1146
-            7743
-            -9207
-            7367
-            8026
-            9489
-            2615
-            9988
-            4856
-            -378
-            -1517
-            -9448
-            7163
-            270
-            -4862
-            4076
-            8830
-            -4925
-            -2864
-            5756
-            6856
-            3008
-            -7368
-            -7219
-            -1835
-            8386
-            7902
-            3379
-            -6022
-            2651
-            4693
-            -251
-            -5213
-            -3761
-            -7798
-            -5088
-            -3581
-            -8726
-            0
-            2178
-            -695
-            5971
-            4742
-            8378
-            -2272
-            1640
-            -6960
-            889
-            -1270
-            8029
-            6570
-            -7688
-            -2696
-            2113
-            -445
-            -387
-            1628
-            -6778
-            -505
-            8498
-            -6648
-            -8459
-            -9803
-            -5489
-            4027
-            218
-            -3621
-            6316
-            -1680
-            8946
-            -9175
-            -6890
-            3685
-            145
-            -4675
-            -814
-            -1998
-            9531
-            -8393
-            6578
-            -3727
-            6439
-            -1788
-            3868
-            2571
-            2361
-            -8111
-            -2473
-            1335
-            -3624
-            -5772
-            -57
-            6457
-            8895
-            297
-            -6577
-            650
-            6196
-            -1481
-            -3031
-            847
-            9211
-            8457
-            -5587
-            9856
-            -2121
-            1514
-            2439
-            8557
-            -870
-            -2439
-            2259
-            -2092
-            -6938
-            7871
-            5199
-            9272
-            -4243
-            -6848
-            -5862
-            3973
-            -4504
-            -696
-            9546
-            568
-            -1400
-            -8003
-            2714
-            7380
-            -2272
-            -6434
-            -887
-            -970
-            554
-            5004
-            525
-            -2813
-            8451
-            7669
-            7431
-            9453
-            -9117
-            2671
-            -1687
-            6629
-            6004
-            -15
-            9870
-            -7171
-            -7416
-            -6796
-            -6065
-            -7434
-            8622
-            9740
-            9678
-            1076
-            -4206
-            -1076
-            2164
-            -6493
-            6798
-            -4515
-            5354
-            2469
-            -832
-            -5963
-            4836
-            -3992
-            -601
-            -1708
-            9070
-            -5216
-            6594
-            -3257
-            3530
-            2503
-            -8876
-            5210
-            -643
-            8721
-            -8232
-            -8771
-            2483
-            4535
-            -7303
-            -7221
-            -3353
-            -7246
-            -1220
-            -1102
-            8460
-            -1203
-            -679
-            -6007
-            8317
-            -6209
-            3922
-            -5500
-            -9259
-            -8445
-            3795
-            -7733
-            -7532
-            -6928
-            -4003
-            9828
-            -1285
-            -664
-            -7117
-            -4149
-            -9864
-            -1893
-            -9306
-            -7967
-            -7145
-            5977
-            -7068
-            -7496
-            -1652
-            -4645
-            9140
-            2445
-            8715
-            3933
-            -6434
-            5689
-            -3238
-            2673
-            -9424
-            4472
-            -3299
-            -3341
-            7716
-            -3934
-            -2924
-            -5458
-            -4607
-            3149
-            8746
-            -1576
-            8398
-            5570
-            -8943
-            -1942
-            -3904
-            -3190
-            -6900
-            -2008
-            -2512
-            5801
-            4826
-            -8039
-            2961
-            7760
-            7091
-            -4310
-            3933
-            9005
-            -2676
-            -11
-            -59
-            -9723
-            2503
-            1103
-            -9603
-            -1339
-            -2397
-            7743
-            8737
-            -8663
-            8473
-            2309
-            6889
-            6712
-            7665
-            7093
-            -7761
-            7432
-            9642
-            7009
-            -3759
-            -1721
-            875
-            -4350
-            7557
-            2941
-            964
-            -7211
-            6899
-            -2838
-            -9657
-            -5659
-            9704
-            -9599
-            1556
-            -874
-            4430
-            6495
-            -3898
-            119
-            -1867
-            5040
-            -8879
-            -6139
-            -8731
-            2740
-            7263
-            -8867
-            6439
-            1638
-            3767
-            -8920
-            6674
-            -8003
-            5741
-            7152
-            -4696
-            5132
-            -9130
-            4759
-            -6945
-            -8454
-            -3153
-            8975
-            -523
-            2062
-            -7159
-            603
-            5745
-            -6884
-            -1419
-            4550
-            -2272
-            4922
-            7726
-            5462
-            734
-            2161
-            319
-            -2877
-            9704
-            -8601
-            7922
-            -2670
-            -7425
-            -5
-            -2838
-            -5946
-            8711
-            8353
-            3872
-            -5465
-            1203
-            7221
-            6259
-            -6001
-            6311
-            8412
-            -9003
-            -5269
-            9923
-            -2460
-            -5779
-            7368
-            -2193
-            7453
-            -1430
-            -3494
-            504
-            4311
-            -2811
-            -356
-            886
-            807
-            -7090
-            -9526
-            1066
-            1632
-            -9791
-            -9379
-            -692
-            -5704
-            -9512
-            3519
-            -3995
-            -2549
-            9370
-            -8333
-            -5081
-            3643
-            6749
-            -1653
-            9760
-            -8067
-            8285
-            -4296
-            -1537
-            3051
-            7094
-            3645
-            -8931
-            8131
-            5356
-            806
-            -3197
-            5389
-            6440
-            9837
-            -3442
-            8425
-            -2895
-            -5334
-            -9388
-            -9770
-            -8457
-            -8867
-            5442
-            7322
-            7246
-            1563
-            6995
-            5765
-            3259
-            -23
-            -8062
-            7995
-            -617
-            5152
-            297
-            1052
-            -4644
-            761
-            868
-            -6917
-            9630
-            -2587
-            1408
-            2822
-            -4913
-            4311
-            -614
-            5118
-            8948
-            8611
-            -9360
-            3785
-            -9027
-            -2778
-            2787
-            -9426
-            -712
-            1431
-            3647
-            4244
-            6508
-            -1373
-            6762
-            9822
-            -9827
-            7139
-            5534
-            -1860
-            6713
-            945
-            8670
-            -8565
-            1059
-            -7410
-            62
-            -8656
-            4089
-            913
-            297
-            -8409
-            3022
-            -1064
-            1759
-            -2416
-            -1893
-            -9390
-            -6637
-            -7454
-            1069
-            9307
-            -8819
-            9024
-            -1361
-            87
-            -1127
-            2685
-            -6670
-            -5156
-            -8475
-            -9120
-            -8217
-            -9336
-            5034
-            -9158
-            -7275
-            1139
-            -814
-            7076
-            7772
-            -9610
-            -696
-            5029
-            1515
-            -8232
-            1795
-            3165
-            9020
-            -6361
-            2621
-            6707
-            651
-            2012
-            -650
-            8423
-            4788
-            7030
-            -1829
-            -5529
-            8880
-            -7919
-            7853
-            -9046
-            4322
-            -3243
-            4572
-            -574
-            -3560
-            -3928
-            -1343
-            -8291
-            -793
-            350
-            9611
-            -2060
-            -640
-            -4613
-            -5184
-            5529
-            9069
-            5745
-            9678
-            -4520
-            5176
-            4573
-            203
-            89
-            -9124
-            9121
-            425
-            -3228
-            3600
-            7967
-            -1981
-            -9044
-            -4792
-            -7767
-            9071
-            -7828
-            -5352
-            -1492
-            -3257
-            -8849
-            6113
-            -5720
-            4971
-            -9123
-            -2007
-            -251
-            -9741
-            4820
-            9833
-            -1329
-            5568
-            -9556
-            -4673
-            -9140
-            -9358
-            -1311
-            -6266
-            -5833
-            2875
-            -7956
-            9476
-            -7783
-            307
-            88
-            5638
-            7634
-            -2047
-            -6817
-            -7960
-            8685
-            1039
-            1308
-            -246
-            9970
-            -940
-            7392
-            8037
-            4064
-            -5518
-            -3138
-            97
-            -2394
-            4759
-            4756
-            -8558
-            -8898
-            -9188
-            5833
-            -381
-            -395
-            -2789
-            -9906
-            -3450
-            225
-            -2015
-            4301
-            -7511
-            -479
-            251
-            -3278
-            7498
-            2331
-            9149
-            -2290
-            7862
-            -9156
-            -4098
-            -1141
-            -5946
-            7030
-            -3565
-            3356
-            -7201
-            5031
-            -2458
-            2576
-            -7658
-            9502
-            -3542
-            -4268
-            536
-            5256
-            -3216
-            -4925
-            -5387
-            7877
-            -8025
-            -1492
-            -1563
-            6312
-            -7402
-            2905
-            7763
-            -3266
-            450
-            1331
-            -3355
-            1902
-            -7745
-            -8650
-            -2512
-            7167
-            -8391
-            -7122
-            -9045
-            4861
-            -4776
-            -4447
-            -3407
-            -4064
-            -4362
-            -8501
-            -3228
-            -5757
-            1350
-            -2933
-            1062
-            -6915
-            -4883
-            5439
-            3581
-            -6620
-            -2152
-            1869
-            -572
-            -9408
-            -9416
-            9113
-            -5352
-            -1127
-            9505
-            -4275
-            8271
-            -9902
-            6283
-            -9899
-            4346
-            -5661
-            194
-            -3117
-            7967
-            -2067
-            1983
-            -3443
-            3778
-            7535
-            1718
-            -7796
-            6346
-            5632
-            -729
-            -41
-            7845
-            6502
-            -7275
-            7246
-            7263
-            2387
-            1085
-            -7156
-            3726
-            -3467
-            9387
-            4034
-            8143
-            5923
-            2100
-            9253
-            5472
-            3983
-            587
-            -1394
-            -4952
-            6410
-            -3501
-            -6220
-            -220
-            -8003
-            1984
-            3978
-            7871
-            -4598
-            1828
-            -6942
-            9097
-            7722
-            7871
-            8919
-            -8336
-            1585
-            -478
-            -1954
-            -6623
-            -3496
-            7287
-            88
-            7009
-            2329
-            8166
-            -8597
-            -2197
-            8567
-            1381
-            -7356
-            -2317
-            -2402
-            7217
-            131
-            3596
-            -1914
-            260
-            3022
-            -1419
-            -5611
-            -302
-            -601
-            -468
-            -1957
-            7380
-            -65
-            5371
-            8944
-            -695
-            -743
-            6946
-            -2022
-            9237
-            3059
-            8927
-            4056
-            -7903
-            -8263
-            8747
-            2437
-            -9717
-            181
-            4640
-            -581
-            1901
-            9709
-            -9541
-            -9637
-            -9301
-            9992
-            -9207
-            -6915
-            -2838
-            -2886
-            -3270
-            3766
-            -447
-            627
-            -3132
-            -809
-            -8352
-            -4445
-            -1659
-            5274
-            4144
-            -5418
-            -1580
-            6525
-            -9872
-            -6418
-            -4017
-            -58
-            -6131
-            -3287
-            8101
-            -5805
-            -1835
-            -8232
-            -2846
-            -2771
-            -2638
-            -2801
-            -683
-            4134
-            7958
-            3324
-            -3621
-            -6631
-            -9743
-            3562
-            -1814
-            62
-            -6509
-            4195
-            -4329
-            9807
-            -5418
-            225
-            3181
-            5763
-            5356
-            9308
-            -9923
-            5438
-            9057
-            3241
-            1200
-            9734
-            7231
-            5415
-            2915
-            -6379
-            -6089
-            -3447
-            9290
-            9493
-            9981
-            9750
-            -8349
-            -1051
-            7930
-            -8022
-            -3127
-            -374
-            -5864
-            5591
-            7751
-            -7431
-            2686
-            5217
-            -5433
-            5040
-            4981
-            -1954
-            -3341
-            5464
-            6884
-            5085
-            119
-            -99
-            -2565
-            3487
-            6762
-            -7920
-            7893
-            425
-            -6364
-            3472
-            -1826
-            2413
-            -972
-            -1882
-            -9126
-            -8312
-            5562
-            -6478
-            1545
-            -5329
-            5285
-            -8898
-            6296
-            3785
-            -1361
-            7861
-            1142
-            1088
-            -5554
-            -8181
-            -6973
-            -4605
-            -5667
-            -2632
-            -577
-            8571
-            -9376
-            1551
-            -5123
-            6183
-            -9713
-            1514
-            7855
-            3098
-            -7289
-            9407
-            -7072
-            -3259
-            -9360
-            7094
-            9337
-            6578
-            -6209
-            7131
-            3292
-            -5421
-            8903
-            -9374
-            9374
-            -4315
-            568
-            -2158
-            -3292
-            5751
-            -4924
-            -5138
-            -2406
-            -3322
-            7402
-            4278
-            -6456
-            8622
-            -9489
-            5798
-            -3512
-            6280
-            6480
-            -264
-            1302
-            -1157
-            -7502
-            4757
-            2193
-            -6372
-            1393
-            928
-            -9155
-            9207
-            -7795
-            4355
-            1575
-            8035
-            3113
-            5096
-            1515
-            3460
-            7034
-            2184
-            6505
-            -3929
-            9012
-            5698
-            5322
-            -8040
-            917
-            -3142
-            564
-            -1698
-            5971
-            7111
-            -2631
-            5733
-            -9723
-            3903
-            -9358
-            2990
-            -6909
-            -4991
-            6069
-            1887
-            5315
-            1591
-            -389
-            -9653
-            3641
-            -7287
-            1591
-            5684
-            2508
-            -8329
-            5219
-            -7421
-            2539
-            -4776
-            3797
-            4185
-            -8634
-            -5828
-            4555
-            -5953
-            2301
-            -5500
-            -7591
-            -2473
-            -1773
-            3508
-            3785
-            2822
-            7374
-            -387
-            3580
-            -3219
-            1103
-            6811
-            5859
-            -1914
-            4756
-            -3322
-            3125
-            -2929
-            -8343
-            -7222
-            -3586
-            -9600
-            -8102
-            1640
-            9608
-            7310
-            -7436
-            2744
-            -6985
-            7093
-            -7106
-            2413
-            -2881
-            4614
-            4723
-            9128
-            9182
-            2785
-            -126
-            7864
-            3312
-            -1917
-            -809
-            -5781
-            1449
-            -364
-            -9956
-            -3534
-            -4335
-            4982
-            7243
-            -168
-            -1545
-            92
-            -763
-            -8259
-            -160
-            -3018
-            -3685
-            -9038
-            4970
-            -4830
-            -7878
-            -258
-            -1990
-            1939
-            -9666
-            596
-            -8283
-            4840
-            4027
-            -2084
-            -3817
-            -4841
-            6578
-            2413
-            -3094
-            -7151
-            -57
-            6050
-            -4148
-            -5937
-            5427
-            -1993
-            -4341
-            2576
-            -8433
-            -7641
-            3429
-            -5943
-            1996
-            4925
-            5392
-            -9090
-            2845
-            -6047
-            8477
-            6618
-            -4178
-            -3635
-            5473
-            -1092
-            1572
-            1799
-            -9864
-            -6144
-            -5268
-            -7079
-            -4433
-            -2004
-            7600
-            1302
-            -6822
-            2102
-            6798
-            -9610
-            -1328
-            4185
-            9048
-            -6637
-            2365
-            7810
-            -6509
-            723
-            6866
-            9828
-            395
-            -887
-            -2277
-            3115
-            6970
-            -676
-            5273
-            8455
-            -4267
-            9189
-            9591
-            -7282
-            2484
-            -411
-            -4931
-            230
-            -7450
-            5163
-            -4976
-            -1124
-            -7007
-            598
-            4559
-            -1618
-            6286
-            1875
-            985
-            -3748
-            6698
-            -9215
-            -3292
-            -7506
-            7344
-            -5676
-            9888
-            -2952
-            -1293
-            8871
-            4304
-            9559
-            -956
-            -9000
-            -3221
-            7591
-            -9238
-            -2218
-            -8611
-            8178
-            9436
-            9152
-            3367
-            -4144
-            9782
-            1551
-            3562
-            3986
-            -2329
-            3878
-            -6776
-            -3925
-            -1830
-            3703
-            2722
-            -4376
-            1596
-            8312
-            2273
-            589
-            2911
-            2608
-            1236
-            -7040
-            7758
-            6049
-            -6415
-            6199
-            1238
-            8098
-            -7894
-            5318
-            -1237
-            -5493
-            4811
-            -3296
-            -2566
-            -2982
-            2747
-            6047
-            -363
-            -8641
-            -9986
-            -814
-            5833
-            4081
-            5101
-            -6012
-            1549
-            5051
-            -3662
-            -7052
-            3639
-            -9393
-            -2763
-            194
-            6246
-            -587
-            -182
-            -6331
-            9886
-            -6364
-            -3075
-            2892
-            104
-            4152
-            -2931
-            8483
-            -2669
-            8895
-            8031
-            -3205
-            3492
-            -5393
-            2329
-            6072
-            -2890
-            3885
-            9230
-            -184
-            -8457
-            6129
-            1231
-            8496
-            2420
-            -7181
-            8528
-            -7928
-            -683
-            -7084
-            6050
-            -3731
-            481
-            -9169
-            1589
-            -1649
-            -5032
-            3460
-            544
-            -5821
-            9104
-            7037
-            4784
-            -1293
-            6474
-            -2420
-            -3735
-            6
-            -1192
-            -4891
-            8175
-            -4532
-            2326
-            -1242
-            -1507
-            -9259
-            -9104
-            3694
-            3386
-            8838
-            -4244
-            4347
-            -619
-            4702
-            5643
-            2922
-            -3880
-            8966
-            9353
-            -6440
-            8687
-            5066
-            -9956
-            2787
-            -8003
-            2042
-            2884
-            8462
-            -2837
-            6115
-            5923
-            3238
-            -7803
-            -5128
-            -4562
-            -3390
-            -6945
-            7339
-            -4954
-            4230
-            6586
-            -2425
-            -5893
-            2740
-            -3397
-            7221
-            -4562
-            -673
-            -5781
-            -4480
-            5040
-            -5196
-            6833
-            -815
-            -8977
-            1096
-            -536
-            -6986
-            -2895
-            3596
-            -8379
-            8006
-            -6513
-            -4510
-            7625
-            3396
-            -7966
-            2852
-            -8435
-            6052
-            9635
-            -5576
-            -4402
-            9463
-            5737
-            -4605
-            -6734
-            9727
-            -7578
-            9669
-            -97
-            -9188
-            -7854
-            -4362
-            -9
-            -7333
-            2452
-            4821
-            2391
-            -1352
-            -6775
-            5657
-            5754
-            744
-            5374
-            4893
-            8317
-            4203
-            -539
-            -2964
-            -3138
-            2080
-            -4783
-            -1917
-            9674
-            -3243
-            -2933
-            -238
-            6837
-            4151
-            -9655
-            8224
-            7600
-            2569
-            4550
-            -1495
-            2709
-            8352
-            8948
-            8673
-            2809
-            -2882
-            6263
-            7494
-            -3850
-            8792
-            -2284
-            -5540
-            -1545
-            -4649
-            -1576
-            -6339
-            -9393
-            -6133
-            1687
-            -1476
-            -3674
-            3978
-            -9596
-            -9602
-            131
-            -6428
-            -9726
-            4458
-            -3908
-            -617
-            7610
-            3007
-            -8490
-            -2452
-            -5265
-            9912
-            231
-            -7093
-            3545
-            263
-            5163
-            2721
-            8424
-            -1649
-            7825
-            4614
-            4348
-            9654
-            -7700
-            7060
-            6462
-            7855
-            -8312
-            -4433
-            9531
-            -2267
-            4368
-            3198
-            -1354
-            -7603
-            -6945
-            -9360
-            3806
-            -2776
-            4084
-            -5891
-            1732
-            6684
-            -5107
-            -9905
-            2151
-            87
-            5659
-            442
-            -3598
-            -2151
-            -9259
-            -9159
-            4114
-            -3085
-            -3104
-            9035
-            6322
-            -5516
-            7099
-            6124
-            530
-            -2459
-            1080
-            -8914
-            -4413
-            5213
-            4740
-            -8571
-            -6670
-            6637
-            -3671
-            8826
-            -5720
-            4759
-            -7058
-            6107
-            1216
-            6439
-            -3093
-            -2082
-            8115
-            -4566
-            -2368
-            1826
-            239
-            7815
-            -655
-            7864
-            -7265
-            4976
-            917
-            8648
-            -9247
-            -8263
-            -7925
-            1512
-            -4952
-            7993
-            5486
-            1339
-            512
-            -3747
-            -902
-            4696
-            -3498
-            8386
-            -4653
-            1265
-            6621
-            7669
-            9462
-            2725
-            6024
-            9559
-            -2538
-            -5781
-            -3582
-            -7535
-            -6670
-            -4789
-            -6142
-            -7092
-            -776
-            -5043
-            7477
-            346
-            9230
-            6
-            5639
-            9878
-            -8821
-            5251
-            6263
-            -6785
-            -3612
-            -815
-            -1255
-            -4565
-            -8724
-            -4433
-            2443
-            5273
-            -4296
-            1216
-            -3433
-            -2672
-            3178
-            -97
-            -8899
-            3983
-            3444
-            631
-            -1573
-            -7233
-            -1510
-            -2871
-            -2332
-            -1285
-            8006
-            283
-            703
-            4572
-            4836
-            -5360
-            5281
-            -4132
-            -3278
-            5064
-            4439
-            7862
-            -5901
-            -7362
-            -5507
-            -589
-            -2215
-            -3034
-            -537
-            744
-            -7044
-            -3727
-            7509
-            7596
-            9005
-            9856
-            5145
-            -8587
-            -2491
-            -4329
-            -4104
-            888
-            7825
-            1702
-            4169
-            -7966
-            -4192
-            -3878
-            -4005
-            2780
-            3096
-            9882
-            -7415
-            -1059
-            -11
-            -8833
-            9891
-            -6072
-            -5275
-            9912
-            -3762
-            4850
-            -7968
-            4261
-            4063
-            -860
-            -4530
-            -8593
-            -6138
-            9770
-            -2170
-            -4467
-            -3756
-            7772
-            9735
-            6336
-            7662
-            5656
-            -7217
-            3530
-            5438
-            -6973
-            -6619
-            5745
-            7750
-            5738
-            3690
-            -2820
-            -4305
-            1888
-            8340
-            4708
-            3315
-            -7509
-            -468
-            9310
-            8429
-            7764
-            -8242
-            -8200
-            9347
-            544
-            -720
-            4677
-            -4607
-            -2215
-            -7355
-            1132
-            3433
-            -5597
-            -5917
-            -1721
-            -5467
-            9474
-            -5457
-            7650
-            -205
-            1174
-            -1352
-            -2813
-            -6652
-            -5339
-            -4675
-            -3512
-            3483
-            -4013
-            -3433
-            -7432
-            -9505
-            -7391
-            -1075
-            -152
-            -4520
-            524
-            -1721
-            1983
-            5513
-            4458
-            9119
-            2571
-            -7994
-            4294
-            -6103
-            -5226
-            6844
-            1528
-            -8412
-            4398
-            7116
-            7573
-            313
-            -6398
-            1324
-            1792
-            556
-            -8230
-            -7606
-            7909
-            -7910
-            7210
-            8990
-            -5720
-            -9952
-            -8349
-            5745
-            -5184
-            7246
-            -7090
-            7674
-            -4566
-            8466
-            5426
-            1395
-            -3546
-            4389
-            1768
-            -8397
-            1098
-            4453
-            580
-            -5408
-            -9309
-            -1793
-            7825
-            -5148
-            -4369
-            -5452
-            -4104
-            -6133
-            6312
-            5435
-            8496
-            6027
-            4606
-            -5451
-            -259
-            -298
-            1295
-            9534
-            7240
-            -7292
-            -8391
-            -2067
-            -5114
-            -4445
-            -4590
-            3694
-            -2569
-            3764
-            2015
-            -9956
-            1155
-            -4960
-            8045
-            -2298
-            5183
-            -7100
-            -6451
-            -6207
-            1752
-            4481
-            -2229
-            -1501
-            8930
-            5127
-            -7153
-            -3450
-            6976
-            -818
-            -470
-            -7617
-            -7656
-            -2304
-            1308
-            -5465
-            5316
-            3939
-            2694
-            4545
-            5595
-            -3445
-            -9568
-            -4527
-            4870
-            1642
-            -1495
-            2046
-            -5275
-            -4584
-            7753
-            -397
-            2228
-            -454
-            -2479
-            -3734
-            848
-            -8405
-            204
-            -1789
-            -4196
-            -5518
-            -3258
-            -7879
-            3624
-            -3443
-            6015
-            -4341
-            -4411
-            3355
-            -9322
-            6167
-            -1842
-            1818
-            4311
-            -7425
-            1246
-            -691
-            3998
-            6840
-            -232
-            -9393
-            3241
-            9275
-            744
-            6520
-            8369
-            -9921
-            5765
-            -6440
-            9565
-            -298
-            3410
-            6443
-            -6080
-            -352
-            2788
-            2192
-            -2886
-            -7397
-            6554
-            313
-            8682
-            -1649
-            9123
-            9353
-            -2407
-            8247
-            3805
-            3344
-            -1510
-            2161
-            -4039
-            5937
-            9545
-            6682
-            -8545
-            -7007
-            -2842
-            -7803
-            7227
-            -4893
-            928
-            4528
-            -8064
-            -6272
-            -2883
-            -743
-            7761
-            -1155
-            4763
-            2098
-            -367
-            6525
-            4709
-            4680
-            5172
-            1826
-            9004
-            -3433
-            -6928
-            -8064
-            2604
-            984
-            -4859
-            -1502
-            -5146
-            -5117
-            2892
-            8654
-            -3132
-            5016
-            -1641
-            -2267
-            2015
-            -2564
-            720
-            -2308
-            3531
-            -3977
-            -1769
-            508
-            -2220
-            -5130
-            5493
-            -9919
-            -5726
-            3433
-            4241
-            -8312
-            4960
-            -2991
-            5728
-            4340
-            -6837
-            6758
-            7212
-            6747
-            -2152
-            -743
-            -3807
-            5555
-            3933
-            -809
-            8395
-            -2846
-            -2721
-            2956
-            4559
-            5047
-            3685
-            -7012
-            -7900
-            9740
-            -2084
-            -7274
-            283
-            4537
-            -6400
-            8559
-            7760
-            -4892
-            556
-            -9829
-            9677
-            2041
-            -7039
-            -8465
-            -6256
-            4710
-            5141
-            -3002
-            6477
-            -3257
-            7596
-            -2201
-            -6189
-            -3908
-            2291
-            -1476
-            -8594
-            9899
-            5793
-            361
-            4085
-            -8056
-            -5501
-            -8474
-            -3328
-            1875
-            -6436
-            7696
-            6969
-            3375
-            5895
-            2428
-            -5663
-            -7676
-            -363
-            3573
-            -1314
-            -4077
-            -3670
-            -1973
-            -2448
-            -7862
-            -3320
-            -3282
-            4294
-            2259
-            -4720
-            -8895
-            9961
-            3813
-            8630
-            -1344
-            -3473
-            -4607
-            -3378
-            -1125
-            -2871
-            5341
-            -5778
-            8577
-            -3322
-            4519
-            8820
-            754
-            -1133
-            -9404
-            341
-            -3126
-            961
-            4198
-            4027
-            4223
-            7357
-            5345
-            -158
-            980
-            7965
-            7052
-            -2267
-            4905
-            5376
-            536
-            -6665
-            9201
-            -2263
-            9392
-            9828
-            -898
-            -7178
-            -6133
-            297
-            -3228
-            -3897
-            7380
-            -7513
-            -6574
-            9279
-            8842
-            -4523
-            7393
-            744
-            5736
-            2075
-            -5210
-            5595
-            -2977
-            4582
-            8815
-            -8409
-            -4362
-            9693
-            -743
-            5
-            7565
-            1797
-            -6493
-            -5339
-            -9681
-            -8505
-            -9451
-            -8456
-            6287
-            6298
-            6085
-            -701
-            3202
-            6741
-            -5408
-            301
-            3406
-            6851
-            4763
-            387
-            6570
-            -1771
-            -9079
-            -1594
-            5627
-            8104
-            9814
-            -2227
-            9337
-            5114
-            -2726
-            1469
-            -4182
-            7932
-            -2485
-            -3761
-            -3748
-            8689
-            -5860
-            -6631
-            2577
-            1975
-            -8253
-            -6203
-            -4594
-            6995
-            7410
-            -6337
-            573
-            650
-            4282
-            5826
-            1641
-            -2755
-            7226
-            -6456
-            3530
-            4696
-            4134
-            -8601
-            4930
-            4619
-            6132
-            4102
-            9415
-            9578
-            9012
-            -8597
-            -655
-            6442
-            -2850
-            7983
-            8966
-            -6050
-            -663
-            4861
-            5461
-            176
-            4397
-            6684
-            -3624
-            -7922
-            -2707
-            7964
-            -9360
-            -7646
-            -1179
-            4046
-            27
-            -1791
-            1754
-            1939
-            7229
-            4839
-            -6884
-            6294
-            4566
-            -9697
-            2439
-            -9989
-            8689
-            -447
-            7001
-            7246
-            -3999
-            3031
-            8208
-            410
-            -766
-            -9139
-            -8945
-            7561
-            5143
-            7792
-            4458
-            -2792
-            -64
-            -9259
-            -7233
-            -4186
-            7579
-            -4737
-            7864
-            3839
-            3
-            4759
-            4134
-            2455
-            -533
-            5386
-            6733
-            -1494
-            -7410
-            6401
-            5061
-            5505
-            133
-            -8693
-            -7336
-            3553
-            7393
-            -8623
-            5187
-            -1049
-            7995
-            -2934
-            5734
-            -268
-            1906
-            -2461
-            1980
-            8758
-            5807
-            -5435
-            -8999
-            -6670
-            -1769
-            -5418
-            3364
-            -6715
-            9499
-            -4084
-            -2458
-            6780
-            -3276
-            5127
-            -870
-            1584
-            3110
-            3874
-            -5159
-            3316
-            -7920
-            -9770
-            982
-            8410
-            9048
-            -5042
-            -836
-            -1096
-            3190
-            -6134
-            -7070
-            8559
-            -5833
-            3998
-            2454
-            -3823
-            -4238
-            4983
-            -1346
-            9749
-            -6832
-            -8803
-            8392
-            -3679
-            -8984
-            -2564
-            3151
-            -2265
-            2154
-            6043
-            -7264
-            -462
-            -9041
-            -4607
-            -4334
-            5202
-            -5
-            5356
-            -7878
-            -3276
-            -6715
-            5277
-            2961
-            -3771
-            -5670
-            -9410
-            8824
-            -3052
-            9689
-            -2632
-            4307
-            8329
-            -8195
-            7993
-            -6567
-            -6609
-            8797
-            -6277
-            -9687
-            62
-            -5289
-            -2557
-            2922
-            3489
-            -5458
-            -4635
-            131
-            6346
-            -8120
-            -2587
-            -8033
-            -2544
-            1159
-            8770
-            -73
-            -7365
-            1990
-            3467
-            -2710
-            3831
-            3700
-            -2660
-            -2676
-            8458
-            -8867
-            -3538
-            9867
-            -2949
-            -686
-            3616
-            -3541
-            2164
-            1742
-            4763
-            -3397
-            7394
-            7097
-            -6798
-            5644
-            -9837
-            -5777
-            -2256
-            6014
-            -7224
-            4619
-            -1255
-            5020
-            -5164
-            -2604
-            3154
-            2586
-            6850
-            -450
-            4715
-            -870
-            8522
-            -6938
-            3600
-            -1433
-            -4609
-            -491
-            -4586
-            5639
-            3734
-            -5617
-            -7470
-            -7352
-            3287
-            -4886
-            -7765
-            -5526
-            -8084
-            1039
-            6487
-            2761
-            -5033
-            -3171
-            -4315
-            5745
-            8037
-            8028
-            479
-            4470
-            357
-            -2618
-            -4452
-            4249
-            -324
-            1575
-            9674
-            -7410
-            4668
-            4200
-            312
-            -4048
-            -8634
-            1656
-            8821
-            4340
-            419
-            -7688
-            8139
-            -8897
-            3113
-            7391
-            6988
-            843
-            -2439
-            -4028
-            -6529
-            -5396
-            -9458
-            9012
-            5094
-            -6081
-            7965
-            7402
-            -3607
-            6227
-            8407
-            -1893
-            -6775
-            -5584
-            8610
-            1719
-            -5374
-            9602
-            -9238
-            3381
-            -4924
-            -471
-            6458
-            -8276
-            2747
-            200
-            -4218
-            9902
-            807
-            -6721
-            -5963
-            -4745
-            -5848
-            -8373
-            5219
-            -6143
-            -5715
-            9854
-            7413
-            8483
-            8315
-            6296
-            4297
-            -3948
-            -8712
-            -5670
-            -5871
-            -7355
-            3303
-            9299
-            -715
-            9049
-            -5720
-            -4086
-            8486
-            3720
-            -3590
-            -8571
-            9282
-            -5124
-            -9617
-            -7150
-            -2055
-            -2888
-            -6007
-            617
-            -9489
-            4905
-            -424
-            3694
-            4739
-            302
-            -7239
-            -2803
-            -7535
-            -4598
-            8022
-            -3195
-            7826
-            1350
-            7857
-            4130
-            440
-            -7134
-            2990
-            9981
-            -3341
-            -5946
-            -1652
-            5411
-            -7322
-            -299
-            9075
-            -7663
-            9086
-            -3563
-            -3599
-            1745
-            -2930
-            -6836
-            -4866
-            2836
-            -1838
-            7763
-            548
-            -7210
-            2673
-            -2503
-            4973
-            5611
-            5412
-            4294
-            4504
-            -8534
-            7603
-            6884
-            9301
-            -6038
-            -36
-            9278
-            6866
-            -2022
-            -4299
-            2503
-            8348
-            9027
-            5779
-            -233
-            2149
-            -6133
-            6193
-            -3898
-            7599
-            2899
-            -990
-            1027
-            -3574
-            -3211
-            8699
-            2988
-            9683
-            573
-            -841
-            -3244
-            -515
-            6317
-            7686
-            9778
-            -2385
-            -5265
-            5281
-            -8273
-            -8363
-            -5527
-            3485
-            -2688
-            -2881
-            -8947
-            -8106
-            -2681
-            -8049
-            -8205
-            2793
-            2047
-            6539
-            6456
-            1751
-            -804
-            181
-            -3
-            4470
-            4658
-            -5271
-            -4045
-            301
-            -3666
-            6929
-            9173
-            6724
-            5219
-            -4291
-            -4131
-            -3396
-            -2138
-            -7542
-            1086
-            -548
-            -5685
-            4776
-            2109
-            -7955
-            5822
-            -6590
-            4525
-            4187
-            -1925
-            -7902
-            -7641
-            5096
-            4893
-            2538
-            -1084
-            3800
-            2098
-            7855
-            2393
-            2013
-            -470
-            6981
-            -3909
-            8547
-            4094
-            -4590
-            4394
-            -2142
-            6004
-            -3898
-            5011
-            -3348
-            -660
-            3938
-            -686
-            -5431
-            -3925
-            -4131
-            -1361
-            -2790
-            -2215
-            -3915
-            -74
-            -990
-            -6631
-            8111
-            -1368
-            6530
-            -3651
-            -4138
-            54
-            8247
-            6433
-            -2640
-            -6919
-            -3864
-            -7468
-            7660
-            -7491
-            8291
-            7372
-            -2064
-            7221
-            -9101
-            -5087
-            3066
-            3242
-            1076
-            -3507
-            1949
-            -8780
-            -1931
-            -7175
-            1010
-            9083
-            3039
-            -1061
-            -5871
-            -2460
-            -8754
-            9800
-            -3110
-            8577
-            -468
-            -4009
-            3640
-            6242
-            -6591
-            -4321
-            6260
-            -5670
-            6322
-            6596
-            1076
-            -9472
-            4380
-            -2798
-            -5183
-            8092
-            7451
-            -390
-            3476
-            -7275
-            5226
-            3203
-            8821
-            10
-            -5871
-            -8867
-            5700
-            -6671
-            2884
-            -9451
-            4303
-            3532
-            -7222
-            4713
-            8474
-            9887
-            1393
-            """;
 }
@@ -1,149 +1,205 @@
 package git.goossensmichael;
 
-import java.util.ArrayList;
+import git.goossensmichael.utils.ByteScan;
+import git.goossensmichael.utils.Histogram;
+import git.goossensmichael.utils.Inputs;
+import git.goossensmichael.utils.Metrics;
+import git.goossensmichael.utils.OffHeapGrid;
+
+import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
-public class Day23 {
+@SolverVersion(1)
+@AllocationBudget(parse = 73, part1 = 21, part2 = 39)
+public class Day23 implements Solver<Set<Day23.Elf>> {
 
     private static final Logger LOGGER = Logger.getLogger(Day23.class.getName());
+    private static final Histogram ROUND = Metrics.histogram("day23.round");
+    private static final LongAdder MOVES = Metrics.counter("day23.moves");
 
     private static final Direction[] DIRECTIONS =
             new Direction[] { Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST };
 
-    private static long part1(final String[] input) {
-        final int rounds = 10;
-
-        Set<Elf> elves = parse(input);
-        int r = 0;
+    @Override
+    public Set<Elf> parse(final ByteBuffer input) {
+        return parse(ByteScan.lines(input));
+    }
 
-        while (r < rounds) {
-            // First half
-            final Map<Elf, List<Elf>> propositions = makeProposals(elves, r);
-            // Second half
-            final Map<Elf, Elf> validPropositions = propositions.entrySet().stream()
-                    .filter(p -> p.getValue().size() < 2)
-                    .collect(Collectors.toMap(p -> p.getValue().get(0), Map.Entry::getKey));
-            elves = elves.stream()
-                    .map(elf -> validPropositions.getOrDefault(elf, elf))
-                    .collect(Collectors.toSet());
+    @Override
+    public Long part1(final Set<Elf> input) {
+        final int rounds = 10;
 
-            r++;
+        final Grove grove = new Grove(input);
+        for (int r = 0; r < rounds; r++) {
+            final long roundStart = System.nanoTime();
+            MOVES.add(grove.round(r));
+            ROUND.record(System.nanoTime() - roundStart);
         }
 
-        final int minX = elves.stream().mapToInt(elf -> elf.x).min().orElseThrow();
-        final int maxX = elves.stream().mapToInt(elf -> elf.x).max().orElseThrow();
-        final int minY = elves.stream().mapToInt(elf -> elf.y).min().orElseThrow();
-        final int maxY = elves.stream().mapToInt(elf -> elf.y).max().orElseThrow();
+        return grove.emptyTiles();
+    }
 
-        int emptyTiles = 0;
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minY; j <= maxY; j++) {
-                if (!elves.contains(new Elf(i, j))) {
-                    emptyTiles++;
+    private static Set<Elf> parse(final String[] input) {
+        final Set<Elf> elves = new HashSet<>();
+
+        for (int i = 0; i < input.length; i++) {
+            for (int j = 0; j < input[i].length(); j++) {
+                if (input[i].charAt(j) == '#') {
+                    elves.add(new Elf(i, j));
                 }
             }
         }
 
-        return emptyTiles;
+        return elves;
     }
 
-    private static Map<Elf, List<Elf>> makeProposals(final Set<Elf> elves, final int r) {
-        final int leadingDirection = r % DIRECTIONS.length;
+    @Override
+    public Long part2(final Set<Elf> input) {
+        final Grove grove = new Grove(input);
+        int r = 0;
+
+        boolean moving = true;
+        while (moving) {
+            final long roundStart = System.nanoTime();
+            final int moves = grove.round(r);
+            MOVES.add(moves);
+            ROUND.record(System.nanoTime() - roundStart);
+            moving = moves > 0;
 
-        final Map<Elf, List<Elf>> proposals = new HashMap<>();
-        for (final Elf elf : elves) {
-            if (!isFree(elf, elves)) {
-                final Elf proposal = makeProposal(elf, leadingDirection, elves);
-                if (proposal != null) {
-                    if (!proposals.containsKey(proposal)) {
-                        proposals.put(proposal, new ArrayList<>());
-                    }
-                    proposals.get(proposal).add(elf);
-                }
-            }
+            r++;
         }
 
-        return proposals;
+        return (long) r;
     }
 
-    private static boolean isFree(final Elf elf, final Set<Elf> elves) {
-        return elves.stream().filter(e -> !e.equals(elf)).noneMatch(e -> {
-            boolean matches = false;
-            for (int x = -1; x <= 1 && !matches; x++) {
-                for (int y = -1; y <= 1 && !matches; y++) {
-                    matches = e.equals(new Elf(elf.x + x, elf.y + y));
-                }
+    // The elves on an off-heap grid of a bit per cell, so the neighbours of an elf are a few lookups instead of a pass
+    // over all elves. Their positions are kept in arrays as well. The grid grows when an elf reaches its edge.
+    private static final class Grove {
+
+        private static final int MARGIN = 16;
+        private static final int NO_PROPOSAL = -1;
+
+        private final int[] rows;
+        private final int[] columns;
+        private final int[] proposedRows;
+        private final int[] proposedColumns;
+        private OffHeapGrid elves;
+        // The amount of elves that proposed a cell, up to 2.
+        private OffHeapGrid proposals;
+
+        Grove(final Set<Elf> input) {
+            final int size = input.size();
+            rows = new int[size];
+            columns = new int[size];
+            proposedRows = new int[size];
+            proposedColumns = new int[size];
+
+            int i = 0;
+            for (final Elf elf : input) {
+                rows[i] = elf.x();
+                columns[i] = elf.y();
+                i++;
             }
 
-            return matches;
-        });
-    }
+            final int minRow = Arrays.stream(rows).min().orElse(0);
+            final int minColumn = Arrays.stream(columns).min().orElse(0);
+            final int height = Arrays.stream(rows).max().orElse(0) - minRow + 1;
+            final int width = Arrays.stream(columns).max().orElse(0) - minColumn + 1;
+            place(width + 2 * MARGIN, height + 2 * MARGIN, MARGIN - minColumn, MARGIN - minRow);
+        }
 
-    private static Elf makeProposal(final Elf elf, final int leadingDirection, final Set<Elf> elves) {
-        int d = leadingDirection;
+        // Returns the amount of elves that moved.
+        int round(final int r) {
+            final int leadingDirection = r % DIRECTIONS.length;
+
+            // First half
+            for (int i = 0; i < rows.length; i++) {
+                proposedRows[i] = NO_PROPOSAL;
+                if (hasNeighbour(rows[i], columns[i])) {
+                    for (int d = leadingDirection; d < leadingDirection + DIRECTIONS.length; d++) {
+                        final Coord[] moves = DIRECTIONS[d % DIRECTIONS.length].coord;
+                        if (isFree(rows[i], columns[i], moves)) {
+                            proposedRows[i] = rows[i] + moves[1].x();
+                            proposedColumns[i] = columns[i] + moves[1].y();
+                            final int proposed = proposals.get(proposedColumns[i], proposedRows[i]);
+                            proposals.set(proposedColumns[i], proposedRows[i], Math.min(proposed + 1, 2));
+                            break;
+                        }
+                    }
+                }
+            }
 
-        Elf proposal = null;
-        boolean makingProposal = true;
-        while (makingProposal) {
-            final Coord[] moves = DIRECTIONS[d % DIRECTIONS.length].coord;
+            // Second half
+            int moves = 0;
+            boolean onEdge = false;
+            for (int i = 0; i < rows.length; i++) {
+                if (proposedRows[i] != NO_PROPOSAL && proposals.get(proposedColumns[i], proposedRows[i]) == 1) {
+                    elves.set(columns[i], rows[i], 0);
+                    rows[i] = proposedRows[i];
+                    columns[i] = proposedColumns[i];
+                    elves.set(columns[i], rows[i], 1);
+                    onEdge |= rows[i] == 0 || rows[i] == elves.height() - 1 || columns[i] == 0 || columns[i] == elves.width() - 1;
+                    moves++;
+                }
+            }
+            for (int i = 0; i < rows.length; i++) {
+                if (proposedRows[i] != NO_PROPOSAL) {
+                    proposals.set(proposedColumns[i], proposedRows[i], 0);
+                }
+            }
 
-            if (Arrays.stream(moves).anyMatch(m -> elves.contains(new Elf(elf.x + m.x, elf.y + m.y)))) {
-                d++;
-                makingProposal = d < leadingDirection + DIRECTIONS.length;
-            } else {
-                proposal = new Elf(elf.x + moves[1].x, elf.y + moves[1].y);
-                makingProposal = false;
+            if (onEdge) {
+                place(elves.width() * 2, elves.height() * 2, elves.width() / 2, elves.height() / 2);
             }
+
+            return moves;
         }
 
-        return proposal;
-    }
+        // The empty tiles in the smallest rectangle that holds all elves.
+        long emptyTiles() {
+            final long height = Arrays.stream(rows).max().orElse(0) - Arrays.stream(rows).min().orElse(0) + 1;
+            final long width = Arrays.stream(columns).max().orElse(0) - Arrays.stream(columns).min().orElse(0) + 1;
 
-    private static Set<Elf> parse(final String[] input) {
-        final Set<Elf> elves = new HashSet<>();
+            return height * width - rows.length;
+        }
 
-        for (int i = 0; i < input.length; i++) {
-            for (int j = 0; j < input[i].length(); j++) {
-                if (input[i].charAt(j) == '#') {
-                    elves.add(new Elf(i, j));
+        private boolean hasNeighbour(final int row, final int column) {
+            for (int x = -1; x <= 1; x++) {
+                for (int y = -1; y <= 1; y++) {
+                    if ((x != 0 || y != 0) && elves.get(column + y, row + x) == 1) {
+                        return true;
+                    }
                 }
             }
-        }
-
-        return elves;
-    }
 
-    private static long part2(final String[] input) {
-        Set<Elf> previousElves = Collections.emptySet();
-        Set<Elf> elves = parse(input);
-        int r = 0;
+            return false;
+        }
 
-        while (!(previousElves.containsAll(elves) && elves.containsAll(previousElves))) {
-            // First half
-            final Map<Elf, List<Elf>> propositions = makeProposals(elves, r);
-            // Second half
-            final Map<Elf, Elf> validPropositions = propositions.entrySet().stream()
-                    .filter(p -> p.getValue().size() < 2)
-                    .collect(Collectors.toMap(p -> p.getValue().get(0), Map.Entry::getKey));
-            previousElves = elves;
-            elves = elves.stream()
-                    .map(elf -> validPropositions.getOrDefault(elf, elf))
-                    .collect(Collectors.toSet());
+        private boolean isFree(final int row, final int column, final Coord[] moves) {
+            for (final Coord m : moves) {
+                if (elves.get(column + m.y(), row + m.x()) == 1) {
+                    return false;
+                }
+            }
 
-            r++;
+            return true;
         }
 
-        return r;
+        // Moves the elves by the shift onto new grids of the given size.
+        private void place(final int width, final int height, final int columnShift, final int rowShift) {
+            elves = OffHeapGrid.ofBits(width, height);
+            proposals = OffHeapGrid.ofBytes(width, height);
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] += rowShift;
+                columns[i] += columnShift;
+                elves.set(columns[i], rows[i], 1);
+            }
+        }
     }
 
     private enum Direction {
@@ -162,139 +218,39 @@ public class Day23 {
 
     private record Coord(int x, int y) {}
 
-    private record Elf(int x, int y) {}
+    record Elf(int x, int y) {}
 
     public static void main(final String[] args) {
 
         // Parsing input
-        final var tinyInput = TINY_INPUT.split("\n");
-        final var testInput = TST_INPUT.split("\n");
-        final var input = INPUT.split("\n");
+        final Day23 solver = new Day23();
+        final var tinyInput = solver.parse(Inputs.resource("day23-tiny.txt"));
+        final var testInput = solver.parse(Inputs.resource("day23-test.txt"));
+        final var input = solver.parse(solver.input());
 
         {
-            final var tinyPart1 = part1(tinyInput);
+            final var tinyPart1 = solver.part1(tinyInput);
             LOGGER.log(Level.INFO, () -> String.format("Tiny part 1 (expecting 25): %d", tinyPart1));
 
             final var expectedResult = 110;
-            final var part1 = part1(testInput);
+            final var part1 = solver.part1(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 1: %d", part1));
 
             if (expectedResult == part1) {
-                final var result = part1(input);
+                final var result = solver.part1(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 1: %d", result));
             }
         }
 
         {
             final var expectedResult = 20;
-            final var testResult = part2(testInput);
+            final var testResult = solver.part2(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 2: %d", testResult));
 
             if (expectedResult == testResult) {
-                final var result = part2(input);
+                final var result = solver.part2(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 2: %d", result));
             }
         }
     }
-    private static final String TST_INPUT = """
-            ..............
-            ..............
-            .......#......
-            .....###.#....
-            ...#...#.#....
-            ....#...##....
-            ...#.###......
-            ...##.#.##....
-            ....#..#......
-            ..............
-            ..............
-            ..............
-            """;
-
-    private static final String TINY_INPUT = """
-            .....
-            ..##.
-            ..#..
-            .....
-            ..##.
-            .....
-            """;
-
-    private static final String INPUT = """
-            .#..###.##..##.####.#.....##.##.#..#.##.#..#.#.#.####..#####.#......#...#..
-            ###...#.#..##...#.##...#.###.###....##..##..######.#.#..#.#...#.##...#.#.#.
-            .......#.###.....#.##.....##..#.#...##..#####.###.##......#.###.##.#####.##
-            ##.##...##..####.##.........#.##.#.#..####.##....#.#####.####.####..##..##.
-            #..#.###...###...#..#..#..#.#.##.######.###..##########.#..#.##.#.#.##....#
-            .#..#..##..#.#.......#.#....#######..#.##.##..##.#.#.#..#.##....#..##.#####
-            .#.##..##.##...#.##.##..##.##.##..##...###..###.#...##..##....#.##....#####
-            .###.###.#.##.###....#..###..###..##.#.#.#.#....#####.###.######...###.###.
-            #...####.###.....#.....###...#..##.##...########.#.#.######...#..#.###....#
-            ..###.#.###..#.#.........#....#.#.#####.#.#.#....###.##..###...####.#.#...#
-            ###.#.######.##.#.##....##.##..##.#.#..#.#..##..#..##.###..##.########.#.#.
-            .#...##.....###...##..###.#.##.....#.##..#.#.#..##.#...#.#.#.###.#....#.##.
-            ..####.#.#.###....###.#.....##...#.##.#...#..#.#..#####...######....#..##.#
-            .##.#..##.###.###..#.#.#####.#.###......###..#.#..#..###..###..#.....#..##.
-            #.#.#####..##.##...#...#...#..#...#.#.#..#........######.##.#...#..#.#..##.
-            .#.####....#.#..##.##..#...##.##...##.....###.###.###..#.#....#.#.####.#..#
-            ##.#..#.###..###........#...##.#..##...####.##..#..#.##.#....##..##..#####.
-            ...#..##.#..##.####..###...#.#.#.......#####..######....###..#.#..###.###..
-            .#.##...#.#.#........##..#.#####.#####...##......#.##.....#..####..#####...
-            .#.#..#..#.#.#.####.#...###.###.#..###...###.##..##...##..####.#.....#.#.##
-            ##...#.#...##..##..##..##.####..######...##..#...##..##.##....##...#.#.....
-            ..####.#####..##.####...#...#...#.#.#..##.##..#...###.#..#...#...#.#...#.##
-            ..###.#....#.########...##....#..#.#.#..#.##..#...#.##.....#.###..#..#..#.#
-            #.##....###.#..##.#.##..####..###......####.###.##..###....#..#.#.#...####.
-            .######.#....#....#####...#..#..###.#..#...#.###.#.##..#.###..#..###......#
-            #..##.#.#####.#.#.##.#..###.#..#..#.#..#.#..#.#.....##########.#..#..#..#.#
-            ###.##....#...####.###..##..#....#.#......#.#.#......#..##.#..####...#..#.#
-            ..#.###..#.###.##.#..#....#..#####.#.#.####.#...#....#.##.#.#..###.########
-            ..#.#.....##.##...#..##...#.#..##.####.###.#.#..#..####...#..##..##..#.###.
-            .###..#.###....#.####.#..#...###.#....#...#....###.#.######.####..#.#..###.
-            .#.##.##.....#.###.#...#..#.#.##.##..#.#..###.##..#.##....##....#.#...#.##.
-            #.##.#..#.#.#....##...####.#..#.###..######.###.#..##.#.#.#####...##..#.##.
-            #.###.##.#..#...#..##..#.##.....#...#....#...##....#..#..##..##.##....##.##
-            ..###..#...#.#..##.##..#####.#..#.#..#...#...##.#.#..#..#.###....#.####.###
-            ###.###...####..###..#..#.##..#.#.#.....#....#.#####.#..###.#..####....##.#
-            #.###.#.#.##.###.##.........###.#..#######.####..........#.#.###..#.#.##.#.
-            ####.##.#####.##.#.#.##......#...#.#.##..###..#...#...###..###.#####..##...
-            .##...#####.##########.#....##.......#.#.#.#.###..#####....#..#.####..#####
-            ####..#..####.###..###..#####.###....#.#.#.....#.####..#..###.#..##.##..##.
-            ###.#.#....##..#.##.#.....##..##.##..##.###.##.#.#...####...#.##..####..##.
-            #..#..##.#....###..##.#..#...#.#.#.#.######.##..#...##.#.#.....####..##.##.
-            ....####..###.#.##..#...#..##..#####.....##.##..#.##..##...#####.....##..#.
-            .##...##...######..##..#.##..##.#.#..##.##..###.#.####...#######..##....#..
-            .###.##.#......###....#####.#.#.##...#####..#..##.###...##...###.#.##...##.
-            .#....####..#..#..##...##....#.##...###..##.#..#.#.#.#.####.....###...#.###
-            ##.###..#....##....#.##..#.#.....#...###..##..###....#.....###...##.....###
-            ##......#.##.#.###...##..###.....#.##.#..#.###..###.#.##...#####..###..#.##
-            ##.##.#####........#..##........#..##..##......#.###.#.#..##.######.#....##
-            ##.....#.##...#.####.####...#.###.#....#.######.#....#.#.##....#...##..##.#
-            #.##.....#####.###.###.##.#.#.#..#....#.....#.#..###.####.#####...#.......#
-            ...#######......###.##.#.#.#.....######.#.##.#.#...#..#.#....#.#.#.##..###.
-            #.###..#.##.#####..#.#...##.####.###.#####..#.....#...#.#..##.#.####.##.#..
-            .##..##...##....#####.#...####..#....#..##.#...#####.#.##...#.####.###...##
-            ..####.###...##.##.#..#.###.##..#....#.#....###.#..##.#.....#.###....##.#..
-            #.##.#...#..##.####.######.##..#.#......#.###...#..##.#..##..###.#..#.#.#.#
-            ..##.##..#..#.####.###.#...##.###.###.##..##.###....##...##.#..##.###...##.
-            .####..#....#####..#..##....#.#.##.#####.#####..#.....###.#..###.####......
-            ##...#.#.#..##..##....##.###...#.##..#..#....###....#####.##..##.....####.#
-            #..####...####..##..#..#..#.#.....##.#..#####..#.#.###.#..###.....#.#.###.#
-            .##..####.####...#.#....##..#####..#...#...#..###..##......#...#..#.##.###.
-            #..##..###.###.#.#..##..#.#.###....##..##.###.#..#....#.#.#..#..##.#..####.
-            #.####..##....#...#.#...###..#..##...##.#.#.#.#...#..#...##...#...#.#....#.
-            #..###.###...###.#.###.#....#..##....#.#.#..#.##.###.#####..##.###...#.#...
-            .#..###.#.#..#.#.#...####.#.#.##.###.#..##.##.......#.#.#.#.#...#..#.#...##
-            ######.....###...#..#..###.#.#...#...##..##.##.#..#.#...###.##.##....#.#...
-            #..##...#...##...###..#....#...###.#.###.###..#..##.##..####..#.###.##....#
-            ..##...#..#.#.#######..#.###..#.#.#.#.##.#..#.....#.##.###.#####.#.######..
-            #.#.#..##.#.###.#....#..#..######.#....##.#..###.####.#......#..##.##.##.##
-            ######....##......#..#...####..###..######.#.#.##....#...##.#.#..#.#.#.##..
-            ###.####.###.#####.....######..#...#.##.#....##.#.##..#.#.##.#.##..###..###
-            ..######....####..###..##..##.##...#.###..#.##..#.#...#.##.##.....#..#..###
-            .##..##..#.##....#...##.###.##..#...##..##.##.#.#..###...##....#.#.#..#...#
-            ..#..##.########.##..#####.#....#..##.##.##.#...#.##..##.#..#..###...#.#.##
-            #.##....#..#.#..##.#......#.#..##.#.............#.##.#...##.#..#...##.#.###
-            #..#..###.#.##.#..#....##..#..#..##.##..#.##...###.......#..###..####...##.
-            """;
 }
@@ -1,206 +1,228 @@
 package git.goossensmichael;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import git.goossensmichael.utils.ByteScan;
+import git.goossensmichael.utils.Histogram;
+import git.goossensmichael.utils.Inputs;
+import git.goossensmichael.utils.Metrics;
+import git.goossensmichael.utils.OffHeapGrid;
+import git.goossensmichael.utils.SearchIterationEvent;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
-public class Day24 {
+@SolverVersion(1)
+@AllocationBudget(parse = 6, part1 = 6_950, part2 = 6_950)
+public class Day24 implements Solver<OffHeapGrid> {
 
     private static final Logger LOGGER = Logger.getLogger(Day24.class.getName());
+    private static final Histogram MINUTE = Metrics.histogram("day24.minute");
+    private static final LongAdder POSITIONS = Metrics.counter("day24.positions");
+
+    // A cell of the valley is a byte with a bit for the wall and for every direction of a blizzard on it, 0 is free.
+    private static final int WALL = 1;
+    private static final int BLIZZARD_UP = 1 << 1;
+    private static final int BLIZZARD_RIGHT = 1 << 2;
+    private static final int BLIZZARD_DOWN = 1 << 3;
+    private static final int BLIZZARD_LEFT = 1 << 4;
+
+    @Override
+    public OffHeapGrid parse(final ByteBuffer input) {
+        return parseMap(ByteScan.lines(input));
+    }
 
-    private static final char BLIZZARD_LEFT = '<';
-    private static final char BLIZZARD_RIGHT = '>';
-    private static final char BLIZZARD_UP = '^';
-    private static final char BLIZZARD_DOWN = 'v';
-    private static final char EMPTY = '.';
-
-    private static long part1(final String[] input) {
-        final String[][] map = parseMap(input);
-
+    @Override
+    public Long part1(final OffHeapGrid map) {
         final Coord start = new Coord(0, 1);
-        final Coord end = new Coord(map.length - 2, map[0].length - 2);
-        final Solution toEnd = solve(map, start, end);
+        final Coord end = new Coord(map.height() - 2, map.width() - 2);
 
-        return toEnd.time;
+        return (long) solve(new Valley(map), 0, start, end);
     }
 
-    private record Solution(String[][] map, int time) {}
+    // The minutes it takes to go from start to end, leaving at the given minute.
+    private static int solve(final Valley valley, final int departure, final Coord start, final Coord end) {
+        final int rows = valley.rows();
+        final int columns = valley.columns();
 
-    private static Solution solve(final String[][] map, final Coord start, final Coord end) {
-        // At this point the cycle of blizzards will repeat itself. No need to calculate more maps.
-        final int mapCycle = (map.length - 2) * (map[0].length - 2);
+        // The positions that can be reached in the current and in the next minute, a bit per cell.
+        OffHeapGrid positions = OffHeapGrid.ofBits(columns, rows);
+        OffHeapGrid nextPositions = OffHeapGrid.ofBits(columns, rows);
+        positions.set(start.y, start.x, 1);
 
         int time = 0;
-
-        final Map<Integer, String[][]> mapsInTime = new HashMap<>();
-        mapsInTime.put(time, map);
-
-        final Map<Integer, Set<Coord>> coordsInTime = new HashMap<>();
-        coordsInTime.put(time, Set.of(start));
-
+        long statesExplored = 0;
         boolean searching = true;
         while (searching) {
+            final SearchIterationEvent event = SearchIterationEvent.begin(24);
+            final long minuteStart = System.nanoTime();
             time++;
 
-            final String[][] nextMap;
-            if (time / mapCycle == 0) {
-                nextMap = nextMap(mapsInTime.get(time - 1));
-            } else {
-                nextMap = mapsInTime.get(time % mapCycle);
+            final int minute = departure + time;
+            nextPositions.fill(0);
+            int reached = 0;
+            for (int x = 0; x < rows; x++) {
+                for (int y = 0; y < columns; y++) {
+                    if (positions.get(y, x) == 1) {
+                        // Stay put at the current location, but only if possible as it might become a blizzard.
+                        reached += addWhenPossible(nextPositions, x, y, valley, minute);
+                        // All possible directions.
+                        reached += addWhenPossible(nextPositions, x - 1, y, valley, minute);
+                        reached += addWhenPossible(nextPositions, x, y + 1, valley, minute);
+                        reached += addWhenPossible(nextPositions, x + 1, y, valley, minute);
+                        reached += addWhenPossible(nextPositions, x, y - 1, valley, minute);
+                    }
+                }
             }
-            mapsInTime.put(time, nextMap);
-
-            final Set<Coord> newCoords = findPossibilities(coordsInTime.get(time - 1), nextMap);
-            if (newCoords.contains(end)) {
+            if (nextPositions.get(end.y, end.x) == 1) {
                 searching = false;
-            } else {
-                coordsInTime.put(time, newCoords);
             }
-        }
 
-        return new Solution(nextMap(mapsInTime.get(time)), time + 1);
-    }
+            final OffHeapGrid reachedPositions = nextPositions;
+            nextPositions = positions;
+            positions = reachedPositions;
 
-    private static void printMap(final String[][] map) {
-        for (int i = 0; i < map.length; i++) {
-            for (int j = 0; j < map[i].length; j++) {
-                if (map[i][j] == null) {
-                    System.out.print('.');
-                } else if (map[i][j].length() == 1) {
-                    System.out.print(map[i][j]);
-                } else {
-                    System.out.print(map[i][j].length());
-                }
-            }
-            System.out.println();
+            statesExplored += reached;
+            event.finish(time, statesExplored, valley.minutes(), reached);
+            POSITIONS.add(reached);
+            MINUTE.record(System.nanoTime() - minuteStart);
         }
-        System.out.println();
-    }
 
-    private static Set<Coord> findPossibilities(final Set<Coord> coords, final String[][] nextMap) {
-        return coords.stream()
-                .flatMap(coord -> {
-                    final Set<Coord> possibilities = new HashSet<>();
-                    // Stay put at the current location. It might be more convenient to wait for the next opportunity.
-                    if (nextMap[coord.x][coord.y] == null) {
-                        possibilities.add(coord);
-                    }
-
-                    // Stay put at the current location. It might be more convenient to wait for the next opportunity.
-                    // But only if possible as your current spot might become a blizzard.
-                    addWhenPossible(possibilities, new Coord(coord.x, coord.y), nextMap);
-                    // All possible directions.
-                    addWhenPossible(possibilities, new Coord(coord.x - 1, coord.y), nextMap);
-                    addWhenPossible(possibilities, new Coord(coord.x, coord.y + 1), nextMap);
-                    addWhenPossible(possibilities, new Coord(coord.x + 1, coord.y), nextMap);
-                    addWhenPossible(possibilities, new Coord(coord.x, coord.y - 1), nextMap);
-
-                    return possibilities.stream();
-                })
-                .collect(Collectors.toSet());
+        // One more minute to step out of the valley.
+        return time + 1;
     }
 
-    private static void addWhenPossible(final Set<Coord> possibilities, final Coord coord, final String[][] nextMap) {
+    // Returns 1 when the position was not reached before and can be reached at the minute.
+    private static int addWhenPossible(final OffHeapGrid positions, final int x, final int y, final Valley valley, final int minute) {
+        final int rows = valley.rows();
+        final int columns = valley.columns();
+        final boolean possible;
         // Must not be out of bounds or in the wall.
-        if (coord.x > 0 && coord.x < nextMap.length - 1 && coord.y > 0 && coord.y < nextMap[0].length) {
+        if (x > 0 && x < rows - 1 && y > 0 && y < columns) {
             // The spot is free.
-            if (nextMap[coord.x][coord.y] == null) {
-                possibilities.add(coord);
-            }
-        } else if ((coord.x == 0 && coord.y == 1) || (coord.x == nextMap.length - 1 && coord.y == nextMap[0].length - 2)){
+            possible = valley.cell(minute, x, y) == 0;
+        } else {
             // Always add the possibility to stay on the initial position.
-            possibilities.add(coord);
+            possible = (x == 0 && y == 1) || (x == rows - 1 && y == columns - 2);
+        }
+
+        if (possible && positions.get(y, x) == 0) {
+            positions.set(y, x, 1);
+            return 1;
         }
 
+        return 0;
     }
 
+    // The valley at every minute of the cycle of the blizzards, worked out the first time it is needed. All minutes are
+    // rows of one off-heap grid.
+    private static final class Valley {
 
-    private static String[][] nextMap(final String[][] map) {
-        final String[][] nextMap = new String[map.length][map[0].length];
-        for (int i = 0; i < map.length; i++) {
-            for (int j = 0; j < map[0].length; j++) {
-                if (map[i][j] != null) {
-                    for (char c : map[i][j].toCharArray()) {
-                        switch (c) {
-                            case '#' -> nextMap[i][j] = "" + c;
-                            case BLIZZARD_UP -> {
-                                if (i == 1) {
-                                    addToMap(nextMap, map.length - 2, j, c);
-                                } else {
-                                    addToMap(nextMap, i - 1, j, c);
-                                }
-                            }
-                            case BLIZZARD_RIGHT -> {
-                                if (j == map[i].length - 2) {
-                                    addToMap(nextMap, i, 1, c);
-                                } else {
-                                    addToMap(nextMap, i, j + 1, c);
-                                }
-                            }
-                            case BLIZZARD_DOWN -> {
-                                if (i == map.length - 2) {
-                                    addToMap(nextMap, 1, j, c);
-                                } else {
-                                    addToMap(nextMap, i + 1, j, c);
-                                }
-                            }
-                            case BLIZZARD_LEFT -> {
-                                if (j == 1) {
-                                    addToMap(nextMap, i, map[i].length - 2, c);
-                                } else {
-                                    addToMap(nextMap, i, j - 1, c);
-                                }
-                            }
-                            default -> throw new IllegalArgumentException("Did not expect character " + c + " on the map.");
-                        }
-                    }
+        private final int rows;
+        private final int columns;
+        // At this point the cycle of blizzards will repeat itself. No need to calculate more maps.
+        private final int cycle;
+        private final OffHeapGrid minutes;
+        private int calculated;
+
+        Valley(final OffHeapGrid map) {
+            rows = map.height();
+            columns = map.width();
+            cycle = (rows - 2) * (columns - 2);
+            minutes = OffHeapGrid.ofBytes(columns, rows * cycle);
+            for (int x = 0; x < rows; x++) {
+                for (int y = 0; y < columns; y++) {
+                    minutes.set(y, x, map.get(y, x));
                 }
             }
+            calculated = 1;
         }
 
-        return nextMap;
-    }
+        int rows() {
+            return rows;
+        }
 
-    private static void addToMap(final String[][] nextMap, final int i, final int j, final char c) {
-        if (nextMap[i][j] == null) {
-            nextMap[i][j] = "" + c;
-        } else {
-            nextMap[i][j] += c;
+        int columns() {
+            return columns;
+        }
+
+        int minutes() {
+            return calculated;
+        }
+
+        int cell(final int minute, final int x, final int y) {
+            final int m = minute % cycle;
+            while (calculated <= m) {
+                nextMap(calculated - 1);
+                calculated++;
+            }
+
+            return minutes.get(y, m * rows + x);
+        }
+
+        private void nextMap(final int minute) {
+            final int from = minute * rows;
+            final int to = from + rows;
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    final int cell = minutes.get(j, from + i);
+                    if ((cell & WALL) != 0) {
+                        add(to + i, j, WALL);
+                    }
+                    if ((cell & BLIZZARD_UP) != 0) {
+                        add(to + (i == 1 ? rows - 2 : i - 1), j, BLIZZARD_UP);
+                    }
+                    if ((cell & BLIZZARD_RIGHT) != 0) {
+                        add(to + i, j == columns - 2 ? 1 : j + 1, BLIZZARD_RIGHT);
+                    }
+                    if ((cell & BLIZZARD_DOWN) != 0) {
+                        add(to + (i == rows - 2 ? 1 : i + 1), j, BLIZZARD_DOWN);
+                    }
+                    if ((cell & BLIZZARD_LEFT) != 0) {
+                        add(to + i, j == 1 ? columns - 2 : j - 1, BLIZZARD_LEFT);
+                    }
+                }
+            }
+        }
+
+        private void add(final int row, final int column, final int blizzard) {
+            minutes.set(column, row, minutes.get(column, row) | blizzard);
         }
     }
 
-    private static String[][] parseMap(final String[] input) {
-        final String[][] map = new String[input.length][input[0].length()];
+    private static OffHeapGrid parseMap(final String[] input) {
+        final OffHeapGrid map = OffHeapGrid.ofBytes(input[0].length(), input.length);
         for (int i = 0; i < input.length; i++) {
             for (int j = 0; j < input[i].length(); j++) {
-                if (input[i].charAt(j) != EMPTY) {
-                    map[i][j] = "" + input[i].charAt(j);
-                }
+                map.set(j, i, switch (input[i].charAt(j)) {
+                    case '.' -> 0;
+                    case '#' -> WALL;
+                    case '^' -> BLIZZARD_UP;
+                    case '>' -> BLIZZARD_RIGHT;
+                    case 'v' -> BLIZZARD_DOWN;
+                    case '<' -> BLIZZARD_LEFT;
+                    default -> throw new IllegalArgumentException("Did not expect character " + input[i].charAt(j) + " on the map.");
+                });
             }
         }
 
         return map;
     }
 
-    private static long part2(final String[] input) {
-        final String[][] map = parseMap(input);
-
+    @Override
+    public Long part2(final OffHeapGrid map) {
         final Coord start = new Coord(0, 1);
-        final Coord end = new Coord(map.length - 2, map[0].length - 2);
+        final Coord end = new Coord(map.height() - 2, map.width() - 2);
 
-        final Coord secondStart = new Coord(map.length - 1, map[0].length - 2);
+        final Coord secondStart = new Coord(map.height() - 1, map.width() - 2);
         final Coord secondEnd = new Coord(1, 1);
 
-        final Solution toEnd = solve(map, start, end);
-        final Solution backToStart = solve(toEnd.map, secondStart, secondEnd);
-        final Solution backToEnd = solve(backToStart.map, start, end);
+        final Valley valley = new Valley(map);
+        final int toEnd = solve(valley, 0, start, end);
+        final int backToStart = solve(valley, toEnd, secondStart, secondEnd);
+        final int backToEnd = solve(valley, toEnd + backToStart, start, end);
 
-        return toEnd.time + backToStart.time + backToEnd.time;
+        return (long) toEnd + backToStart + backToEnd;
     }
 
     private record Coord(int x, int y) {}
@@ -208,77 +230,30 @@ public class Day24 {
     public static void main(final String[] args) {
 
         // Parsing input
-        final var testInput = TST_INPUT.split("\n");
-        final var input = INPUT.split("\n");
+        final Day24 solver = new Day24();
+        final var testInput = solver.parse(Inputs.resource("day24-test.txt"));
+        final var input = solver.parse(solver.input());
 
         {
             final var expectedResult = 18;
-            final var part1 = part1(testInput);
+            final var part1 = solver.part1(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 1: %d", part1));
 
             if (expectedResult == part1) {
-                final var result = part1(input);
+                final var result = solver.part1(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 1: %d", result));
             }
         }
 
         {
             final var expectedResult = 54;
-            final var testResult = part2(testInput);
+            final var testResult = solver.part2(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 2: %d", testResult));
 
             if (expectedResult == testResult) {
-                final var result = part2(input);
+                final var result = solver.part2(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 2: %d", result));
             }
         }
     }
-    private static final String TST_INPUT = """
-            #.######
-            #>>.<^<#
-            #.<..<<#
-            #>v.><>#
-            #<^v^^>#
-            ######.#
-            """;
-
-    private static final String INPUT = """
-            #.####################################################################################################
-            #<v>v>v><>^<>^.^vv<>><>>v.>v<.v>>v<<v<.^<>>>v<v^>.^<^>v>^<^v.^>v^>>><v<>v^<v<<^^.vv>.^>v>v<.^v<><v<>>#
-            #>>v<^<>vvv.>^.v^^>^<<vv>>v.<^<>v^<v^>v^<>>.v.^<<v^.^v^v><<.^vv<^<^v>.vvv<v>.<>>^>.<<<<<<.<^^<v.<>.v<#
-            #<<<>^^>>>>.v^>v<>^>^^v>v^^v..v^.<<^>^>.>v^^vv.<>>^><<>v.<v<^^<<v^v<.>^>v<>^^<<>v<<^^><vv>vv<<^^...^>#
-            #>>v><><<<^<.>v^<<v^>v^^<>>v<<>>.<>v><^<^<.^<><^^^vv>><v<v>vv>^>v^>>vv>><<v^<><>^v.vv>^<^<>v<vvvv^v><#
-            #<^<^>v^^<>>^<.^^>^vv><v<^^^.v^>><v^>v^.>>v^<..>>.v>v<v^^<.v<<^v<<>v.^>><>v<<>.^<<<<<>>>^<><v>><^>>v>#
-            #>v>^^^v<v^.>^>^>v>>>v>v<v^v^<v>>><<>v..>>vvv<^><<>>^^.>v^<^>>.^v><v<^<.^>>vv<v^<^vv^<<<^><v.>v<^<.v>#
-            #>v^>>v^<^<<^<v>..<.v^<.<><>v>v^<.><<<<^><<.<><><><.<.^.>^v^><<<vv.<>vvv<v^v.<^<>>>^>v<^v^<><><v>.^><#
-            #<><>>vv..<v^vv><^v^.^^vv.^>^>>v<>vv>^><<<><^vvv>>><>><>>^^<v<><^^v^^>.^>^<.<<^..v<v>v^>^v^v<<.v^<v<>#
-            #>><^<>.v.><^.^^..^<v.v><v^<<v>^<><^>^..<vv>><^^>v^>.^><v>v^v>>>>vv<<>><v^<<^^v^vv<.>vv^><v^.^v>...v>#
-            #>vv<v<><v>v>v>><^>>.<^<<^<^>^.^v>>vv^vv<^v><>>v^<^v.v^<v<vv^v><.^^>><.v^^><<^<><^>>vv^.><vv^<>>v.><<#
-            #<^<^<>v^v^^^<<v<>vv<<<.v<v^v^^><.>^.v.>vvv>^<<<v>^^>.^<<.v<v>^v..v<<<<<^^v^v^<>^>>^.>^<^v<.v..^v^>^>#
-            #<<^^<>^^><v>v.<<><<<v<^<^>^<<^v<<>^^<.^^^^<>^>><^>.v^v>v.<.^<<vv^^>>>^v<v<<vv^><<.<>>><.v<^^>>^v>^^<#
-            #>v><>..v^>v>^<<^>vv>.^v^v>>v^^^>><><<>v^.vv^.<><v>^^v^>.<^><<^^>>v^.^^^>v.<>^^<^>>^<^<<<^>^<>>^<<v<>#
-            #>vv<.vv><>^>>>>.<>.>v^>>v><<<v<.v^v>v^<v^<>>vv><.<><v>^>^<^^v^>v^<><>^^^>^<<^^.>..>.>^>^>>^>v>v<v<><#
-            #<>>v^>^<.v^^.^<vv^<>^>^^<^.^.>^<<^>><^vv><.v><^vv^^^^^v><><vv.v.>.^^v^v.>^v.<><v>>v>vv^.vv^^<>^>.><<#
-            #>>>>>>>.v<>^<^.>><v^^<v.<^<^>vv.^v>^>.>^>>^>>v^>v>.v.><<^^<^<vv.vv<vvvvv^^v><^^^>>><^>>v<v>>>v<^^.^>#
-            #>^^^^<<v^^^...^<v>>^^v^^><<.<><>^v^v^>>>^^>.v<v.v<v^^v<vv>v>vv>^v^<>^vv^vv.^vv>v^v>v>>.<>>><^^<^^>^<#
-            #<^^^<v>^.<>^>^<^<v>vv<vv<^vv^^<><v^>v>^.><^^v<>><>vvvv^>^^<<^v><<v^v<><^<<>^.v<><vv<><>>^.>v>vv>><^<#
-            #>v^^^^><^<vv<^<v>v.<^.><.^>>^<>v.<<^<>.>vv<<.vv.v>v^.<^<^^>>^.><>v<v<v>v<v>>vv>^<><^<v>>><v>><<vvv^.#
-            #>><>><^^<^^>v<^.^>><<v<^v<>v>v^<<<<^^.v>v^.>v^<^><^v<v.>><v<^>^^>^^^^.<v>^>.v^<^^<<><>.<v^v>^^>v<^.<#
-            #><v>v^^<>.vvv>>.<..^^.<<^>>v^<>.<v<<vv><v<^v.^>>>v>.<^>.vvv<v<^<^^>^>v>v<>v<^v<vv^>v<<<<<>.^v^^.>><.#
-            #<>>.<>^^>>><>>^<><<^^v^><v><<<<v>>^<^vv<<.v^<<<^>v>v^<^.<<<<^<^v^>vv.<.^><v<.^^<^>^.>^v^v>^>^<^.v><.#
-            #<^<.<^^<>^v<^<^>^>^.>.<<^.v<>v^^>>..v^v<.>^>^.^^v>^v^>vv>>^<^>>>^>><<v><><<v^<>>v.vv><>.><^.v<^<v<<>#
-            #<v^.v<>^^>v>.vv><>^v<^<^.<^>>v^^.><^<v<>v<<vv<>.<>v<v<>.>^^.v.^v><^^.^v<vv<<^<>>v.>^^.>^^><>>>>.^^.<#
-            #<>^<>^><.^^^v<^v^>v.>^<>^^v<vv^><v^^>^.><>^v<v>v<>.^><^^>^v<<.>>^^<.v<><vv>vv>>>v^v><v^<^<>v<^>>^<.<#
-            #>v^<v^>^>>^<^<^>v<^vvvv<<<vv<.><^<.^^>.>^.v<v<><<.<v>v^vv<>^<v<^<>>.^<>^v<vv<<><<.<^><v<<^><^<><<>^>#
-            #<<><..v<^v<>^.v>v^.<v.><>>v>>vv>v^^^><vvv<.>^^<v<vv<<v<.^^^..^<<<^^v^>><>>^v>v><<>^^v..>^<^vv^<v><^<#
-            #><>vv<<<.vv>^^<v>^<^<vvv^v<<<<<^v<.>>^><^v>vv><v>>>^^^<v.><>><<v^^.vv.^v><<<<<<^>^v>>.>>v.>v^<<>^v^.#
-            #.^>>>vv>vv>^^v>>^.<v>^v.>^>..<v.><^<^>.^<v^<>^v^v^>vv<>v^^><<.^>>^..<^^>><.vv>>v^<v><<^v>>>>v><>.^v>#
-            #>^^^>v<><><v>>>^^vv^^^v.v><v<>>^v^v^^>^v.>vv..^>>^v^<.^<<v<>^v<^<..^v>^<^^^v.v^>^^<>v><^<.^<v^.v.v>>#
-            #>v>v>>>vvvv<>>v^><>v<v^.^>>v>.v^vv.^^v.^>>>^^^>v.v<^>>v<v<>^^v^^>^<v..v^<^>^v^vv<<v><vv.v^v.vv>v<^.>#
-            #><^<>v^>>^><>vv>v^><<v<.>^.v^><<<^v>^>.v<<>^vvvv>.vv^v.><<^<v^.<.vv.vv^^>v^>v>>v^v><<v<^<v<><^v<>^^<#
-            #<vv^^>v>v<^>.<>..>>vv^^v^<vv>^.>^<^><v><^>>>><.^>v^<v^>v^<>.<.>.<<^<v>><v>>vvv<>.v^<>vvvv>v<.>^vv^v>#
-            #>.<^<<^<>^v.^v^>v^<<>^^>^<.vvvv<^<.v^<>v>><v^^.v^v^<>><.^<v<<>.>v^>^><.>^>>.v^.^..^<v^^v^vv<^v.><<>>#
-            #<>>>v<vv.^v>v^.v<<v<><v..v>vv^^v^<vv>><<v<v^>v<.>^.^v^<.>><><>^<>>vv>^>.>v><><^vv>>v>^^<<..><.>.>^.>#
-            ####################################################################################################.#
-            """;
 }
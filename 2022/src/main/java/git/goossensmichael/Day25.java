@@ -1,14 +1,31 @@
 package git.goossensmichael;
 
+import git.goossensmichael.utils.ByteScan;
+import git.goossensmichael.utils.Inputs;
+
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class Day25 {
+@SolverVersion(1)
+@AllocationBudget(parse = 16, part1 = 0.6, part2 = 0.01)
+public class Day25 implements Solver<String[]> {
 
     private static final Logger LOGGER = Logger.getLogger(Day25.class.getName());
 
-    private static long part1(final String[] input) {
+    @Override
+    public String[] parse(final ByteBuffer input) {
+        return ByteScan.lines(input);
+    }
+
+    // The answer is the sum of all fuel requirements written as a SNAFU number.
+    @Override
+    public String part1(final String[] input) {
+        return decimalToSnafu(sum(input));
+    }
+
+    private static long sum(final String[] input) {
         return Arrays.stream(input)
                 .mapToLong(Day25::snafuToDecimal)
                 .sum();
@@ -63,9 +80,10 @@ public class Day25 {
         };
     }
 
-    private static long part2(final String[] input) {
+    @Override
+    public Long part2(final String[] input) {
 
-        return 0;
+        return 0L;
     }
 
     public static void main(final String[] args) {
@@ -73,17 +91,18 @@ public class Day25 {
         System.out.println(decimalToSnafu(4));
 
         // Parsing input
-        final var testInput = TST_INPUT.split("\n");
-        final var input = INPUT.split("\n");
+        final Day25 solver = new Day25();
+        final var testInput = solver.parse(Inputs.resource("day25-test.txt"));
+        final var input = solver.parse(solver.input());
 
         {
             final var expectedResult = 4890;
             System.out.println(decimalToSnafu(expectedResult));
-            final var part1 = part1(testInput);
+            final var part1 = sum(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 1: %d", part1));
 
             if (expectedResult == part1) {
-                final var result = part1(input);
+                final var result = sum(input);
                 System.out.println(decimalToSnafu(result));
                 LOGGER.log(Level.INFO, () -> String.format("Part 1: %d", result));
             }
@@ -91,167 +110,13 @@ public class Day25 {
 
         {
             final var expectedResult = 140;
-            final var testResult = part2(testInput);
+            final var testResult = solver.part2(testInput);
             LOGGER.log(Level.INFO, () -> String.format("Test part 2: %d", testResult));
 
             if (expectedResult == testResult) {
-                final var result = part2(input);
+                final var result = solver.part2(input);
                 LOGGER.log(Level.INFO, () -> String.format("Part 2: %d", result));
             }
         }
     }
-    private static final String TST_INPUT = """
-            1=-0-2
-            12111
-            2=0=
-            21
-            2=01
-            111
-            20012
-            112
-            1=-1=
-            1-12
-            12
-            1=
-            122
-            """;
-
-    private static final String INPUT = """
-            1022-=-111=02=
-            1-=02
-            1=-=002=20-21----01
-            12--=1121
-            1==1=2==220=
-            1-102-=2111
-            1--=0=2=20
-            10--0
-            2--02-2=-110=-==2=1
-            2=11222
-            1022==
-            1=22=2121
-            110200=1-20111--22
-            20-21000-2
-            10=2--0-=1-1
-            11=2-2
-            1=0-00=-21
-            20-=122
-            1-=0=-0-
-            1===12022=
-            1010==1-
-            1=====12=2010
-            1=-01==0=
-            1102--=0=2222
-            22=1=
-            2220210--=
-            1-=2021=-=022-
-            12=
-            102-22
-            22022-1=1
-            1===1--0-2-1
-            1221-=2==2=
-            11=
-            2=012=22
-            211
-            2
-            12100011012
-            211110==1-1-=0=1=
-            2=-
-            1=-02-2--
-            22-
-            1=02
-            1=0--
-            120-
-            22-21=20100222=
-            210-002-101221=
-            1=-21=--10=212=22
-            100-==
-            2=0=00220-=00=--=2
-            1=00-1122-1-2-1-10
-            10-
-            1111=11-021-22=0
-            1-==-1=-2120020
-            12--011=-0-1-=0
-            210-11
-            1=111
-            1=--
-            112=02101
-            212-=11=-1--=1==-
-            10-==-1
-            2==00-110
-            1=0-1==22=0-0===20-0
-            10-=1===01=22
-            2102=
-            2-=221=2
-            2-101=02210-20=
-            10-10201=021=0==1
-            12=0-11121-012
-            1=2=
-            102-=1--=00=11=-
-            1-0==-102=00
-            121=
-            11-2-21-00==0-
-            112-22000=0=
-            1=10-2001010--
-            1-12=02=020
-            11001-=-1-0212--0
-            1112=--0=1=-102
-            1-0010-=-==0
-            10210=-=0-=1=22-=1
-            210-0-01-=1==-
-            12002-1-2
-            1-=2-10=-102=001=
-            2==20
-            1-=0021=1=-
-            1=0-=0
-            2--
-            111--==2220
-            11-2211=-=2-=0
-            1-0-=---
-            1-010=0=-2-10=
-            10--0012-10=00=
-            1=2=221210
-            1-121011=20001==
-            2==0=2-22021=0=--
-            21102-
-            122=-=1-==
-            10=1=201111
-            2000=2--1=0-
-            1=-
-            2=
-            2-1=01=-121=-
-            1-120=101202-01
-            1==
-            22=2=01-1-02=0-
-            1101=-==0==-
-            1=1-=-=2=-
-            2021-2=
-            1==0--=--===220-=--
-            202=0112=2
-            12=01-2-=-
-            1=020-=
-            1=02101==111=-0
-            212=2-02
-            11-0-12-2-2=022
-            1==21
-            1=-1121-2220-=22=11
-            1=0012==
-            1=-0-2-1-==100=-100
-            2=-=2=2-0=
-            1=00
-            11012=0-
-            1-02-0-0-12==1
-            2110
-            1=2-1=22=1=
-            211202-
-            20000-
-            1-20
-            1=1001110-22=0=
-            10-0=00121
-            12=2==021-==2=201=
-            1-0--2
-            22=12111=101=11
-            11-02-=
-            1=110-2-==12=1=1020
-            1=2
-            """;
 }
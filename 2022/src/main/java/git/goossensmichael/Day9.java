@@ -1,61 +1,81 @@
 package git.goossensmichael;
 
-import javax.swing.text.Position;
-import java.util.HashSet;
-import java.util.Set;
+import git.goossensmichael.utils.ByteScan;
+import git.goossensmichael.utils.Coordinates;
+import git.goossensmichael.utils.Inputs;
+import git.goossensmichael.utils.LongHashSet;
 
-public class Day9 {
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+@SolverVersion(1)
+@AllocationBudget(parse = 170, part1 = 190, part2 = 370)
+public class Day9 implements Solver<List<Day9.Motion>> {
 
     public static void main(final String[] args) {
-        // Parsing input
-        final String[] moves = TST2_INPUT.split("\n");
+        final Day9 solver = new Day9();
+        final List<Motion> motions = solver.parse(Inputs.resource("day9-test2.txt"));
 
-        {
-            final Set<Position> tailPositions = new HashSet<>();
-            Position head = new Position(0, 0);
-            Position tail = head;
-            tailPositions.add(tail);
+        System.out.println("Positions of tail: " + solver.part1(motions));
+        System.out.println("Positions of knot 9: " + solver.part2(motions));
+    }
 
-            for (final String move : moves) {
-                final String[] instruction = move.split(" ");
-                for (int amountOfMoves = Integer.parseInt(instruction[1]); amountOfMoves > 0; amountOfMoves--) {
-                    head = nextPosition(head, instruction[0]);
-                    tail = follow(tail, head);
-                    tailPositions.add(tail);
-                }
+    @Override
+    public List<Motion> parse(final ByteBuffer input) {
+        return Arrays.stream(ByteScan.lines(input))
+                .map(move -> {
+                    final String[] instruction = move.split(" ");
+                    return new Motion(instruction[0], Integer.parseInt(instruction[1]));
+                })
+                .toList();
+    }
 
+    @Override
+    public Object part1(final List<Motion> motions) {
+        final LongHashSet tailPositions = new LongHashSet();
+        Position head = new Position(0, 0);
+        Position tail = head;
+        tailPositions.add(Coordinates.pack(tail.x(), tail.y()));
+
+        for (final Motion motion : motions) {
+            for (int amountOfMoves = motion.steps(); amountOfMoves > 0; amountOfMoves--) {
+                head = nextPosition(head, motion.direction());
+                tail = follow(tail, head);
+                tailPositions.add(Coordinates.pack(tail.x(), tail.y()));
             }
 
-            System.out.println("Positions of tail: " + tailPositions.size());
         }
 
-        {
-            final Set<Position> tailPositions = new HashSet<>();
-            Position head = new Position(0, 0);
-            final Position[] knots = new Position[] { head, head, head, head, head, head, head, head, head };
-            tailPositions.add(knots[8]);
-
-            for (final String move : moves) {
-                final String[] instruction = move.split(" ");
-                for (int amountOfMoves = Integer.parseInt(instruction[1]); amountOfMoves > 0; amountOfMoves--) {
-                    head = nextPosition(head, instruction[0]);
+        return tailPositions.size();
+    }
 
-                    Position previousKnot = head;
-                    for (int i = 0; i < knots.length; i++) {
-                        knots[i] = follow(knots[i], previousKnot);
-                        previousKnot = knots[i];
-                    }
-                    tailPositions.add(knots[8]);
+    @Override
+    public Object part2(final List<Motion> motions) {
+        final LongHashSet tailPositions = new LongHashSet();
+        Position head = new Position(0, 0);
+        final Position[] knots = new Position[] { head, head, head, head, head, head, head, head, head };
+        tailPositions.add(Coordinates.pack(knots[8].x(), knots[8].y()));
+
+        for (final Motion motion : motions) {
+            for (int amountOfMoves = motion.steps(); amountOfMoves > 0; amountOfMoves--) {
+                head = nextPosition(head, motion.direction());
+
+                Position previousKnot = head;
+                for (int i = 0; i < knots.length; i++) {
+                    knots[i] = follow(knots[i], previousKnot);
+                    previousKnot = knots[i];
                 }
-
+                tailPositions.add(Coordinates.pack(knots[8].x(), knots[8].y()));
             }
 
-            System.out.println("Positions of knot 9: " + tailPositions.size());
         }
 
-
+        return tailPositions.size();
     }
 
+    record Motion(String direction, int steps) {}
+
     private static Position nextPosition(final Position head, final String direction) {
         return switch(direction) {
             case "R" -> new Position(head.x + 1, head.y);
@@ -84,2029 +104,4 @@ public class Day9 {
     }
 
     private record Position(int x, int y) {};
-
-    private static final String TST_INPUT = """
-            R 4
-            U 4
-            L 3
-            D 1
-            R 4
-            D 1
-            L 5
-            R 2
-            """;
-
-    private static final String TST2_INPUT = """
-            R 5
-            U 8
-            L 8
-            D 3
-            R 17
-            D 10
-            L 25
-            U 20
-            """;
-
-    private static final String INPUT = """
-            U 1
-            R 1
-            L 1
-            D 1
-            R 1
-            L 1
-            D 1
-            L 2
-            D 1
-            R 1
-            D 2
-            L 1
-            R 1
-            D 2
-            U 2
-            L 1
-            R 1
-            U 1
-            D 1
-            R 1
-            L 2
-            R 2
-            L 1
-            R 2
-            D 1
-            U 1
-            R 1
-            L 2
-            R 2
-            D 2
-            U 1
-            L 2
-            D 2
-            U 2
-            L 2
-            U 1
-            R 1
-            L 1
-            D 2
-            L 1
-            U 2
-            L 1
-            D 1
-            U 2
-            R 2
-            U 1
-            D 2
-            U 2
-            D 1
-            L 2
-            R 1
-            D 1
-            R 1
-            D 2
-            L 1
-            U 2
-            D 1
-            L 2
-            U 1
-            D 1
-            L 2
-            R 2
-            D 2
-            L 2
-            U 1
-            D 1
-            L 2
-            U 2
-            L 2
-            U 2
-            R 1
-            L 1
-            R 2
-            D 2
-            R 1
-            L 2
-            R 1
-            D 1
-            R 1
-            U 2
-            D 2
-            L 1
-            U 2
-            D 2
-            L 2
-            U 1
-            R 1
-            D 1
-            U 1
-            R 1
-            L 2
-            U 2
-            L 1
-            R 2
-            L 2
-            D 2
-            U 1
-            D 2
-            U 1
-            L 1
-            U 2
-            D 2
-            R 1
-            D 1
-            L 2
-            R 2
-            D 1
-            L 1
-            R 1
-            U 1
-            L 2
-            R 2
-            U 1
-            R 3
-            D 2
-            U 2
-            L 3
-            R 3
-            D 3
-            U 3
-            R 1
-            D 2
-            R 1
-            D 1
-            L 2
-            R 3
-            D 3
-            U 3
-            D 3
-            R 1
-            U 2
-            D 3
-            L 3
-            R 2
-            L 2
-            D 3
-            U 2
-            D 1
-            R 3
-            D 1
-            U 1
-            L 2
-            D 1
-            U 1
-            L 1
-            D 1
-            R 3
-            D 2
-            L 1
-            R 1
-            L 2
-            U 3
-            L 1
-            U 1
-            L 3
-            R 3
-            L 3
-            R 2
-            D 2
-            R 1
-            U 2
-            R 1
-            D 3
-            U 3
-            L 1
-            U 2
-            D 3
-            R 2
-            D 1
-            U 1
-            D 1
-            R 3
-            U 1
-            R 2
-            L 1
-            D 1
-            U 1
-            R 2
-            L 1
-            U 3
-            L 1
-            R 1
-            U 3
-            L 3
-            D 2
-            R 2
-            D 1
-            L 3
-            R 3
-            D 1
-            L 2
-            U 3
-            D 1
-            U 1
-            R 1
-            L 1
-            U 2
-            D 2
-            R 3
-            U 3
-            R 1
-            U 2
-            D 2
-            R 2
-            D 2
-            R 1
-            L 2
-            D 1
-            U 2
-            L 3
-            U 2
-            D 3
-            L 2
-            R 1
-            D 1
-            L 1
-            U 2
-            D 1
-            L 3
-            R 2
-            D 2
-            R 3
-            L 3
-            D 3
-            U 1
-            R 1
-            L 3
-            R 2
-            L 1
-            U 2
-            L 4
-            D 1
-            L 4
-            D 3
-            L 3
-            D 2
-            U 3
-            L 3
-            D 4
-            U 4
-            D 4
-            L 3
-            D 1
-            R 4
-            D 4
-            R 2
-            L 3
-            D 4
-            R 3
-            D 3
-            R 3
-            L 4
-            U 3
-            R 1
-            D 4
-            U 2
-            R 3
-            U 2
-            L 4
-            R 3
-            L 2
-            R 4
-            L 2
-            R 4
-            U 2
-            R 4
-            U 3
-            L 3
-            D 4
-            R 3
-            U 4
-            R 3
-            D 4
-            U 2
-            D 4
-            U 1
-            R 1
-            U 3
-            D 4
-            U 2
-            D 3
-            L 2
-            U 4
-            L 1
-            U 1
-            L 1
-            U 3
-            R 2
-            U 1
-            R 3
-            D 1
-            U 2
-            R 1
-            U 4
-            D 3
-            L 4
-            U 4
-            R 1
-            D 2
-            L 4
-            R 3
-            U 2
-            L 1
-            U 1
-            L 2
-            U 4
-            D 1
-            L 3
-            R 3
-            L 3
-            R 4
-            L 2
-            R 4
-            U 2
-            D 3
-            R 4
-            L 3
-            R 1
-            L 3
-            D 4
-            L 1
-            R 4
-            U 3
-            R 3
-            L 4
-            D 3
-            R 4
-            L 4
-            R 2
-            L 4
-            D 4
-            R 4
-            D 4
-            R 4
-            L 3
-            D 1
-            U 4
-            R 5
-            L 3
-            R 3
-            L 1
-            R 3
-            D 3
-            U 5
-            R 2
-            U 4
-            D 1
-            R 3
-            D 1
-            R 3
-            U 5
-            D 5
-            U 5
-            L 2
-            D 1
-            U 3
-            L 5
-            R 1
-            D 5
-            L 3
-            U 5
-            L 3
-            R 5
-            L 1
-            U 3
-            D 1
-            L 5
-            R 2
-            U 5
-            L 1
-            D 1
-            U 1
-            D 5
-            L 2
-            U 4
-            R 2
-            D 1
-            U 3
-            L 3
-            D 1
-            R 4
-            D 3
-            U 2
-            D 3
-            R 5
-            U 5
-            D 1
-            L 3
-            U 2
-            R 2
-            D 3
-            U 5
-            R 1
-            L 4
-            D 3
-            R 3
-            D 4
-            L 3
-            D 5
-            R 5
-            D 3
-            R 1
-            U 3
-            R 1
-            L 3
-            D 3
-            L 3
-            D 1
-            R 1
-            U 4
-            D 4
-            R 2
-            D 4
-            L 4
-            U 5
-            L 2
-            R 5
-            D 5
-            R 1
-            D 1
-            R 1
-            L 1
-            R 4
-            U 4
-            L 2
-            R 2
-            L 5
-            D 3
-            R 5
-            L 5
-            D 2
-            R 1
-            D 2
-            R 2
-            L 1
-            U 1
-            R 5
-            U 4
-            D 2
-            U 3
-            D 3
-            R 4
-            L 2
-            D 5
-            U 5
-            L 5
-            R 4
-            D 1
-            U 3
-            R 3
-            L 6
-            U 6
-            R 6
-            L 2
-            D 2
-            U 3
-            R 4
-            D 2
-            L 1
-            R 1
-            L 1
-            R 1
-            L 4
-            U 2
-            D 2
-            U 4
-            R 1
-            L 3
-            U 1
-            L 3
-            U 1
-            L 3
-            D 6
-            U 5
-            D 2
-            L 3
-            D 4
-            L 3
-            U 5
-            D 4
-            R 3
-            L 2
-            U 6
-            L 3
-            D 5
-            L 3
-            R 2
-            D 3
-            R 1
-            U 4
-            D 2
-            U 3
-            R 5
-            D 1
-            R 1
-            U 5
-            L 3
-            U 6
-            R 1
-            U 1
-            R 2
-            L 3
-            D 5
-            R 1
-            U 5
-            L 4
-            D 4
-            R 5
-            L 6
-            R 4
-            U 3
-            R 5
-            U 2
-            D 4
-            R 1
-            U 1
-            L 6
-            D 3
-            L 5
-            U 4
-            R 1
-            D 5
-            U 3
-            D 3
-            R 6
-            L 3
-            D 4
-            U 6
-            L 3
-            D 3
-            L 2
-            U 1
-            R 3
-            D 1
-            L 3
-            U 3
-            R 2
-            D 2
-            L 1
-            R 4
-            D 6
-            U 6
-            R 4
-            D 6
-            R 5
-            D 2
-            U 1
-            L 5
-            D 6
-            L 2
-            U 3
-            D 2
-            R 4
-            L 6
-            U 6
-            L 3
-            D 4
-            L 2
-            U 3
-            R 6
-            D 5
-            R 7
-            L 3
-            D 4
-            R 5
-            U 5
-            L 2
-            D 6
-            R 1
-            D 1
-            L 6
-            D 4
-            U 2
-            D 4
-            R 7
-            L 1
-            U 4
-            R 4
-            D 4
-            U 5
-            D 2
-            L 2
-            R 6
-            U 6
-            R 4
-            L 6
-            U 1
-            R 7
-            U 3
-            L 1
-            R 2
-            L 4
-            D 2
-            U 6
-            R 1
-            U 2
-            L 6
-            U 6
-            L 6
-            U 7
-            L 3
-            D 7
-            L 7
-            D 6
-            U 2
-            R 6
-            L 7
-            R 4
-            D 4
-            R 2
-            U 1
-            D 7
-            U 6
-            L 2
-            D 7
-            U 2
-            R 7
-            U 6
-            D 3
-            L 5
-            U 2
-            D 4
-            R 4
-            U 1
-            D 2
-            L 1
-            R 2
-            U 6
-            R 2
-            U 2
-            D 2
-            L 1
-            U 7
-            R 6
-            L 1
-            R 2
-            D 1
-            R 2
-            L 5
-            U 7
-            R 7
-            U 3
-            D 1
-            R 6
-            L 6
-            U 1
-            D 4
-            R 4
-            L 1
-            R 4
-            U 6
-            D 7
-            L 2
-            R 6
-            L 1
-            D 2
-            R 2
-            L 4
-            D 3
-            U 4
-            L 5
-            R 1
-            L 3
-            U 2
-            D 1
-            U 3
-            R 7
-            D 2
-            U 2
-            L 7
-            R 7
-            D 2
-            R 4
-            L 8
-            R 2
-            L 5
-            D 6
-            L 8
-            R 3
-            D 3
-            R 1
-            D 6
-            U 5
-            R 5
-            U 8
-            R 7
-            U 2
-            L 2
-            R 5
-            L 1
-            U 6
-            D 7
-            R 7
-            U 5
-            R 7
-            L 4
-            R 4
-            U 8
-            L 3
-            U 2
-            D 2
-            U 1
-            R 1
-            U 7
-            D 3
-            R 2
-            D 5
-            U 7
-            L 8
-            R 4
-            L 5
-            D 1
-            U 7
-            D 3
-            R 7
-            U 1
-            R 6
-            U 4
-            L 8
-            R 8
-            U 5
-            L 5
-            U 3
-            L 7
-            D 5
-            U 5
-            R 8
-            U 1
-            D 1
-            U 1
-            R 7
-            D 2
-            U 2
-            D 5
-            L 4
-            D 4
-            U 5
-            L 2
-            R 5
-            U 7
-            R 6
-            U 5
-            L 1
-            D 2
-            U 8
-            L 7
-            D 2
-            R 2
-            D 6
-            U 1
-            D 3
-            L 2
-            D 7
-            R 3
-            D 2
-            U 6
-            D 6
-            U 7
-            L 2
-            R 8
-            U 2
-            D 4
-            L 3
-            R 3
-            D 7
-            L 5
-            U 7
-            R 2
-            L 8
-            R 8
-            L 1
-            D 6
-            L 2
-            U 6
-            L 8
-            D 5
-            R 8
-            U 1
-            R 4
-            D 1
-            L 7
-            U 2
-            D 9
-            L 5
-            U 2
-            D 8
-            L 6
-            D 9
-            U 9
-            R 1
-            D 8
-            L 8
-            D 9
-            U 3
-            R 4
-            U 6
-            D 9
-            L 3
-            R 1
-            U 5
-            L 5
-            D 5
-            L 8
-            D 1
-            U 9
-            L 4
-            D 3
-            L 9
-            R 5
-            L 9
-            D 5
-            L 2
-            U 7
-            R 6
-            D 4
-            U 8
-            L 7
-            D 7
-            U 5
-            L 9
-            R 3
-            L 9
-            U 4
-            L 4
-            R 7
-            L 5
-            R 2
-            D 1
-            U 2
-            R 3
-            L 5
-            R 9
-            L 3
-            D 9
-            L 9
-            U 5
-            D 3
-            U 6
-            D 3
-            L 3
-            U 5
-            D 1
-            R 1
-            L 8
-            R 1
-            D 6
-            R 2
-            U 6
-            L 6
-            R 3
-            D 2
-            R 4
-            U 6
-            R 8
-            U 4
-            D 8
-            R 1
-            U 8
-            D 4
-            L 9
-            U 8
-            L 2
-            U 1
-            R 2
-            D 7
-            R 1
-            D 9
-            R 3
-            L 6
-            U 6
-            L 2
-            R 7
-            U 5
-            R 8
-            L 3
-            D 5
-            R 3
-            U 9
-            D 5
-            R 5
-            U 1
-            L 6
-            D 2
-            R 2
-            D 3
-            L 2
-            U 2
-            L 5
-            U 9
-            L 8
-            D 2
-            U 7
-            R 6
-            U 3
-            L 8
-            U 5
-            D 4
-            U 4
-            R 2
-            D 1
-            L 7
-            U 4
-            R 1
-            L 3
-            D 7
-            R 5
-            D 8
-            R 4
-            U 3
-            L 3
-            D 3
-            U 5
-            L 3
-            D 1
-            R 10
-            D 4
-            U 6
-            D 4
-            R 7
-            U 5
-            L 2
-            R 5
-            D 8
-            R 3
-            U 6
-            R 5
-            L 9
-            R 7
-            D 6
-            U 10
-            R 10
-            D 5
-            R 9
-            U 4
-            R 6
-            L 8
-            U 5
-            L 9
-            R 8
-            D 2
-            U 5
-            D 4
-            R 3
-            D 10
-            U 9
-            L 5
-            U 5
-            L 10
-            D 7
-            U 4
-            D 10
-            U 1
-            D 8
-            L 6
-            D 9
-            R 5
-            U 2
-            R 3
-            U 1
-            D 8
-            R 3
-            U 4
-            D 6
-            U 10
-            D 4
-            U 3
-            D 5
-            R 1
-            L 8
-            R 9
-            D 2
-            U 8
-            L 1
-            R 8
-            U 5
-            R 9
-            U 9
-            R 7
-            D 5
-            L 5
-            D 8
-            L 7
-            U 1
-            L 4
-            D 2
-            R 3
-            D 1
-            U 2
-            L 1
-            D 1
-            U 6
-            R 5
-            U 5
-            R 6
-            L 1
-            U 5
-            R 5
-            U 8
-            L 9
-            D 2
-            R 10
-            U 2
-            R 6
-            U 8
-            R 2
-            L 11
-            U 3
-            D 4
-            R 6
-            L 8
-            R 10
-            U 10
-            R 6
-            L 4
-            R 11
-            U 11
-            R 3
-            U 11
-            L 7
-            R 4
-            L 7
-            U 5
-            D 2
-            U 8
-            R 9
-            D 9
-            R 1
-            U 9
-            D 6
-            U 3
-            D 10
-            L 7
-            D 8
-            R 9
-            U 9
-            D 7
-            L 11
-            D 8
-            R 8
-            U 11
-            L 11
-            U 4
-            D 6
-            R 1
-            D 8
-            R 2
-            U 1
-            L 11
-            R 10
-            L 6
-            U 8
-            L 10
-            U 5
-            L 11
-            U 6
-            L 5
-            U 10
-            R 5
-            U 11
-            R 6
-            D 4
-            U 7
-            L 11
-            D 3
-            U 8
-            R 8
-            L 2
-            D 10
-            L 5
-            D 10
-            R 4
-            U 3
-            L 7
-            U 10
-            D 4
-            U 10
-            R 2
-            U 1
-            D 6
-            L 6
-            U 7
-            D 4
-            R 6
-            D 11
-            L 1
-            U 5
-            L 1
-            D 9
-            R 11
-            L 8
-            D 3
-            U 7
-            R 9
-            D 1
-            U 3
-            R 1
-            L 8
-            D 6
-            U 9
-            D 9
-            L 10
-            U 8
-            D 5
-            L 1
-            U 2
-            D 3
-            L 11
-            R 3
-            L 7
-            D 1
-            U 8
-            D 5
-            L 8
-            R 7
-            L 8
-            D 4
-            R 7
-            D 11
-            R 3
-            L 1
-            R 6
-            U 3
-            R 11
-            L 5
-            R 4
-            L 1
-            D 6
-            R 7
-            U 2
-            L 2
-            R 11
-            L 1
-            D 4
-            L 5
-            U 3
-            R 9
-            U 4
-            D 10
-            U 3
-            R 10
-            L 4
-            R 7
-            D 9
-            U 11
-            D 10
-            R 5
-            U 6
-            L 3
-            R 5
-            D 1
-            R 3
-            L 10
-            D 4
-            U 8
-            R 9
-            U 5
-            R 6
-            U 3
-            D 2
-            R 6
-            U 3
-            L 3
-            R 8
-            L 9
-            D 6
-            U 7
-            D 11
-            U 12
-            R 7
-            D 7
-            U 12
-            L 6
-            U 6
-            D 3
-            L 11
-            R 8
-            U 10
-            L 7
-            R 2
-            U 8
-            L 3
-            R 12
-            D 4
-            L 4
-            U 10
-            L 9
-            R 8
-            L 12
-            D 3
-            R 4
-            L 9
-            U 4
-            L 6
-            D 11
-            U 3
-            R 7
-            U 3
-            D 3
-            U 4
-            L 12
-            R 11
-            U 5
-            D 3
-            R 7
-            U 1
-            D 11
-            R 7
-            L 3
-            R 6
-            U 10
-            L 11
-            U 2
-            L 11
-            U 11
-            R 8
-            D 12
-            U 4
-            L 1
-            D 3
-            R 6
-            L 2
-            U 4
-            D 3
-            R 8
-            L 2
-            D 9
-            L 9
-            U 8
-            R 12
-            D 7
-            U 13
-            R 7
-            L 10
-            U 6
-            L 11
-            D 6
-            U 13
-            R 4
-            U 8
-            D 7
-            U 7
-            R 5
-            U 2
-            R 2
-            D 2
-            L 6
-            D 12
-            U 2
-            R 4
-            U 7
-            D 7
-            L 13
-            R 7
-            U 12
-            L 11
-            U 1
-            L 1
-            D 7
-            U 1
-            D 4
-            U 10
-            D 10
-            R 4
-            L 13
-            R 2
-            U 7
-            D 5
-            R 2
-            D 5
-            L 13
-            R 2
-            U 3
-            R 9
-            U 12
-            L 9
-            U 9
-            R 1
-            L 9
-            D 9
-            R 8
-            U 8
-            D 8
-            U 8
-            R 5
-            D 7
-            R 12
-            L 11
-            U 1
-            D 7
-            L 8
-            D 3
-            R 4
-            L 1
-            U 2
-            R 10
-            U 6
-            R 8
-            U 13
-            L 3
-            D 1
-            R 9
-            L 5
-            U 5
-            L 11
-            R 1
-            D 8
-            U 6
-            R 13
-            U 4
-            L 3
-            U 6
-            D 12
-            R 5
-            D 7
-            L 4
-            D 8
-            L 13
-            R 13
-            U 4
-            D 12
-            L 1
-            U 9
-            L 8
-            U 11
-            R 7
-            D 2
-            L 11
-            U 11
-            L 13
-            D 6
-            R 10
-            D 9
-            U 8
-            R 3
-            U 10
-            L 8
-            U 13
-            D 10
-            R 2
-            D 7
-            R 11
-            L 10
-            D 3
-            U 1
-            D 13
-            L 4
-            D 14
-            L 14
-            U 6
-            L 10
-            D 7
-            L 13
-            U 7
-            R 14
-            D 2
-            U 1
-            L 12
-            R 11
-            D 7
-            L 9
-            D 5
-            L 6
-            U 11
-            D 7
-            L 10
-            U 11
-            L 2
-            R 8
-            L 2
-            U 10
-            D 3
-            R 14
-            D 2
-            R 1
-            D 2
-            U 13
-            D 2
-            L 5
-            D 3
-            U 11
-            D 8
-            R 11
-            L 5
-            R 10
-            U 4
-            R 3
-            L 9
-            U 2
-            R 3
-            L 5
-            U 10
-            L 6
-            D 8
-            R 13
-            U 10
-            L 13
-            U 5
-            L 9
-            R 14
-            U 2
-            D 8
-            L 3
-            R 13
-            U 3
-            D 12
-            R 7
-            U 13
-            L 2
-            U 4
-            D 2
-            L 13
-            U 2
-            L 8
-            D 10
-            U 13
-            L 4
-            U 1
-            D 3
-            U 1
-            R 8
-            L 4
-            U 10
-            R 2
-            U 8
-            D 9
-            R 10
-            D 8
-            U 12
-            R 11
-            L 11
-            R 14
-            U 5
-            R 10
-            D 1
-            U 6
-            D 4
-            R 5
-            U 11
-            D 14
-            U 6
-            R 7
-            D 6
-            R 13
-            D 7
-            R 14
-            D 15
-            R 6
-            D 13
-            L 7
-            U 9
-            L 1
-            R 12
-            U 8
-            L 14
-            D 4
-            R 8
-            L 13
-            D 3
-            U 9
-            D 13
-            L 5
-            R 9
-            U 12
-            D 8
-            U 11
-            L 8
-            R 13
-            D 6
-            R 8
-            D 13
-            R 4
-            D 6
-            L 4
-            D 13
-            U 2
-            D 3
-            R 1
-            L 15
-            D 11
-            L 8
-            D 8
-            L 7
-            R 1
-            D 12
-            R 7
-            D 2
-            U 3
-            L 9
-            D 1
-            R 8
-            L 2
-            D 9
-            L 2
-            U 2
-            R 4
-            L 11
-            U 6
-            D 11
-            L 2
-            U 7
-            D 7
-            U 11
-            R 9
-            U 4
-            R 14
-            L 9
-            D 5
-            R 5
-            D 4
-            R 1
-            D 15
-            U 5
-            R 8
-            U 10
-            R 1
-            L 1
-            U 11
-            L 11
-            U 15
-            R 5
-            D 5
-            U 3
-            L 5
-            U 5
-            L 5
-            D 15
-            U 7
-            D 13
-            R 3
-            L 9
-            U 12
-            L 3
-            U 13
-            R 1
-            U 2
-            R 4
-            D 9
-            L 6
-            R 8
-            D 13
-            L 14
-            R 9
-            D 10
-            L 15
-            U 14
-            R 14
-            U 4
-            R 13
-            D 12
-            L 5
-            D 5
-            L 13
-            U 15
-            D 13
-            L 12
-            U 6
-            D 10
-            U 10
-            L 2
-            R 9
-            D 5
-            U 5
-            D 16
-            R 12
-            D 2
-            R 15
-            L 1
-            D 9
-            L 14
-            R 9
-            L 10
-            R 6
-            D 16
-            L 9
-            U 4
-            D 1
-            U 7
-            R 12
-            D 2
-            R 1
-            D 5
-            R 15
-            L 16
-            U 14
-            D 16
-            L 6
-            U 11
-            L 16
-            R 8
-            L 2
-            U 16
-            R 1
-            U 8
-            R 16
-            D 10
-            L 2
-            D 14
-            U 4
-            L 12
-            D 9
-            R 4
-            D 13
-            R 1
-            U 3
-            R 7
-            L 3
-            U 12
-            R 15
-            D 16
-            R 13
-            L 1
-            D 16
-            U 14
-            R 5
-            L 7
-            R 12
-            U 3
-            L 14
-            R 6
-            U 11
-            R 14
-            L 12
-            U 11
-            R 6
-            L 1
-            D 1
-            U 5
-            D 14
-            L 10
-            R 1
-            U 4
-            R 11
-            U 16
-            D 12
-            R 7
-            U 2
-            R 1
-            D 15
-            U 16
-            D 7
-            L 2
-            D 3
-            R 1
-            D 6
-            U 16
-            D 12
-            U 14
-            R 13
-            U 13
-            L 14
-            D 5
-            U 1
-            L 8
-            R 7
-            L 9
-            D 11
-            R 10
-            D 16
-            R 16
-            U 10
-            R 14
-            L 1
-            D 7
-            U 2
-            R 7
-            D 15
-            R 16
-            U 8
-            D 12
-            U 17
-            R 12
-            U 7
-            R 6
-            L 7
-            D 8
-            R 4
-            U 4
-            D 14
-            U 17
-            D 11
-            U 3
-            R 1
-            D 15
-            R 11
-            D 13
-            L 13
-            R 9
-            L 1
-            U 3
-            R 12
-            L 9
-            U 3
-            L 17
-            D 15
-            R 6
-            U 9
-            R 16
-            L 11
-            U 3
-            L 5
-            D 9
-            R 6
-            U 12
-            R 2
-            U 4
-            L 11
-            U 2
-            R 11
-            D 4
-            L 16
-            U 2
-            R 10
-            U 16
-            L 12
-            D 9
-            U 6
-            D 16
-            L 6
-            R 9
-            U 14
-            D 14
-            U 4
-            D 14
-            R 16
-            L 9
-            D 14
-            R 4
-            U 9
-            D 11
-            R 8
-            D 9
-            U 1
-            D 3
-            R 15
-            D 10
-            R 13
-            D 6
-            U 2
-            R 8
-            U 7
-            L 2
-            R 10
-            D 7
-            U 10
-            R 3
-            L 9
-            R 1
-            D 2
-            U 6
-            L 17
-            U 16
-            L 6
-            U 16
-            L 1
-            R 11
-            D 16
-            R 2
-            L 4
-            R 6
-            L 9
-            R 2
-            D 11
-            U 8
-            D 3
-            L 15
-            D 17
-            U 5
-            L 3
-            D 15
-            L 3
-            U 12
-            R 15
-            U 9
-            L 11
-            D 3
-            R 3
-            U 12
-            R 11
-            D 13
-            R 7
-            U 11
-            L 15
-            D 5
-            L 15
-            D 13
-            U 10
-            R 17
-            D 7
-            L 16
-            R 2
-            L 9
-            R 13
-            L 4
-            R 6
-            D 9
-            L 17
-            D 12
-            R 14
-            U 3
-            D 2
-            R 6
-            U 14
-            D 15
-            U 7
-            L 17
-            U 14
-            L 8
-            U 15
-            R 13
-            U 3
-            R 10
-            D 11
-            L 14
-            U 18
-            R 13
-            U 13
-            R 2
-            D 3
-            R 5
-            U 16
-            R 16
-            D 13
-            U 3
-            R 14
-            D 17
-            U 4
-            L 18
-            U 8
-            R 6
-            U 12
-            R 17
-            L 18
-            U 17
-            R 18
-            D 10
-            U 17
-            D 2
-            R 2
-            D 9
-            U 13
-            R 15
-            L 13
-            R 8
-            D 6
-            U 4
-            R 12
-            U 15
-            D 8
-            L 16
-            D 6
-            L 15
-            U 8
-            L 10
-            D 18
-            R 8
-            U 2
-            D 17
-            U 8
-            R 18
-            D 6
-            U 7
-            L 15
-            U 16
-            R 16
-            D 11
-            U 7
-            D 12
-            R 7
-            U 5
-            L 16
-            D 7
-            L 14
-            U 1
-            L 11
-            D 1
-            U 17
-            R 1
-            U 18
-            R 1
-            U 11
-            D 18
-            U 16
-            R 14
-            U 12
-            L 5
-            D 5
-            L 7
-            U 10
-            R 2
-            D 4
-            L 10
-            R 9
-            D 2
-            L 17
-            R 15
-            L 6
-            R 2
-            D 6
-            L 9
-            R 10
-            L 4
-            D 2
-            R 12
-            D 1
-            R 16
-            U 15
-            D 15
-            L 10
-            D 16
-            L 16
-            U 18
-            L 5
-            R 8
-            L 16
-            R 10
-            D 7
-            U 2
-            D 8
-            U 11
-            R 1
-            U 1
-            L 14
-            D 11
-            R 8
-            U 18
-            L 4
-            R 14
-            L 7
-            U 6
-            L 17
-            U 10
-            L 4
-            U 6
-            L 6
-            R 8
-            L 15
-            D 2
-            R 5
-            L 13
-            D 1
-            R 6
-            L 11
-            U 15
-            L 16
-            D 13
-            R 11
-            U 4
-            R 1
-            L 10
-            U 16
-            L 2
-            R 11
-            L 5
-            D 19
-            R 15
-            L 5
-            U 17
-            R 19
-            D 2
-            R 9
-            U 11
-            L 19
-            U 16
-            D 16
-            R 5
-            D 13
-            U 18
-            D 3
-            R 15
-            U 12
-            L 1
-            D 11
-            U 2
-            R 13
-            D 1
-            R 2
-            D 7
-            R 2
-            U 17
-            R 8
-            L 2
-            U 2
-            R 12
-            L 2
-            R 1
-            D 5
-            U 7
-            L 5
-            U 10
-            L 14
-            R 15
-            D 19
-            L 13
-            U 4
-            L 8
-            U 8
-            L 7
-            D 5
-            R 17
-            U 8
-            """;
 }
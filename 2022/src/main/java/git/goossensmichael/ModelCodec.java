@@ -0,0 +1,30 @@
+package git.goossensmichael;
+
+import git.goossensmichael.utils.ModelReader;
+import git.goossensmichael.utils.ModelWriter;
+
+/**
+ * Implemented by solvers whose parsed model is worth storing, so later runs on the same input load it instead of
+ * parsing it again. The model is written as flat arrays of primitives, see {@link git.goossensmichael.utils.ModelCache}.
+ *
+ * @param <I> the parsed model of the puzzle input.
+ */
+public interface ModelCodec<I> {
+
+    void write(I model, ModelWriter out);
+
+    /**
+     * Reads the arrays in the order {@link #write(Object, ModelWriter)} wrote them. The buffers of the reader are only
+     * valid while the model is used, they may be views on a mapped file.
+     */
+    I read(ModelReader in);
+
+    /**
+     * The version of the layout of the written arrays, stored models of other versions are not read. It is separate
+     * from the {@link SolverVersion}, which also changes when only the parts do.
+     */
+    default int modelVersion() {
+        return 1;
+    }
+
+}
@@ -0,0 +1,297 @@
+package git.goossensmichael;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the time and the allocations of every phase of the days in a baseline against that baseline and fails
+ * when a phase got slower or allocates more than the threshold allows. Every fork is a new JVM that runs each phase a
+ * few times to warm up before it measures it. The samples of all forks are pooled, samples outside the Tukey fences
+ * are dropped as outliers and the median of the rest is compared. Small differences in absolute terms never fail, so
+ * phases of a few microseconds do not fail on noise. Runs in {@code mvn verify}, skip it with {@code -Dperf.skip}.
+ *
+ * <p>Options are {@code --baseline=<file>} (performance-baseline.json by default), {@code --forks=<forks>},
+ * {@code --warmups=<runs>}, {@code --iterations=<runs>}, {@code --threshold=<fraction>} for the time,
+ * {@code --allocation-threshold=<fraction>} for the allocated bytes and {@code --update} to write the measurements
+ * into the baseline instead. The days to measure can be given as arguments, all days in the baseline by default.
+ * Timings only compare on the machine and JVM they were written on, against a baseline of another Java version or
+ * amount of processors a slower phase is reported but does not fail. Allocations do not depend on the machine, more
+ * allocations always fail. Exits with status 1 on a regression.
+ */
+public class PerformanceGate {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final Pattern PHASE = Pattern.compile(
+            "\\{\\s*\"day\"\\s*:\\s*(\\d+)\\s*,\\s*\"phase\"\\s*:\\s*\"(\\w+)\"\\s*,\\s*\"nanos\"\\s*:\\s*(\\d+)\\s*,\\s*\"bytes\"\\s*:\\s*(\\d+)\\s*}");
+    private static final long MIN_NANOS = 1_000_000;
+    private static final long MIN_BYTES = 1 << 16;
+    private static final Pattern JAVA = Pattern.compile("\"java\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern PROCESSORS = Pattern.compile("\"processors\"\\s*:\\s*(\\d+)");
+    // Marks the lines of a fork that are samples, whatever else the solvers print is passed on.
+    private static final String SAMPLE = "sample ";
+    private static final Comparator<Phase> ORDER = Comparator.comparingInt(Phase::day).thenComparing(Phase::phase);
+
+    // The median time and allocations of a phase.
+    record Phase(int day, String phase, long nanos, long bytes) {
+
+        String key() {
+            return day + " " + phase;
+        }
+
+        String toJson() {
+            return String.format("{\"day\": %d, \"phase\": \"%s\", \"nanos\": %d, \"bytes\": %d}", day, phase, nanos, bytes);
+        }
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        Path baselineFile = Path.of("performance-baseline.json");
+        int forks = 3;
+        int warmups = 3;
+        int iterations = 5;
+        double threshold = 0.25;
+        double allocationThreshold = 0.10;
+        boolean update = false;
+        boolean fork = false;
+        final List<String> dayArguments = new ArrayList<>();
+        for (final String arg : args) {
+            if (arg.startsWith("--baseline=")) {
+                baselineFile = Path.of(arg.substring(11));
+            } else if (arg.startsWith("--forks=")) {
+                forks = Integer.parseInt(arg.substring(8));
+            } else if (arg.startsWith("--warmups=")) {
+                warmups = Integer.parseInt(arg.substring(10));
+            } else if (arg.startsWith("--iterations=")) {
+                iterations = Integer.parseInt(arg.substring(13));
+            } else if (arg.startsWith("--threshold=")) {
+                threshold = Double.parseDouble(arg.substring(12));
+            } else if (arg.startsWith("--allocation-threshold=")) {
+                allocationThreshold = Double.parseDouble(arg.substring(23));
+            } else if (arg.equals("--update")) {
+                update = true;
+            } else if (arg.equals("--fork")) {
+                fork = true;
+            } else {
+                dayArguments.add(arg);
+            }
+        }
+        final Set<Integer> days = dayArguments.stream().map(Integer::parseInt).collect(Collectors.toCollection(HashSet::new));
+
+        if (fork) {
+            measure(days, warmups, iterations);
+            return;
+        }
+
+        final Map<String, Phase> baseline = Files.exists(baselineFile) ? read(baselineFile) : Map.of();
+        if (days.isEmpty()) {
+            baseline.values().forEach(phase -> days.add(phase.day()));
+        }
+        if (days.isEmpty()) {
+            System.out.println("No days to measure, give them as arguments or add them to " + baselineFile);
+            return;
+        }
+
+        final Map<String, List<long[]>> samples = new TreeMap<>();
+        for (int i = 0; i < forks; i++) {
+            fork(days, warmups, iterations, samples);
+        }
+        final List<Phase> measured = samples.entrySet().stream()
+                .map(entry -> median(entry.getKey(), entry.getValue()))
+                .sorted(ORDER)
+                .toList();
+
+        if (update) {
+            // Days that were not measured keep their baseline.
+            final Map<String, Phase> updated = new TreeMap<>(baseline);
+            measured.forEach(phase -> updated.put(phase.key(), phase));
+            write(baselineFile, updated.values().stream()
+                    .sorted(ORDER)
+                    .toList());
+            System.out.println("Baseline of " + measured.size() + " phases written to " + baselineFile);
+            return;
+        }
+
+        System.out.println("Day    | phase  |    base ms |  median ms |   change | base bytes |     median bytes |   change |");
+        final boolean sameMachine = machine(baselineFile).equals(currentMachine());
+        int slowerPhases = 0;
+        int allocatingPhases = 0;
+        for (final Phase phase : measured) {
+            final Phase base = baseline.get(phase.key());
+            if (base == null) {
+                System.out.printf("Day %2d | %-6s | no baseline%n", phase.day(), phase.phase());
+                continue;
+            }
+
+            final boolean slower = phase.nanos() - base.nanos() > MIN_NANOS && phase.nanos() > base.nanos() * (1 + threshold);
+            final boolean allocates = phase.bytes() - base.bytes() > MIN_BYTES && phase.bytes() > base.bytes() * (1 + allocationThreshold);
+            System.out.printf("Day %2d | %-6s | %10.3f | %10.3f | %+7.1f%% | %10d | %16d | %+7.1f%% | %s%n",
+                    phase.day(), phase.phase(), base.nanos() / 1e6, phase.nanos() / 1e6, change(base.nanos(), phase.nanos()),
+                    base.bytes(), phase.bytes(), change(base.bytes(), phase.bytes()),
+                    slower && allocates ? "SLOWER, ALLOCATES MORE" : slower ? "SLOWER" : allocates ? "ALLOCATES MORE" : "ok");
+            if (slower) {
+                slowerPhases++;
+            }
+            if (allocates) {
+                allocatingPhases++;
+            }
+        }
+
+        if (slowerPhases > 0 && !sameMachine) {
+            System.out.printf("The baseline was written on %s, not on %s, slower phases do not fail. Write a baseline on "
+                    + "this machine with --update.%n", machine(baselineFile), currentMachine());
+            slowerPhases = 0;
+        }
+
+        final int regressions = slowerPhases + allocatingPhases;
+        if (regressions > 0) {
+            System.out.printf("%d phase(s) regressed beyond %.0f%% time or %.0f%% allocations%n",
+                    regressions, threshold * 100, allocationThreshold * 100);
+            System.exit(1);
+        }
+    }
+
+    // Runs the measurement in a new JVM with the same class path and collects its samples per phase.
+    private static void fork(final Set<Integer> days, final int warmups, final int iterations,
+                             final Map<String, List<long[]>> samples) throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                PerformanceGate.class.getName(), "--fork", "--warmups=" + warmups, "--iterations=" + iterations));
+        days.stream().sorted().map(String::valueOf).forEach(command::add);
+
+        final Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = out.readLine()) != null) {
+                if (!line.startsWith(SAMPLE)) {
+                    System.out.println(line);
+                    continue;
+                }
+                final String[] sample = line.substring(SAMPLE.length()).split(" ");
+                samples.computeIfAbsent(sample[0] + " " + sample[1], key -> new ArrayList<>())
+                        .add(new long[] { Long.parseLong(sample[2]), Long.parseLong(sample[3]) });
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Fork failed with exit code " + process.exitValue());
+        }
+    }
+
+    // Writes a line "sample <day> <phase> <nanos> <bytes>" per measured run.
+    private static void measure(final Set<Integer> days, final int warmups, final int iterations) {
+        SolverHarness.solvers().stream()
+                .filter(solver -> days.contains(solver.day()))
+                .forEach(solver -> measure(solver, warmups, iterations));
+    }
+
+    private static <I> void measure(final Solver<I> solver, final int warmups, final int iterations) {
+        final ByteBuffer input = solver.input();
+        final I model = solver.parse(input.duplicate());
+
+        measure(solver.day(), "parse", () -> solver.parse(input.duplicate()), warmups, iterations);
+        measure(solver.day(), "part1", () -> solver.part1(model), warmups, iterations);
+        measure(solver.day(), "part2", () -> solver.part2(model), warmups, iterations);
+    }
+
+    private static void measure(final int day, final String phase, final Supplier<?> run, final int warmups, final int iterations) {
+        for (int i = 0; i < warmups; i++) {
+            run.get();
+        }
+
+        for (int i = 0; i < iterations; i++) {
+            final long bytesStart = THREADS.getCurrentThreadAllocatedBytes();
+            final long start = System.nanoTime();
+            run.get();
+            final long nanos = System.nanoTime() - start;
+            final long bytes = THREADS.getCurrentThreadAllocatedBytes() - bytesStart;
+
+            System.out.println(SAMPLE + day + " " + phase + " " + nanos + " " + bytes);
+        }
+    }
+
+    private static Phase median(final String key, final List<long[]> samples) {
+        final String[] phase = key.split(" ");
+
+        return new Phase(Integer.parseInt(phase[0]), phase[1], median(samples, 0), median(samples, 1));
+    }
+
+    // The median of the samples within the Tukey fences, 1.5 times the interquartile range beyond the quartiles.
+    private static long median(final List<long[]> samples, final int measure) {
+        final long[] values = samples.stream().mapToLong(sample -> sample[measure]).sorted().toArray();
+        final long q1 = values[values.length / 4];
+        final long q3 = values[values.length * 3 / 4];
+        final double fence = 1.5 * (q3 - q1);
+        final long[] kept = Arrays.stream(values)
+                .filter(value -> value >= q1 - fence && value <= q3 + fence)
+                .toArray();
+
+        return kept[kept.length / 2];
+    }
+
+    private static double change(final long base, final long measured) {
+        return base == 0 ? 0 : (measured - base) * 100.0 / base;
+    }
+
+    // The Java version and the amount of processors the baseline was written with.
+    private static String machine(final Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return currentMachine();
+        }
+
+        final String json = Files.readString(file);
+        final Matcher java = JAVA.matcher(json);
+        final Matcher processors = PROCESSORS.matcher(json);
+
+        return machine(java.find() ? java.group(1) : "?", processors.find() ? processors.group(1) : "?");
+    }
+
+    private static String currentMachine() {
+        return machine(System.getProperty("java.version"), String.valueOf(Runtime.getRuntime().availableProcessors()));
+    }
+
+    private static String machine(final String java, final String processors) {
+        return "Java " + java + " with " + processors + " processor(s)";
+    }
+
+    private static Map<String, Phase> read(final Path file) throws IOException {
+        final Map<String, Phase> phases = new TreeMap<>();
+        final Matcher matcher = PHASE.matcher(Files.readString(file));
+        while (matcher.find()) {
+            final Phase phase = new Phase(Integer.parseInt(matcher.group(1)), matcher.group(2),
+                    Long.parseLong(matcher.group(3)), Long.parseLong(matcher.group(4)));
+            phases.put(phase.key(), phase);
+        }
+
+        return phases;
+    }
+
+    private static void write(final Path file, final List<Phase> phases) throws IOException {
+        final String json = phases.stream()
+                .map(phase -> "    " + phase.toJson())
+                .collect(Collectors.joining(",\n", "{\n  \"java\": \"" + System.getProperty("java.version")
+                        + "\",\n  \"processors\": " + Runtime.getRuntime().availableProcessors()
+                        + ",\n  \"phases\": [\n", "\n  ]\n}\n"));
+        Files.writeString(file, json);
+    }
+
+}
@@ -0,0 +1,328 @@
+package git.goossensmichael;
+
+import git.goossensmichael.utils.AnswerCache;
+import git.goossensmichael.utils.Metrics;
+import git.goossensmichael.utils.ModelCache;
+import git.goossensmichael.utils.ModelWriter;
+import git.goossensmichael.utils.ParseEvent;
+import git.goossensmichael.utils.SearchIterationEvent;
+import git.goossensmichael.utils.SolvePartEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Solves all days at once. Every day is driven by its own virtual thread, while parsing and solving run on a pool of
+ * platform threads that caps the amount of CPU heavy tasks. Both parts of a day run at the same time as they only
+ * read the parsed model.
+ *
+ * <p>Arguments are the days to run, all days when none are given, and the options {@code --cpu=<tasks>} (the amount
+ * of available processors by default), {@code --timeout=<seconds>} to give up on days that take too long,
+ * {@code --jfr=<file>} to write a flight recording with the events of the solvers to the given file and
+ * {@code --cache[=<directory>]} to reuse the answers of earlier runs on the same input and
+ * {@code --models[=<directory>]} to load the parsed models of earlier runs of the days that can store them.
+ */
+public class Runner {
+
+    private static final Logger LOGGER = Logger.getLogger(Runner.class.getName());
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final int CACHED_ANSWERS = 1000;
+    private static final Timed<Object> NOT_PARSED = new Timed<>(null, 0, 0);
+
+    // The outcome of a single phase, with the time it took on the clock and on the CPU.
+    record Timed<T>(T result, long wallNanos, long cpuNanos) {}
+
+    record Result(int day, Timed<?> parse, Timed<Object> part1, Timed<Object> part2) {
+
+        long wallNanos() {
+            return parse.wallNanos() + Math.max(part1.wallNanos(), part2.wallNanos());
+        }
+
+        long cpuNanos() {
+            return parse.cpuNanos() + part1.cpuNanos() + part2.cpuNanos();
+        }
+
+        // Answers of more than one line, like a rendered screen, continue below the column they start in.
+        @Override
+        public String toString() {
+            final String timings = String.format("Day %2d | %10.3f | %10.3f | %10.3f | %10.3f | %10.3f | ",
+                    day, millis(parse.wallNanos()), millis(part1.wallNanos()), millis(part2.wallNanos()),
+                    millis(wallNanos()), millis(cpuNanos()));
+            final String answer1 = indent(String.valueOf(part1.result()), timings.length());
+            final String answer2 = String.valueOf(part2.result());
+            final int column2 = timings.length() + answer1.lines().findFirst().orElse("").length() + 3;
+
+            return timings + answer1 + " | " + indent(answer2, column2);
+        }
+
+        private static String indent(final String answer, final int column) {
+            return answer.replace("\n", "\n" + " ".repeat(column));
+        }
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final Set<Integer> days = new HashSet<>();
+        int cpuTasks = Runtime.getRuntime().availableProcessors();
+        long timeoutSeconds = Long.MAX_VALUE;
+        Path jfr = null;
+        AnswerCache cache = null;
+        ModelCache models = null;
+        for (final String arg : args) {
+            if (arg.startsWith("--cpu=")) {
+                cpuTasks = Integer.parseInt(arg.substring(6));
+            } else if (arg.startsWith("--timeout=")) {
+                timeoutSeconds = Long.parseLong(arg.substring(10));
+            } else if (arg.startsWith("--jfr=")) {
+                jfr = Path.of(arg.substring(6));
+            } else if (arg.equals("--cache")) {
+                cache = new AnswerCache(AnswerCache.defaultDirectory());
+            } else if (arg.startsWith("--cache=")) {
+                cache = new AnswerCache(Path.of(arg.substring(8)));
+            } else if (arg.equals("--models")) {
+                models = new ModelCache(ModelCache.defaultDirectory());
+            } else if (arg.startsWith("--models=")) {
+                models = new ModelCache(Path.of(arg.substring(9)));
+            } else {
+                days.add(Integer.parseInt(arg));
+            }
+        }
+
+        final List<Solver<?>> solvers = SolverHarness.solvers().stream()
+                .filter(solver -> days.isEmpty() || days.contains(solver.day()))
+                .toList();
+
+        // Daemon threads, so days that are given up on do not keep the JVM alive.
+        final ExecutorService cpu = Executors.newFixedThreadPool(cpuTasks, task -> {
+            final Thread thread = new Thread(task);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final Recording recording = jfr == null ? null : startRecording();
+
+        final long start = System.nanoTime();
+        final long deadline = timeoutSeconds == Long.MAX_VALUE ? Long.MAX_VALUE
+                : start + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        final List<Future<Result>> results = new ArrayList<>();
+        final ExecutorService drivers = dayExecutor();
+        final AnswerCache answers = cache;
+        final ModelCache parsed = models;
+        for (final Solver<?> solver : solvers) {
+            results.add(drivers.submit(() -> solve(solver, cpu, answers, parsed)));
+        }
+
+        System.out.println("Day    |   parse ms |  part 1 ms |  part 2 ms |    wall ms |     cpu ms | part 1 | part 2");
+        Result slowest = null;
+        long cpuNanos = 0;
+        for (int i = 0; i < solvers.size(); i++) {
+            final int day = solvers.get(i).day();
+            try {
+                final Result result = results.get(i).get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                System.out.println(result);
+
+                cpuNanos += result.cpuNanos();
+                if (slowest == null || result.wallNanos() > slowest.wallNanos()) {
+                    slowest = result;
+                }
+            } catch (final ExecutionException e) {
+                System.out.printf("Day %2d | failed: %s%n", day, e.getCause());
+            } catch (final TimeoutException e) {
+                // Interrupts the driver, which cancels the parts it waits on so their searches stop.
+                results.get(i).cancel(true);
+                System.out.printf("Day %2d | gave up after %d s%n", day, timeoutSeconds);
+            }
+        }
+
+        System.out.printf("Total  | wall %.3f ms | cpu %.3f ms | critical path: day %s%n",
+                millis(System.nanoTime() - start), millis(cpuNanos), slowest == null ? "-" : slowest.day());
+        Metrics.report(System.out);
+
+        // Days that were given up on stop before the cache closes, the cache ignores what they still store.
+        drivers.shutdownNow();
+        cpu.shutdownNow();
+        if (cache != null) {
+            cache.prune(CACHED_ANSWERS);
+            cache.close();
+        }
+
+        if (recording != null) {
+            recording.dump(jfr);
+            recording.close();
+            System.out.println("Recording written to " + jfr);
+        }
+    }
+
+    // The profile settings add method samples and allocations to the events of the solvers.
+    private static Recording startRecording() throws IOException, ParseException {
+        final Recording recording = new Recording(Configuration.getConfiguration("profile"));
+        recording.enable(ParseEvent.class);
+        recording.enable(SolvePartEvent.class);
+        recording.enable(SearchIterationEvent.class);
+        recording.start();
+
+        return recording;
+    }
+
+    private static <I> Result solve(final Solver<I> solver, final ExecutorService cpu, final AnswerCache cache,
+                                    final ModelCache models) throws Exception {
+        final ByteBuffer input = solver.input();
+        final byte[] inputHash = cache == null && models == null ? null : AnswerCache.sha256(input);
+
+        final Timed<Object> cached1 = cached(cache, solver, 1, inputHash);
+        final Timed<Object> cached2 = cached(cache, solver, 2, inputHash);
+        if (cached1 != null && cached2 != null) {
+            return new Result(solver.day(), NOT_PARSED, cached1, cached2);
+        }
+
+        final Timed<I> parse = await(cpu.submit(timed(() -> parse(solver, input, models, inputHash))));
+
+        final Future<Timed<Object>> part1 = cached1 != null ? CompletableFuture.completedFuture(cached1)
+                : cpu.submit(timed(() -> solvePart(solver, 1, parse.result())));
+        final Future<Timed<Object>> part2 = cached2 != null ? CompletableFuture.completedFuture(cached2)
+                : cpu.submit(timed(() -> solvePart(solver, 2, parse.result())));
+
+        final Result result;
+        try {
+            result = new Result(solver.day(), parse, await(part1), await(part2));
+        } catch (final InterruptedException e) {
+            // Given up on while waiting for part 1, part 2 stops as well.
+            part2.cancel(true);
+            throw e;
+        }
+        if (cache != null && cached1 == null) {
+            cache.put(solver.day(), solver.version(), 1, inputHash, result.part1().result());
+        }
+        if (cache != null && cached2 == null) {
+            cache.put(solver.day(), solver.version(), 2, inputHash, result.part2().result());
+        }
+
+        return result;
+    }
+
+    // The time it took to look up the answer, there is no CPU time as it is not measured on the driving thread.
+    private static Timed<Object> cached(final AnswerCache cache, final Solver<?> solver, final int part, final byte[] inputHash) {
+        if (cache == null) {
+            return null;
+        }
+
+        final long start = System.nanoTime();
+        return cache.get(solver.day(), solver.version(), part, inputHash)
+                .map(answer -> new Timed<>(answer, System.nanoTime() - start, 0))
+                .orElse(null);
+    }
+
+    // A stored model is loaded instead of parsing the input, a parsed model is stored for the next run. The models are
+    // only a cache, a model that can not be loaded is parsed and one that can not be stored is still used.
+    @SuppressWarnings("unchecked")
+    private static <I> I parse(final Solver<I> solver, final ByteBuffer input, final ModelCache models, final byte[] inputHash) {
+        if (models == null || !(solver instanceof ModelCodec<?>)) {
+            return parse(solver, input);
+        }
+
+        final ModelCodec<I> codec = (ModelCodec<I>) solver;
+        try {
+            final Optional<I> stored = models.get(solver.day(), codec.modelVersion(), inputHash).map(codec::read);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+        } catch (final RuntimeException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Can not load the model of day " + solver.day() + ", parsing the input");
+        }
+
+        final I model = parse(solver, input);
+        try {
+            final ModelWriter out = new ModelWriter();
+            codec.write(model, out);
+            models.put(solver.day(), codec.modelVersion(), inputHash, out);
+        } catch (final UncheckedIOException e) {
+            LOGGER.log(Level.WARNING, e, () -> "Can not store the model of day " + solver.day());
+        }
+
+        return model;
+    }
+
+    private static <I> I parse(final Solver<I> solver, final ByteBuffer input) {
+        final ParseEvent event = ParseEvent.begin(solver.day(), input.remaining());
+        final I model = solver.parse(input);
+        event.finish();
+
+        return model;
+    }
+
+    private static <I> Object solvePart(final Solver<I> solver, final int part, final I model) {
+        final SolvePartEvent event = SolvePartEvent.begin(solver.day(), part);
+        final Object result = part == 1 ? solver.part1(model) : solver.part2(model);
+        event.finish();
+
+        return result;
+    }
+
+    // Measured on the thread doing the work, the CPU time of a virtual thread can not be queried.
+    private static <T> Callable<Timed<T>> timed(final Callable<T> task) {
+        return () -> {
+            final long cpuStart = THREADS.getCurrentThreadCpuTime();
+            final long wallStart = System.nanoTime();
+            final T result = task.call();
+            final long wallNanos = System.nanoTime() - wallStart;
+
+            return new Timed<>(result, wallNanos, THREADS.getCurrentThreadCpuTime() - cpuStart);
+        };
+    }
+
+    // A driver that is interrupted cancels the task it waits on.
+    private static <T> T await(final Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    // Virtual threads are a preview feature of Java 19, fall back to platform threads when they are not enabled.
+    static ExecutorService dayExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (final Throwable e) {
+            return Executors.newCachedThreadPool(task -> {
+                final Thread thread = new Thread(task);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1e6;
+    }
+
+}
@@ -0,0 +1,40 @@
+package git.goossensmichael;
+
+import git.goossensmichael.utils.Inputs;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A solution for a single day. Implementations are discovered through {@link java.util.ServiceLoader} so a harness
+ * can parse the input once, time every phase separately and reuse the parsed model for both parts.
+ *
+ * @param <I> the parsed model of the puzzle input.
+ */
+public interface Solver<I> {
+
+    /**
+     * Parses the raw puzzle input. The buffer must not be modified, implementations only read from it.
+     */
+    I parse(ByteBuffer input);
+
+    Object part1(I input);
+
+    Object part2(I input);
+
+    /**
+     * The puzzle input of this day. It is mapped from a file rather than loaded onto the heap whenever possible.
+     */
+    default ByteBuffer input() {
+        return Inputs.forDay(day());
+    }
+
+    default int version() {
+        final SolverVersion version = getClass().getAnnotation(SolverVersion.class);
+        return version == null ? 0 : version.value();
+    }
+
+    default int day() {
+        return Integer.parseInt(getClass().getSimpleName().substring(3));
+    }
+
+}
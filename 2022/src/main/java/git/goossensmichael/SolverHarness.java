@@ -0,0 +1,64 @@
+package git.goossensmichael;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class SolverHarness {
+
+    // Solver.class is the raw type, the loader hands out solvers of any model.
+    @SuppressWarnings("unchecked")
+    private static final Class<Solver<?>> SOLVER = (Class<Solver<?>>) (Class<?>) Solver.class;
+
+    public record Report(int day, long parseNanos, Object part1, long part1Nanos, Object part2, long part2Nanos) {
+
+        @Override
+        public String toString() {
+            return String.format("Day %2d | parse %10.3f ms | part 1 %10.3f ms: %s | part 2 %10.3f ms: %s",
+                    day, parseNanos / 1e6, part1Nanos / 1e6, part1, part2Nanos / 1e6, part2);
+        }
+    }
+
+    public static List<Solver<?>> solvers() {
+        return ServiceLoader.load(SOLVER).stream()
+                .map(ServiceLoader.Provider::get)
+                .sorted(Comparator.comparingInt(Solver::day))
+                .collect(Collectors.toList());
+    }
+
+    public static <I> Report run(final Solver<I> solver) {
+        return run(solver, solver.input());
+    }
+
+    // Parses the input once and hands the same model to both parts.
+    public static <I> Report run(final Solver<I> solver, final ByteBuffer input) {
+        final long parseStart = System.nanoTime();
+        final I model = solver.parse(input.duplicate());
+        final long parseNanos = System.nanoTime() - parseStart;
+
+        final long part1Start = System.nanoTime();
+        final Object part1 = solver.part1(model);
+        final long part1Nanos = System.nanoTime() - part1Start;
+
+        final long part2Start = System.nanoTime();
+        final Object part2 = solver.part2(model);
+        final long part2Nanos = System.nanoTime() - part2Start;
+
+        return new Report(solver.day(), parseNanos, part1, part1Nanos, part2, part2Nanos);
+    }
+
+    // Runs all days, or only the days given as arguments.
+    public static void main(final String[] args) {
+        final Set<Integer> days = Stream.of(args).map(Integer::parseInt).collect(Collectors.toSet());
+
+        solvers().stream()
+                .filter(solver -> days.isEmpty() || days.contains(solver.day()))
+                .map(SolverHarness::run)
+                .forEach(System.out::println);
+    }
+
+}
@@ -0,0 +1,18 @@
+package git.goossensmichael;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The version of a solver. Cached answers are only reused by the same version of a solver, so bump it whenever a
+ * change to the solver could change its answers.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SolverVersion {
+
+    int value();
+
+}
@@ -0,0 +1,39 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The program always runs for the 240 cycles that draw the screen, a longer one would draw outside of it. The scale
+// is ignored.
+public class Day10Generator implements InputGenerator {
+
+    private static final int CYCLES = 240;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        // The register stays on the screen, so the sprite is drawn.
+        int register = 1;
+        int cycle = 0;
+        while (cycle < CYCLES) {
+            if (cycle > 0) {
+                out.print('\n');
+            }
+            if (cycle + 2 <= CYCLES && random.nextInt(3) > 0) {
+                final int value = random.nextInt(40) - register;
+                out.print("addx ");
+                out.print(value);
+                register += value;
+                cycle += 2;
+            } else {
+                out.print("noop");
+                cycle++;
+            }
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return CYCLES;
+    }
+
+}
@@ -0,0 +1,83 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of items held at the start. The solver reads single digit monkey ids, so there are always
+// eight monkeys, with the same mix of operations as the real input.
+public class Day11Generator implements InputGenerator {
+
+    private static final int MONKEYS = 8;
+    private static final int[] PRIMES = { 2, 3, 5, 7, 11, 13, 17, 19, 23 };
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int[] divisors = PRIMES.clone();
+        shuffle(divisors, random);
+        // One monkey squares, two multiply and the others add.
+        final int[] operations = { 0, 1, 1, 2, 2, 2, 2, 2 };
+        shuffle(operations, random);
+
+        for (int monkey = 0; monkey < MONKEYS; monkey++) {
+            if (monkey > 0) {
+                out.print("\n\n");
+            }
+            out.print("Monkey ");
+            out.print(monkey);
+            out.print(":\n  Starting items: ");
+            // Every monkey holds at least one item.
+            final int items = Math.max(1, scale / MONKEYS + (monkey < scale % MONKEYS ? 1 : 0));
+            for (int item = 0; item < items; item++) {
+                if (item > 0) {
+                    out.print(", ");
+                }
+                out.print(50 + random.nextInt(50));
+            }
+
+            out.print("\n  Operation: new = old ");
+            switch (operations[monkey]) {
+                case 0 -> out.print("* old");
+                case 1 -> {
+                    out.print("* ");
+                    out.print(2 + random.nextInt(18));
+                }
+                default -> {
+                    out.print("+ ");
+                    out.print(1 + random.nextInt(8));
+                }
+            }
+
+            out.print("\n  Test: divisible by ");
+            out.print(divisors[monkey]);
+            final int whenTrue = otherMonkey(monkey, -1, random);
+            out.print("\n    If true: throw to monkey ");
+            out.print(whenTrue);
+            out.print("\n    If false: throw to monkey ");
+            out.print(otherMonkey(monkey, whenTrue, random));
+        }
+    }
+
+    private static int otherMonkey(final int monkey, final int not, final Random random) {
+        int other;
+        do {
+            other = random.nextInt(MONKEYS);
+        } while (other == monkey || other == not);
+
+        return other;
+    }
+
+    private static void shuffle(final int[] values, final Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 36;
+    }
+
+}
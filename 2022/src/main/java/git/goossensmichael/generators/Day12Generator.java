@@ -0,0 +1,43 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the width of the heightmap, which is at least 26 wide so the elevation can rise one letter at a time
+// from left to right. Pits are dug everywhere except along the row of the start and the column of the end, so there
+// is always a way up.
+public class Day12Generator implements InputGenerator {
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int width = Math.max(26, scale);
+        final int height = Math.max(5, width / 4);
+        final int startRow = random.nextInt(height);
+        final int endRow = random.nextInt(height);
+
+        final char[] row = new char[width];
+        for (int y = 0; y < height; y++) {
+            if (y > 0) {
+                out.print('\n');
+            }
+            for (int x = 0; x < width; x++) {
+                final int elevation = x * 25 / (width - 1);
+                final boolean path = y == startRow || x == width - 1;
+                row[x] = (char) ('a' + (!path && random.nextInt(10) < 3 ? random.nextInt(elevation + 1) : elevation));
+            }
+            if (y == startRow) {
+                row[0] = 'S';
+            }
+            if (y == endRow) {
+                row[width - 1] = 'E';
+            }
+            out.write(row);
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 160;
+    }
+
+}
@@ -0,0 +1,49 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of pairs of packets.
+public class Day13Generator implements InputGenerator {
+
+    private static final int MAX_DEPTH = 4;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final StringBuilder packet = new StringBuilder();
+        for (int pair = 0; pair < scale; pair++) {
+            if (pair > 0) {
+                out.print("\n\n");
+            }
+            packet.setLength(0);
+            list(packet, 0, random);
+            out.print(packet);
+            out.print('\n');
+            packet.setLength(0);
+            list(packet, 0, random);
+            out.print(packet);
+        }
+    }
+
+    private static void list(final StringBuilder packet, final int depth, final Random random) {
+        packet.append('[');
+        final int items = random.nextInt(6);
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                packet.append(',');
+            }
+            if (depth < MAX_DEPTH && random.nextInt(3) == 0) {
+                list(packet, depth + 1, random);
+            } else {
+                packet.append(random.nextInt(11));
+            }
+        }
+        packet.append(']');
+    }
+
+    @Override
+    public int defaultScale() {
+        return 150;
+    }
+
+}
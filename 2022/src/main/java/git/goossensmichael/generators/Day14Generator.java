@@ -0,0 +1,49 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of rock paths. They are spread below the source of the sand over a cave that grows with the
+// square root of the amount of paths, so the sand of part 2 grows about linear with the scale.
+public class Day14Generator implements InputGenerator {
+
+    private static final int SOURCE = 500;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int depth = 20 + (int) (10 * Math.sqrt(scale));
+        for (int path = 0; path < scale; path++) {
+            if (path > 0) {
+                out.print('\n');
+            }
+            int x = SOURCE - depth + random.nextInt(2 * depth + 1);
+            int y = 2 + random.nextInt(depth);
+            print(x, y, out);
+
+            final int segments = 1 + random.nextInt(4);
+            for (int segment = 0; segment < segments; segment++) {
+                // Alternating between horizontal and vertical segments, like the real paths.
+                final int length = (random.nextBoolean() ? 1 : -1) * (1 + random.nextInt(10));
+                if (segment % 2 == 0) {
+                    x += length;
+                } else {
+                    y = Math.max(2, y + length);
+                }
+                out.print(" -> ");
+                print(x, y, out);
+            }
+        }
+    }
+
+    private static void print(final int x, final int y, final PrintWriter out) {
+        out.print(x);
+        out.print(',');
+        out.print(y);
+    }
+
+    @Override
+    public int defaultScale() {
+        return 140;
+    }
+
+}
@@ -0,0 +1,65 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * The scale is the amount of sensors. The solver searches the square of 4000000 by 4000000 for the one position no
+ * sensor covers, so that position is picked first. Four sensors diagonally around it, each reaching up to one step
+ * away from it, cover the whole square except that position. All other sensors end right before it as well, their
+ * beacons are put anywhere on the edge of the area they cover.
+ */
+public class Day15Generator implements InputGenerator {
+
+    private static final int DIMENSION = 4_000_000;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int gapX = random.nextInt(DIMENSION + 1);
+        final int gapY = random.nextInt(DIMENSION + 1);
+        final int farthest = Math.max(gapX, DIMENSION - gapX) + Math.max(gapY, DIMENSION - gapY);
+        final int d = (farthest + 2) / 2;
+
+        final int sensors = Math.max(4, scale);
+        for (int sensor = 0; sensor < sensors; sensor++) {
+            if (sensor > 0) {
+                out.print('\n');
+            }
+            final int x;
+            final int y;
+            if (sensor < 4) {
+                x = gapX + (sensor % 2 == 0 ? d : -d);
+                y = gapY + (sensor < 2 ? d : -d);
+            } else {
+                int sensorX;
+                int sensorY;
+                do {
+                    sensorX = random.nextInt(DIMENSION + 1);
+                    sensorY = random.nextInt(DIMENSION + 1);
+                } while (Math.abs(sensorX - gapX) + Math.abs(sensorY - gapY) < 2);
+                x = sensorX;
+                y = sensorY;
+            }
+
+            final int range = Math.abs(x - gapX) + Math.abs(y - gapY) - 1;
+            final int dx = random.nextInt(range + 1);
+            final int beaconX = x + (random.nextBoolean() ? dx : -dx);
+            final int beaconY = y + (random.nextBoolean() ? range - dx : dx - range);
+
+            out.print("Sensor at x=");
+            out.print(x);
+            out.print(", y=");
+            out.print(y);
+            out.print(": closest beacon is at x=");
+            out.print(beaconX);
+            out.print(", y=");
+            out.print(beaconY);
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 32;
+    }
+
+}
@@ -0,0 +1,74 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// The scale is the amount of valves, at most 676 as names are two letters. A quarter of them has a working flow
+// rate, the search of the solver grows exponentially with those. The tunnels form a connected network around AA.
+public class Day16Generator implements InputGenerator {
+
+    private static final int MAX_VALVES = 26 * 26;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int valves = Math.max(2, Math.min(MAX_VALVES, scale));
+        final List<String> names = new ArrayList<>(MAX_VALVES);
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                names.add("" + first + second);
+            }
+        }
+        // AA is always there, the others are drawn at random.
+        for (int i = 1; i < valves; i++) {
+            final int j = i + random.nextInt(names.size() - i);
+            names.set(j, names.set(i, names.get(j)));
+        }
+
+        final List<List<Integer>> tunnels = new ArrayList<>(valves);
+        for (int valve = 0; valve < valves; valve++) {
+            tunnels.add(new ArrayList<>());
+        }
+        // A random tree keeps every valve reachable, some extra tunnels add loops.
+        for (int valve = 1; valve < valves; valve++) {
+            connect(tunnels, valve, random.nextInt(valve));
+        }
+        for (int extra = 0; extra < valves / 4; extra++) {
+            final int a = random.nextInt(valves);
+            final int b = random.nextInt(valves);
+            if (a != b && !tunnels.get(a).contains(b)) {
+                connect(tunnels, a, b);
+            }
+        }
+
+        for (int valve = 0; valve < valves; valve++) {
+            if (valve > 0) {
+                out.print('\n');
+            }
+            final List<Integer> leadsTo = tunnels.get(valve);
+            out.print("Valve ");
+            out.print(names.get(valve));
+            out.print(" has flow rate=");
+            out.print(valve > 0 && random.nextInt(4) == 0 ? 1 + random.nextInt(25) : 0);
+            out.print(leadsTo.size() == 1 ? "; tunnel leads to valve " : "; tunnels lead to valves ");
+            for (int i = 0; i < leadsTo.size(); i++) {
+                if (i > 0) {
+                    out.print(", ");
+                }
+                out.print(names.get(leadsTo.get(i)));
+            }
+        }
+    }
+
+    private static void connect(final List<List<Integer>> tunnels, final int a, final int b) {
+        tunnels.get(a).add(b);
+        tunnels.get(b).add(a);
+    }
+
+    @Override
+    public int defaultScale() {
+        return 60;
+    }
+
+}
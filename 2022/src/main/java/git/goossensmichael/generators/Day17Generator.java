@@ -0,0 +1,21 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the length of the jet pattern.
+public class Day17Generator implements InputGenerator {
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        for (int i = 0; i < scale; i++) {
+            out.print(random.nextBoolean() ? '<' : '>');
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 10_000;
+    }
+
+}
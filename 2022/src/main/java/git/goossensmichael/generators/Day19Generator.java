@@ -0,0 +1,38 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of blueprints, with costs in the same ranges as the real ones.
+public class Day19Generator implements InputGenerator {
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        for (int blueprint = 1; blueprint <= scale; blueprint++) {
+            if (blueprint > 1) {
+                out.print('\n');
+            }
+            out.print("Blueprint ");
+            out.print(blueprint);
+            out.print(": Each ore robot costs ");
+            out.print(2 + random.nextInt(3));
+            out.print(" ore. Each clay robot costs ");
+            out.print(2 + random.nextInt(3));
+            out.print(" ore. Each obsidian robot costs ");
+            out.print(2 + random.nextInt(3));
+            out.print(" ore and ");
+            out.print(5 + random.nextInt(16));
+            out.print(" clay. Each geode robot costs ");
+            out.print(2 + random.nextInt(3));
+            out.print(" ore and ");
+            out.print(5 + random.nextInt(16));
+            out.print(" obsidian.");
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 30;
+    }
+
+}
@@ -0,0 +1,33 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of calorie lines, carried by elves with up to 15 items each.
+public class Day1Generator implements InputGenerator {
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        int lines = 0;
+        while (lines < scale) {
+            // Elves are separated by a blank line.
+            if (lines > 0) {
+                out.print("\n\n");
+            }
+            final int items = Math.min(1 + random.nextInt(15), scale - lines);
+            for (int i = 0; i < items; i++) {
+                if (i > 0) {
+                    out.print('\n');
+                }
+                out.print(1000 + random.nextInt(60_000));
+            }
+            lines += items;
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 2_000;
+    }
+
+}
@@ -0,0 +1,31 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of numbers. Exactly one of them is 0, the others may repeat like in the real input.
+public class Day20Generator implements InputGenerator {
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int numbers = Math.max(1, scale);
+        final int zero = random.nextInt(numbers);
+        for (int i = 0; i < numbers; i++) {
+            if (i > 0) {
+                out.print('\n');
+            }
+            if (i == zero) {
+                out.print(0);
+            } else {
+                final int value = 1 + random.nextInt(10_000);
+                out.print(random.nextBoolean() ? value : -value);
+            }
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 5_000;
+    }
+
+}
@@ -0,0 +1,142 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * The scale is the amount of monkeys, at most 400000 as names are four letters. Every monkey that does math is built
+ * top down from the number it has to yell, so all divisions are exact and every number stays positive. The monkeys on
+ * the way from humn to root only add, subtract and multiply, which keeps part 2 solvable: the yell of humn that makes
+ * both sides of root equal is picked first and the other side of root is built to yell what the side of humn yells
+ * for it.
+ */
+public class Day21Generator implements InputGenerator {
+
+    private static final int MAX_MONKEYS = 400_000;
+    private static final long LARGEST_YELL = 1_000_000_000_000L;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int monkeys = Math.max(5, Math.min(MAX_MONKEYS, scale));
+        final Monkeys tree = new Monkeys(random);
+
+        final long humnPart1 = 1 + random.nextInt(10_000);
+        final long humnPart2 = 1 + random.nextInt(1_000_000);
+        tree.lines.add("humn: " + humnPart1);
+
+        // Half of the monkeys, besides root and humn, yell for the other side of root. The rest is spread over the
+        // way up from humn.
+        final int otherSide = (monkeys - 2) / 2;
+        final int steps = Math.max(1, (int) (1.5 * Math.sqrt(monkeys)));
+        final int siblings = Math.max(1, (monkeys - 2 - otherSide - steps) / steps);
+
+        String humnSide = "humn";
+        long yellPart1 = humnPart1;
+        long yellPart2 = humnPart2;
+        for (int step = 0; step < steps; step++) {
+            final long smallest = Math.min(yellPart1, yellPart2);
+            final long largest = Math.max(yellPart1, yellPart2);
+            final int choice = random.nextInt(4);
+            final String name = tree.name();
+            if (choice == 0 && largest < LARGEST_YELL / 10) {
+                final long factor = 2 + random.nextInt(4);
+                tree.math(name, humnSide, '*', tree.build(factor, siblings), random.nextBoolean());
+                yellPart1 *= factor;
+                yellPart2 *= factor;
+            } else if (choice == 1 && smallest > 1) {
+                final long subtrahend = 1 + random.nextLong(smallest - 1);
+                tree.math(name, humnSide, '-', tree.build(subtrahend, siblings), false);
+                yellPart1 -= subtrahend;
+                yellPart2 -= subtrahend;
+            } else if (choice == 2 && largest < LARGEST_YELL) {
+                final long minuend = largest + 1 + random.nextInt(1_000);
+                tree.math(name, tree.build(minuend, siblings), '-', humnSide, false);
+                yellPart1 = minuend - yellPart1;
+                yellPart2 = minuend - yellPart2;
+            } else {
+                final long addend = 1 + random.nextInt(1_000);
+                tree.math(name, humnSide, '+', tree.build(addend, siblings), random.nextBoolean());
+                yellPart1 += addend;
+                yellPart2 += addend;
+            }
+            humnSide = name;
+        }
+
+        tree.math("root", humnSide, '+', tree.build(yellPart2, otherSide), random.nextBoolean());
+
+        Collections.shuffle(tree.lines, random);
+        for (int i = 0; i < tree.lines.size(); i++) {
+            if (i > 0) {
+                out.print('\n');
+            }
+            out.print(tree.lines.get(i));
+        }
+    }
+
+    private static final class Monkeys {
+
+        private final Random random;
+        private final Set<String> names = new HashSet<>(Set.of("root", "humn"));
+        private final List<String> lines = new ArrayList<>();
+
+        private Monkeys(final Random random) {
+            this.random = random;
+        }
+
+        // Builds about the given amount of monkeys that together yell the given number, returns the name of the top.
+        private String build(final long yell, final int monkeys) {
+            final String name = name();
+            if (monkeys >= 3) {
+                final int left = 1 + random.nextInt(monkeys - 2);
+                final int right = monkeys - 1 - left;
+                final long factor = 2 + random.nextInt(8);
+                // Operations that do not work out for the number fall back to an addition or a subtraction.
+                final int operation = random.nextInt(4);
+                if (operation == 2 && yell % factor == 0) {
+                    math(name, build(yell / factor, left), '*', build(factor, right), random.nextBoolean());
+                } else if (operation == 3 && yell < LARGEST_YELL / 10) {
+                    math(name, build(yell * factor, left), '/', build(factor, right), false);
+                } else if (yell >= 2 && (operation != 1 || yell >= LARGEST_YELL)) {
+                    final long addend = 1 + random.nextLong(yell - 1);
+                    math(name, build(addend, left), '+', build(yell - addend, right), random.nextBoolean());
+                } else {
+                    final long subtrahend = 1 + random.nextInt(1_000);
+                    math(name, build(yell + subtrahend, left), '-', build(subtrahend, right), false);
+                }
+                return name;
+            }
+            lines.add(name + ": " + yell);
+
+            return name;
+        }
+
+        private void math(final String name, final String left, final char operation, final String right, final boolean swap) {
+            lines.add(name + ": " + (swap ? right : left) + " " + operation + " " + (swap ? left : right));
+        }
+
+        private String name() {
+            String name;
+            do {
+                final char[] letters = new char[4];
+                for (int i = 0; i < letters.length; i++) {
+                    letters[i] = (char) ('a' + random.nextInt(26));
+                }
+                name = new String(letters);
+            } while (!names.add(name));
+
+            return name;
+        }
+
+    }
+
+    @Override
+    public int defaultScale() {
+        return 2_000;
+    }
+
+}
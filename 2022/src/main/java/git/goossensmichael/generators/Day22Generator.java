@@ -0,0 +1,59 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the size of a face of the cube, which is unfolded the same way as in the real input. The path has
+// forty moves for every tile along the edge of a face.
+public class Day22Generator implements InputGenerator {
+
+    // The faces of the unfolded cube, as columns and rows of faces.
+    private static final boolean[][] NET = {
+            { false, true, true },
+            { false, true, false },
+            { true, true, false },
+            { true, false, false },
+    };
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int size = Math.max(2, scale);
+        for (int y = 0; y < NET.length * size; y++) {
+            final boolean[] faces = NET[y / size];
+            int width = faces.length;
+            while (!faces[width - 1]) {
+                width--;
+            }
+
+            final char[] row = new char[width * size];
+            for (int x = 0; x < row.length; x++) {
+                if (!faces[x / size]) {
+                    row[x] = ' ';
+                } else {
+                    row[x] = random.nextInt(100) < 8 ? '#' : '.';
+                }
+            }
+            // The path starts on the leftmost tile of the top row, that one must be open.
+            if (y == 0) {
+                row[size] = '.';
+            }
+            out.write(row);
+            out.print('\n');
+        }
+
+        out.print('\n');
+        final int moves = 40 * size;
+        for (int move = 0; move < moves; move++) {
+            if (move > 0) {
+                out.print(random.nextBoolean() ? 'R' : 'L');
+            }
+            out.print(1 + random.nextInt(size));
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 50;
+    }
+
+}
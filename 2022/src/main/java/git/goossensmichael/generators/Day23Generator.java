@@ -0,0 +1,40 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of elves. They take up about half of the positions of a square, like in the real input.
+public class Day23Generator implements InputGenerator {
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int elves = Math.max(1, scale);
+        final int side = (int) Math.ceil(Math.sqrt(2.0 * elves));
+
+        final boolean[] occupied = new boolean[side * side];
+        for (int placed = 0; placed < elves; ) {
+            final int position = random.nextInt(occupied.length);
+            if (!occupied[position]) {
+                occupied[position] = true;
+                placed++;
+            }
+        }
+
+        final char[] row = new char[side];
+        for (int y = 0; y < side; y++) {
+            if (y > 0) {
+                out.print('\n');
+            }
+            for (int x = 0; x < side; x++) {
+                row[x] = occupied[y * side + x] ? '#' : '.';
+            }
+            out.write(row);
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 2_700;
+    }
+
+}
@@ -0,0 +1,45 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Random;
+
+// The scale is the width of the valley, which is about a third as high. Like in the real input no blizzard moves up
+// or down in the columns of the entrance and the exit, so none of them ever leaves the valley.
+public class Day24Generator implements InputGenerator {
+
+    private static final String BLIZZARDS = "<>^v";
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int width = Math.max(2, scale);
+        final int height = Math.max(2, width / 3);
+
+        final char[] wall = new char[width + 2];
+        Arrays.fill(wall, '#');
+
+        wall[1] = '.';
+        out.write(wall);
+        wall[1] = '#';
+        final char[] row = new char[width + 2];
+        row[0] = '#';
+        row[width + 1] = '#';
+        for (int y = 0; y < height; y++) {
+            for (int x = 1; x <= width; x++) {
+                final boolean horizontalOnly = x == 1 || x == width;
+                row[x] = random.nextInt(4) == 0 ? '.' : BLIZZARDS.charAt(random.nextInt(horizontalOnly ? 2 : 4));
+            }
+            out.print('\n');
+            out.write(row);
+        }
+        wall[width] = '.';
+        out.print('\n');
+        out.write(wall);
+    }
+
+    @Override
+    public int defaultScale() {
+        return 100;
+    }
+
+}
@@ -0,0 +1,41 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of fuel requirements. Each is below 5^17, so the sum of up to ten million of them still
+// fits in a long.
+public class Day25Generator implements InputGenerator {
+
+    private static final long LARGEST = 762_939_453_125L;
+    private static final String DIGITS = "=-012";
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final char[] snafu = new char[32];
+        for (int i = 0; i < scale; i++) {
+            if (i > 0) {
+                out.print('\n');
+            }
+            // Digits from the least significant one, a digit above 2 borrows from the next one.
+            long value = 1 + random.nextLong(LARGEST - 1);
+            int start = snafu.length;
+            while (value > 0) {
+                int digit = (int) (value % 5);
+                value /= 5;
+                if (digit > 2) {
+                    digit -= 5;
+                    value++;
+                }
+                snafu[--start] = DIGITS.charAt(digit + 2);
+            }
+            out.write(snafu, start, snafu.length - start);
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 140;
+    }
+
+}
@@ -0,0 +1,26 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of rounds.
+public class Day2Generator implements InputGenerator {
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        for (int i = 0; i < scale; i++) {
+            if (i > 0) {
+                out.print('\n');
+            }
+            out.print((char) ('A' + random.nextInt(3)));
+            out.print(' ');
+            out.print((char) ('X' + random.nextInt(3)));
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 2_500;
+    }
+
+}
@@ -0,0 +1,63 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of rucksacks, rounded up to whole groups of three.
+public class Day3Generator implements InputGenerator {
+
+    private static final String ITEMS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final int POOL = 17;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final char[] items = ITEMS.toCharArray();
+        final int groups = (scale + 2) / 3;
+        for (int group = 0; group < groups; group++) {
+            // The badge is the first item, the others are split in a pool per elf so only the badge is in all three.
+            shuffle(items, 0, items.length, random);
+            for (int elf = 0; elf < 3; elf++) {
+                if (group > 0 || elf > 0) {
+                    out.print('\n');
+                }
+                out.print(rucksack(items, items[0], 1 + elf * POOL, random));
+            }
+        }
+    }
+
+    // The first item of the pool is in both compartments, the rest of the pool is split between the two.
+    private static char[] rucksack(final char[] items, final char badge, final int pool, final Random random) {
+        final char shared = items[pool];
+        final int half = 8 + random.nextInt(9);
+        final char[] rucksack = new char[2 * half];
+
+        rucksack[0] = shared;
+        rucksack[1] = badge;
+        for (int i = 2; i < half; i++) {
+            rucksack[i] = items[pool + 1 + random.nextInt(8)];
+        }
+        rucksack[half] = shared;
+        for (int i = half + 1; i < 2 * half; i++) {
+            rucksack[i] = items[pool + 9 + random.nextInt(8)];
+        }
+        shuffle(rucksack, 0, half, random);
+        shuffle(rucksack, half, 2 * half, random);
+
+        return rucksack;
+    }
+
+    private static void shuffle(final char[] chars, final int from, final int to, final Random random) {
+        for (int i = to - 1; i > from; i--) {
+            final int j = from + random.nextInt(i - from + 1);
+            final char c = chars[i];
+            chars[i] = chars[j];
+            chars[j] = c;
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 300;
+    }
+
+}
@@ -0,0 +1,35 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of pairs of elves.
+public class Day4Generator implements InputGenerator {
+
+    private static final int SECTIONS = 99;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        for (int i = 0; i < scale; i++) {
+            if (i > 0) {
+                out.print('\n');
+            }
+            printRange(random, out);
+            out.print(',');
+            printRange(random, out);
+        }
+    }
+
+    private static void printRange(final Random random, final PrintWriter out) {
+        final int from = 1 + random.nextInt(SECTIONS);
+        out.print(from);
+        out.print('-');
+        out.print(from + random.nextInt(SECTIONS - from + 1));
+    }
+
+    @Override
+    public int defaultScale() {
+        return 1_000;
+    }
+
+}
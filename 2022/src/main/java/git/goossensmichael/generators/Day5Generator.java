@@ -0,0 +1,69 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of moves, the crates are spread over nine stacks.
+public class Day5Generator implements InputGenerator {
+
+    private static final int STACKS = 9;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int[] heights = new int[STACKS];
+        int highest = 0;
+        for (int stack = 0; stack < STACKS; stack++) {
+            heights[stack] = 2 + random.nextInt(7);
+            highest = Math.max(highest, heights[stack]);
+        }
+
+        for (int level = highest - 1; level >= 0; level--) {
+            for (int stack = 0; stack < STACKS; stack++) {
+                if (stack > 0) {
+                    out.print(' ');
+                }
+                if (heights[stack] > level) {
+                    out.print('[');
+                    out.print((char) ('A' + random.nextInt(26)));
+                    out.print(']');
+                } else {
+                    out.print("   ");
+                }
+            }
+            out.print('\n');
+        }
+        for (int stack = 0; stack < STACKS; stack++) {
+            out.print(stack > 0 ? "   " : " ");
+            out.print(stack + 1);
+        }
+        out.print(" \n");
+
+        // A move never takes the last crate of a stack, so every stack still has a crate on top at the end.
+        for (int i = 0; i < scale; i++) {
+            int from;
+            do {
+                from = random.nextInt(STACKS);
+            } while (heights[from] < 2);
+            int to;
+            do {
+                to = random.nextInt(STACKS);
+            } while (to == from);
+            final int amount = 1 + random.nextInt(heights[from] - 1);
+            heights[from] -= amount;
+            heights[to] += amount;
+
+            out.print("\nmove ");
+            out.print(amount);
+            out.print(" from ");
+            out.print(from + 1);
+            out.print(" to ");
+            out.print(to + 1);
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 500;
+    }
+
+}
@@ -0,0 +1,36 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the length of the noise in front of the markers, so the solver has to scan all of it.
+public class Day6Generator implements InputGenerator {
+
+    private static final int MESSAGE_MARKER = 14;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        // Three letters never make a start of packet marker.
+        for (int i = 0; i < scale; i++) {
+            out.print((char) ('a' + random.nextInt(3)));
+        }
+
+        final char[] marker = new char[23];
+        for (int i = 0; i < marker.length; i++) {
+            marker[i] = (char) ('d' + i);
+        }
+        for (int i = 0; i < MESSAGE_MARKER; i++) {
+            final int j = i + random.nextInt(marker.length - i);
+            final char c = marker[i];
+            marker[i] = marker[j];
+            marker[j] = c;
+        }
+        out.write(marker, 0, MESSAGE_MARKER);
+    }
+
+    @Override
+    public int defaultScale() {
+        return 4_000;
+    }
+
+}
@@ -0,0 +1,72 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of directories. The disk is filled for about 60%, so part 2 has to free some space.
+public class Day7Generator implements InputGenerator {
+
+    private static final long USED_SPACE = 42_000_000;
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final int directories = Math.max(1, scale);
+        // A random tree, every directory is put in one of the directories before it.
+        final int[] firstChild = new int[directories];
+        final int[] nextSibling = new int[directories];
+        for (int directory = directories - 1; directory > 0; directory--) {
+            final int parent = random.nextInt(directory);
+            nextSibling[directory] = firstChild[parent];
+            firstChild[parent] = directory;
+        }
+
+        // Every directory holds two files on average.
+        final int maxFileSize = (int) Math.max(1, USED_SPACE / directories);
+
+        out.print("$ cd /");
+        // Walked depth first without recursion, next holds the child to enter next at every depth.
+        final int[] next = new int[directories];
+        int depth = 0;
+        next[0] = list(0, firstChild, nextSibling, maxFileSize, random, out);
+        while (depth >= 0) {
+            final int child = next[depth];
+            if (child == 0) {
+                depth--;
+                if (depth >= 0) {
+                    out.print("\n$ cd ..");
+                }
+            } else {
+                next[depth] = nextSibling[child];
+                out.print("\n$ cd d");
+                out.print(child);
+                next[++depth] = list(child, firstChild, nextSibling, maxFileSize, random, out);
+            }
+        }
+    }
+
+    // Lists the files and the directories inside the given one, returns the first child directory.
+    private static int list(final int directory, final int[] firstChild, final int[] nextSibling, final int maxFileSize,
+                            final Random random, final PrintWriter out) {
+        out.print("\n$ ls");
+        for (int child = firstChild[directory]; child != 0; child = nextSibling[child]) {
+            out.print("\ndir d");
+            out.print(child);
+        }
+        final int files = 1 + random.nextInt(3);
+        for (int file = 0; file < files; file++) {
+            out.print('\n');
+            out.print(1 + random.nextInt(maxFileSize));
+            out.print(" f");
+            out.print(file);
+            out.print(".txt");
+        }
+
+        return firstChild[directory];
+    }
+
+    @Override
+    public int defaultScale() {
+        return 200;
+    }
+
+}
@@ -0,0 +1,28 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the width and height of the forest.
+public class Day8Generator implements InputGenerator {
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        final char[] row = new char[scale];
+        for (int y = 0; y < scale; y++) {
+            if (y > 0) {
+                out.print('\n');
+            }
+            for (int x = 0; x < scale; x++) {
+                row[x] = (char) ('0' + random.nextInt(10));
+            }
+            out.write(row);
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 99;
+    }
+
+}
@@ -0,0 +1,28 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+// The scale is the amount of motions of the head.
+public class Day9Generator implements InputGenerator {
+
+    private static final String DIRECTIONS = "RLUD";
+
+    @Override
+    public void generate(final int scale, final Random random, final PrintWriter out) {
+        for (int i = 0; i < scale; i++) {
+            if (i > 0) {
+                out.print('\n');
+            }
+            out.print(DIRECTIONS.charAt(random.nextInt(DIRECTIONS.length())));
+            out.print(' ');
+            out.print(1 + random.nextInt(20));
+        }
+    }
+
+    @Override
+    public int defaultScale() {
+        return 2_000;
+    }
+
+}
@@ -0,0 +1,26 @@
+package git.goossensmichael.generators;
+
+import java.io.PrintWriter;
+import java.util.Random;
+
+/**
+ * Writes valid puzzle inputs of a single day at any size, so solvers can be measured on inputs far larger than the
+ * real ones. Implementations are discovered through {@link java.util.ServiceLoader} just like the solvers. What the
+ * scale counts differs per day, e.g. the lines of calories of day 1 or the width of the forest of day 8.
+ *
+ * <p>Generators only draw from the given random source, the same scale and seed always give the same input.
+ */
+public interface InputGenerator {
+
+    // Lines are separated by new lines, like the real inputs there is no new line after the last one.
+    void generate(int scale, Random random, PrintWriter out);
+
+    // The scale at which the generated input is about as large as the real puzzle input.
+    int defaultScale();
+
+    default int day() {
+        final String name = getClass().getSimpleName();
+        return Integer.parseInt(name.substring(3, name.indexOf("Generator")));
+    }
+
+}
@@ -0,0 +1,106 @@
+package git.goossensmichael.generators;
+
+import git.goossensmichael.utils.Inputs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.ServiceLoader;
+
+/**
+ * Generates inputs in memory or writes them to a directory. A directory of generated inputs can be handed to the
+ * solvers with {@code -Dadventofcode.inputs=<directory>}.
+ *
+ * <p>Arguments are the directory to write to, the days to generate, all days when none are given, and the options
+ * {@code --scale=<scale>} (the default scale of every day when not given) and {@code --seed=<seed>}.
+ */
+public class InputGenerators {
+
+    public static final long DEFAULT_SEED = 2022;
+
+    private InputGenerators() {
+    }
+
+    public static List<InputGenerator> generators() {
+        return ServiceLoader.load(InputGenerator.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .sorted(Comparator.comparingInt(InputGenerator::day))
+                .toList();
+    }
+
+    public static InputGenerator forDay(final int day) {
+        return generators().stream()
+                .filter(generator -> generator.day() == day)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No generator for day " + day));
+    }
+
+    public static ByteBuffer generate(final int day, final int scale, final long seed) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(bytes, StandardCharsets.US_ASCII))) {
+            forDay(day).generate(scale, new Random(seed), out);
+        }
+
+        return ByteBuffer.wrap(bytes.toByteArray()).asReadOnlyBuffer();
+    }
+
+    // Written as dayN.txt, the name the solvers look for in an inputs directory.
+    public static Path write(final InputGenerator generator, final int scale, final long seed, final Path directory) {
+        final Path file = directory.resolve("day" + generator.day() + ".txt");
+        try {
+            Files.createDirectories(directory);
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.US_ASCII))) {
+                generator.generate(scale, new Random(seed), out);
+                if (out.checkError()) {
+                    throw new IOException("Failed writing " + file);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not write generated input " + file, e);
+        }
+
+        return file;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        Path directory = null;
+        Integer scale = null;
+        long seed = DEFAULT_SEED;
+        final List<Integer> days = new ArrayList<>();
+        for (final String arg : args) {
+            if (arg.startsWith("--scale=")) {
+                scale = Integer.parseInt(arg.substring(8));
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(arg.substring(7));
+            } else if (directory == null) {
+                directory = Path.of(arg);
+            } else {
+                days.add(Integer.parseInt(arg));
+            }
+        }
+        if (directory == null) {
+            System.out.println("Usage: InputGenerators <directory> [--scale=<scale>] [--seed=<seed>] [days...]");
+            return;
+        }
+
+        for (final InputGenerator generator : generators()) {
+            if (days.isEmpty() || days.contains(generator.day())) {
+                final int dayScale = scale == null ? generator.defaultScale() : scale;
+                final Path file = write(generator, dayScale, seed, directory);
+                System.out.printf("Day %2d | scale %10d | %12d bytes | %s%n", generator.day(), dayScale, Files.size(file), file);
+            }
+        }
+        System.out.printf("Run the solvers with -D%s=%s%n", Inputs.INPUTS_DIRECTORY_PROPERTY, directory.toAbsolutePath());
+    }
+
+}
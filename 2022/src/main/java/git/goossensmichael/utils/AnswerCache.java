@@ -0,0 +1,318 @@
+package git.goossensmichael.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Answers of earlier runs, stored on disk. An answer is keyed on the day, the version of its solver, the part and the
+ * SHA-256 of the input, so a new version of a solver never sees the answers of an older one.
+ *
+ * <p>The answers are appended to a log file. A separate index of fixed size entries points into the log and is mapped
+ * into memory, marking an entry as used is a write into that mapping. {@link #prune(int)} rewrites both files with
+ * only the most recently used entries.
+ *
+ * <p>Several processes can share a directory. Appends and prunes hold a lock on a separate lock file, which is never
+ * replaced, and pick up the files of a prune by another process. A closed cache no longer answers or stores anything,
+ * so a solver that finishes late does not fail on it.
+ */
+public class AnswerCache implements Closeable {
+
+    private static final String LOG = "answers.log";
+    private static final String INDEX = "answers.idx";
+    private static final String LOCK = "answers.lock";
+    // File locks are held by the whole process, caches within a process take turns on this monitor.
+    private static final Object PROCESS_LOCK = new Object();
+
+    // Layout of an index entry: the input hash, day, version, part, flags, offset of the answer in the log and the
+    // moment the answer was last used.
+    private static final int HASH_SIZE = 32;
+    private static final int DAY = HASH_SIZE;
+    private static final int VERSION = DAY + 4;
+    private static final int PART = VERSION + 4;
+    private static final int FLAGS = PART + 4;
+    private static final int OFFSET = FLAGS + 4;
+    private static final int LAST_USED = OFFSET + 8;
+    private static final int ENTRY_SIZE = LAST_USED + 8;
+
+    private static final int STALE = 1;
+
+    private static final byte LONG = 'L';
+    private static final byte INTEGER = 'I';
+    private static final byte STRING = 'S';
+
+    private final Path directory;
+    private FileChannel log;
+    private FileChannel indexChannel;
+    private final FileChannel lockChannel;
+    private MappedByteBuffer index;
+    // Identifies the index file that is open, a prune by another process moves a new one into its place.
+    private Object indexKey;
+    private final Map<String, Integer> entries = new HashMap<>();
+    private boolean closed;
+
+    public AnswerCache(final Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+            lockChannel = FileChannel.open(directory.resolve(LOCK), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            open();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not open the answer cache in " + directory, e);
+        }
+    }
+
+    // Follows the XDG convention, ~/.cache/adventofcode unless another cache home is configured.
+    public static Path defaultDirectory() {
+        final String cacheHome = System.getenv("XDG_CACHE_HOME");
+        final Path base = cacheHome == null || cacheHome.isBlank()
+                ? Path.of(System.getProperty("user.home"), ".cache")
+                : Path.of(cacheHome);
+
+        return base.resolve("adventofcode");
+    }
+
+    public static byte[] sha256(final ByteBuffer input) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(input.duplicate());
+            return digest.digest();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    public synchronized Optional<Object> get(final int day, final int version, final int part, final byte[] inputHash) {
+        final Integer slot = closed ? null : entries.get(key(day, version, part, inputHash));
+        if (slot == null) {
+            return Optional.empty();
+        }
+
+        index.putLong(slot * ENTRY_SIZE + LAST_USED, System.currentTimeMillis());
+
+        return Optional.of(read(index.getLong(slot * ENTRY_SIZE + OFFSET)));
+    }
+
+    // Answers other than numbers and strings are not cached. Other versions of the solver of the day are dropped.
+    @SuppressWarnings("try")
+    public synchronized void put(final int day, final int version, final int part, final byte[] inputHash, final Object answer) {
+        final byte type;
+        if (answer instanceof Long) {
+            type = LONG;
+        } else if (answer instanceof Integer) {
+            type = INTEGER;
+        } else if (answer instanceof String) {
+            type = STRING;
+        } else {
+            return;
+        }
+        if (closed) {
+            return;
+        }
+
+        synchronized (PROCESS_LOCK) {
+            try (FileLock lock = lock()) {
+                if (replaced()) {
+                    reopen();
+                }
+                markOtherVersionsStale(day, version);
+
+                // The sizes of the files rather than of the mapping, another process may have appended since.
+                final long offset = log.size();
+                final byte[] value = answer.toString().getBytes(StandardCharsets.UTF_8);
+                final ByteBuffer record = ByteBuffer.allocate(5 + value.length).putInt(value.length).put(type).put(value);
+                log.write(record.flip(), offset);
+
+                final int slot = (int) (indexChannel.size() / ENTRY_SIZE);
+                final ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE)
+                        .put(inputHash)
+                        .putInt(day).putInt(version).putInt(part).putInt(0)
+                        .putLong(offset).putLong(System.currentTimeMillis());
+                indexChannel.write(entry.flip(), (long) slot * ENTRY_SIZE);
+                mapIndex();
+
+                entries.put(key(day, version, part, inputHash), slot);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Can not write to the answer cache in " + directory, e);
+            }
+        }
+    }
+
+    // Keeps the most recently used answers, stale ones are always dropped.
+    @SuppressWarnings("try")
+    public synchronized void prune(final int maxEntries) {
+        if (closed) {
+            return;
+        }
+
+        synchronized (PROCESS_LOCK) {
+            try (FileLock lock = lock()) {
+                // Picks up the answers that other processes added since this cache was opened.
+                reopen();
+
+                final List<Integer> keep = new ArrayList<>(entries.values());
+                keep.sort(Comparator.comparingLong((Integer slot) -> index.getLong(slot * ENTRY_SIZE + LAST_USED)).reversed());
+                final List<Integer> kept = keep.subList(0, Math.min(maxEntries, keep.size()));
+                if (kept.size() == slots()) {
+                    return;
+                }
+
+                final Path newLog = directory.resolve(LOG + ".tmp");
+                final Path newIndex = directory.resolve(INDEX + ".tmp");
+                try (FileChannel logOut = FileChannel.open(newLog, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                     FileChannel indexOut = FileChannel.open(newIndex, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    for (final int slot : kept) {
+                        final ByteBuffer entry = index.slice(slot * ENTRY_SIZE, ENTRY_SIZE);
+                        final long offset = entry.getLong(OFFSET);
+
+                        final ByteBuffer length = ByteBuffer.allocate(4);
+                        log.read(length, offset);
+                        final ByteBuffer record = ByteBuffer.allocate(5 + length.flip().getInt());
+                        log.read(record, offset);
+
+                        final ByteBuffer newEntry = ByteBuffer.allocate(ENTRY_SIZE).put(entry).putLong(OFFSET, logOut.position());
+                        logOut.write(record.flip());
+                        indexOut.write(newEntry.flip());
+                    }
+                }
+
+                closeFiles();
+                try {
+                    Files.move(newLog, directory.resolve(LOG), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    try {
+                        Files.move(newIndex, directory.resolve(INDEX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (final IOException e) {
+                        // The old index points into the old log, without an index the cache starts over empty.
+                        Files.deleteIfExists(directory.resolve(INDEX));
+                        throw e;
+                    }
+                } finally {
+                    Files.deleteIfExists(newLog);
+                    Files.deleteIfExists(newIndex);
+                    open();
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Can not prune the answer cache in " + directory, e);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            closeFiles();
+            lockChannel.close();
+        }
+    }
+
+    private void closeFiles() throws IOException {
+        index.force();
+        log.close();
+        indexChannel.close();
+    }
+
+    private void open() throws IOException {
+        log = FileChannel.open(directory.resolve(LOG), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        indexChannel = FileChannel.open(directory.resolve(INDEX), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        indexKey = fileKey(directory.resolve(INDEX));
+        mapIndex();
+
+        entries.clear();
+        final byte[] hash = new byte[HASH_SIZE];
+        for (int slot = 0; slot < slots(); slot++) {
+            final int entry = slot * ENTRY_SIZE;
+            if (index.getInt(entry + FLAGS) != STALE) {
+                index.get(entry, hash);
+                entries.put(key(index.getInt(entry + DAY), index.getInt(entry + VERSION), index.getInt(entry + PART), hash), slot);
+            }
+        }
+    }
+
+    private void reopen() throws IOException {
+        closeFiles();
+        open();
+    }
+
+    // Only one process at a time appends to or prunes the files, the caller holds the process lock.
+    private FileLock lock() throws IOException {
+        return lockChannel.lock();
+    }
+
+    private boolean replaced() throws IOException {
+        return !Objects.equals(indexKey, fileKey(directory.resolve(INDEX)));
+    }
+
+    // Null where the file system has no keys for its files, the files are then never seen as replaced.
+    private static Object fileKey(final Path file) throws IOException {
+        return Files.exists(file) ? Files.readAttributes(file, BasicFileAttributes.class).fileKey() : null;
+    }
+
+    private void mapIndex() throws IOException {
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexChannel.size());
+    }
+
+    private int slots() {
+        return index.capacity() / ENTRY_SIZE;
+    }
+
+    private void markOtherVersionsStale(final int day, final int version) {
+        entries.values().removeIf(slot -> {
+            final int entry = slot * ENTRY_SIZE;
+            final boolean stale = index.getInt(entry + DAY) == day && index.getInt(entry + VERSION) != version;
+            if (stale) {
+                index.putInt(entry + FLAGS, STALE);
+            }
+            return stale;
+        });
+    }
+
+    private Object read(final long offset) {
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(5);
+            log.read(header, offset);
+            header.flip();
+
+            final ByteBuffer value = ByteBuffer.allocate(header.getInt());
+            log.read(value, offset + 5);
+            final String answer = new String(value.array(), StandardCharsets.UTF_8);
+
+            return switch (header.get()) {
+                case LONG -> Long.parseLong(answer);
+                case INTEGER -> Integer.parseInt(answer);
+                default -> answer;
+            };
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not read from the answer cache in " + directory, e);
+        }
+    }
+
+    private static String key(final int day, final int version, final int part, final byte[] inputHash) {
+        return day + "/" + version + "/" + part + "/" + HexFormat.of().formatHex(inputHash);
+    }
+
+}
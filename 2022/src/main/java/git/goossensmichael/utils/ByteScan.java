@@ -0,0 +1,169 @@
+package git.goossensmichael.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Finds the newlines, the blank lines separating records and the runs of digits in an input eight bytes at a time.
+ * Every long read from the input is compared against all its bytes at once (SWAR), which leaves the high bit set in
+ * each matching byte, so the matches of a word are walked with trailing zero counts instead of byte by byte.
+ * Offsets are absolute indexes in the buffer, whose position is never moved.
+ */
+public class ByteScan {
+
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long NEW_LINES = 0x0A0A0A0A0A0A0A0AL;
+    // Added to the low 7 bits of a byte they carry into its high bit from '0' and from past '9' on.
+    private static final long FROM_ZERO = 0x5050505050505050L;
+    private static final long PAST_NINE = 0x4646464646464646L;
+
+    private ByteScan() {
+    }
+
+    // The offsets of every newline.
+    public static int[] newlines(final ByteBuffer input) {
+        final ByteBuffer in = input.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final int limit = in.limit();
+
+        int[] offsets = new int[64];
+        int count = 0;
+        for (int i = in.position(); i < limit; i += Long.BYTES) {
+            long matches = matches(word(in, i, limit), NEW_LINES);
+            while (matches != 0) {
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                }
+                offsets[count++] = i + (Long.numberOfTrailingZeros(matches) >>> 3);
+                matches &= matches - 1;
+            }
+        }
+
+        return Arrays.copyOf(offsets, count);
+    }
+
+    // The offsets of the first newline of every blank line separator, "\n\n" taken from left to right like split does.
+    public static int[] blankLines(final ByteBuffer input) {
+        return blankLines(newlines(input));
+    }
+
+    // The begin and the exclusive end of every run of digits, one after the other.
+    public static int[] digitRuns(final ByteBuffer input) {
+        final ByteBuffer in = input.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        final int limit = in.limit();
+
+        int[] offsets = new int[64];
+        int count = 0;
+        // The high bit of the last byte of the previous word, moved to the first byte, when it was a digit.
+        long carry = 0;
+        for (int i = in.position(); i < limit; i += Long.BYTES) {
+            final long digits = digits(word(in, i, limit));
+            final long previous = (digits << 8) | carry;
+            // A run begins at a digit after a non digit and ends at a non digit after a digit, so they alternate.
+            long edges = (digits & ~previous) | (~digits & previous & HIGH_BITS);
+            while (edges != 0) {
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                }
+                offsets[count++] = i + (Long.numberOfTrailingZeros(edges) >>> 3);
+                edges &= edges - 1;
+            }
+            carry = digits >>> 56;
+        }
+        if (count % 2 == 1) {
+            offsets[count++] = limit;
+        }
+
+        return Arrays.copyOf(offsets, count);
+    }
+
+    // The lines of the input like split("\n"), without the trailing empty lines.
+    public static String[] lines(final ByteBuffer input) {
+        return split(input, newlines(input), 1);
+    }
+
+    // The records of the input separated by blank lines like split("\n\n"), without the trailing empty records.
+    public static String[] records(final ByteBuffer input) {
+        return split(input, blankLines(input), 2);
+    }
+
+    // Parses the digits from begin up to end as a number.
+    public static long parseLong(final ByteBuffer input, final int begin, final int end) {
+        long value = 0;
+        for (int i = begin; i < end; i++) {
+            value = value * 10 + (input.get(i) - '0');
+        }
+
+        return value;
+    }
+
+    private static int[] blankLines(final int[] newlines) {
+        final int[] separators = new int[newlines.length / 2];
+        int count = 0;
+        for (int i = 0; i + 1 < newlines.length; i++) {
+            if (newlines[i + 1] == newlines[i] + 1) {
+                separators[count++] = newlines[i++];
+            }
+        }
+
+        return Arrays.copyOf(separators, count);
+    }
+
+    private static String[] split(final ByteBuffer input, final int[] separators, final int separatorLength) {
+        final int start = input.position();
+        final byte[] bytes = new byte[input.remaining()];
+        input.get(start, bytes);
+        if (separators.length == 0) {
+            return new String[] { new String(bytes, StandardCharsets.US_ASCII) };
+        }
+
+        // Like split, trailing empty strings are dropped.
+        int count = separators.length + 1;
+        int last = bytes.length;
+        while (count > 0 && last == (count == 1 ? 0 : separators[count - 2] - start + separatorLength)) {
+            count--;
+            last = count == 0 ? 0 : separators[count - 1] - start;
+        }
+
+        final String[] parts = new String[count];
+        int begin = 0;
+        for (int i = 0; i < count; i++) {
+            final int end = i < separators.length ? separators[i] - start : bytes.length;
+            parts[i] = new String(bytes, begin, end - begin, StandardCharsets.US_ASCII);
+            begin = end + separatorLength;
+        }
+
+        return parts;
+    }
+
+    // The eight bytes from the offset, the bytes past the limit read as 0.
+    private static long word(final ByteBuffer in, final int offset, final int limit) {
+        if (offset + Long.BYTES <= limit) {
+            return in.getLong(offset);
+        }
+
+        long word = 0;
+        for (int i = limit - 1; i >= offset; i--) {
+            word = (word << 8) | (in.get(i) & 0xFF);
+        }
+
+        return word;
+    }
+
+    // The high bit of every byte that equals the byte of the pattern, exact so no borrow runs into the next byte.
+    private static long matches(final long word, final long pattern) {
+        final long x = word ^ pattern;
+
+        return ~(((x & LOW_BITS) + LOW_BITS) | x) & HIGH_BITS;
+    }
+
+    // The high bit of every byte from '0' up to '9', bytes of 128 and up are no digit.
+    private static long digits(final long word) {
+        final long low = word & LOW_BITS;
+
+        return (low + FROM_ZERO) & ~(low + PAST_NINE) & ~word & HIGH_BITS;
+    }
+
+}
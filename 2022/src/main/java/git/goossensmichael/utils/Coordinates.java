@@ -0,0 +1,25 @@
+package git.goossensmichael.utils;
+
+// Packs a pair of int coordinates into a single long so they can be stored without an object per coordinate.
+public class Coordinates {
+
+    private Coordinates() {
+    }
+
+    public static long pack(final int x, final int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    public static int x(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    public static int y(final long packed) {
+        return (int) packed;
+    }
+
+    public static long move(final long packed, final int dx, final int dy) {
+        return pack(x(packed) + dx, y(packed) + dy);
+    }
+
+}
@@ -0,0 +1,126 @@
+package git.goossensmichael.utils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads numbers and literals straight from the bytes of an input without creating intermediate strings. The position
+ * of the given buffer is never moved, the scanner keeps its own.
+ */
+public class FastScanner {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final ByteBuffer input;
+    private final int start;
+    private final int limit;
+    private int position;
+
+    public FastScanner(final ByteBuffer input) {
+        this.input = input;
+        this.start = input.position();
+        this.limit = input.limit();
+        this.position = start;
+    }
+
+    public boolean hasNext() {
+        return position < limit;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public byte peek() {
+        return input.get(position);
+    }
+
+    public byte nextByte() {
+        return input.get(position++);
+    }
+
+    // Skips everything up to the next (optionally negative) number and reads it.
+    public int nextInt() {
+        return Math.toIntExact(nextLong());
+    }
+
+    public long nextLong() {
+        while (position < limit && !isNumberStart(position)) {
+            position++;
+        }
+        if (position == limit) {
+            throw new IllegalStateException("No number left in the input.");
+        }
+
+        final boolean negative = input.get(position) == '-';
+        if (negative) {
+            position++;
+        }
+
+        long value = 0;
+        while (position < limit && isDigit(input.get(position))) {
+            value = value * 10 + (input.get(position++) - '0');
+        }
+
+        return negative ? -value : value;
+    }
+
+    // Moves the position right after the next occurrence of the given byte, or to the end of the input.
+    public void skipUntil(final byte b) {
+        while (position < limit && input.get(position++) != b) {
+            // Skipping
+        }
+    }
+
+    // Consumes the literal, failing when the input does not continue with it.
+    public void expect(final String literal) {
+        if (!skip(literal)) {
+            throw new IllegalArgumentException("Expected '" + literal + "' at position " + position + ".");
+        }
+    }
+
+    // Consumes the literal when the input continues with it.
+    public boolean skip(final String literal) {
+        final int length = literal.length();
+        if (position + length > limit) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (input.get(position + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        position += length;
+
+        return true;
+    }
+
+    public boolean atEndOfLine() {
+        return position == limit || input.get(position) == NEW_LINE;
+    }
+
+    public void nextLine() {
+        skipUntil(NEW_LINE);
+    }
+
+    // Records are separated by blank lines, a record ends when a line is empty. Moves past the blank lines and returns
+    // whether another record follows.
+    public boolean nextRecord() {
+        while (position < limit && input.get(position) == NEW_LINE) {
+            position++;
+        }
+
+        return position < limit;
+    }
+
+    // A minus right after a digit separates a range like 2-4, it is not the sign of the next number.
+    private boolean isNumberStart(final int index) {
+        final byte b = input.get(index);
+        return isDigit(b) || b == '-' && index + 1 < limit && isDigit(input.get(index + 1))
+                && (index == start || !isDigit(input.get(index - 1)));
+    }
+
+    private static boolean isDigit(final byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+}
@@ -0,0 +1,194 @@
+package git.goossensmichael.utils;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Shortest path searches over graphs whose nodes are numbered from 0, e.g. the indices of a {@link Grid}. The
+ * distance and parent buffers are allocated once and reused by every search, a search only resets the nodes it
+ * reaches. All searches accept multiple sources and stop as soon as a node matching the target is taken from the
+ * queue, after which {@link #distance(int)} and {@link #path(int)} tell how every reached node was reached.
+ */
+public class GraphSearch {
+
+    public static final int UNREACHABLE = -1;
+
+    @FunctionalInterface
+    public interface Edges {
+        void add(int node, int weight);
+    }
+
+    // Reports the edges leaving a node. Breadth first searches ignore the weight.
+    @FunctionalInterface
+    public interface Neighbours {
+        void of(int node, Edges edges);
+    }
+
+    private static final IntUnaryOperator NO_HEURISTIC = node -> 0;
+
+    private final int[] distance;
+    private final int[] parent;
+    // A node is reached in the current search when it is stamped with the current generation.
+    private final int[] reached;
+    private int generation;
+
+    private final IntArrayDeque deque = new IntArrayDeque();
+    private final IntMinHeap heap = new IntMinHeap();
+
+    // The search state the edge callbacks work with, kept in fields so no callback has to be created per step.
+    private int current;
+    private IntUnaryOperator heuristic = NO_HEURISTIC;
+    private final Edges breadthFirstEdges = this::addBreadthFirst;
+    private final Edges zeroOneEdges = this::addZeroOne;
+    private final Edges weightedEdges = this::addWeighted;
+
+    public GraphSearch(final int nodes) {
+        this.distance = new int[nodes];
+        this.parent = new int[nodes];
+        this.reached = new int[nodes];
+    }
+
+    public int bfs(final int[] sources, final Neighbours neighbours, final IntPredicate target) {
+        start(sources);
+        for (final int source : sources) {
+            deque.addLast(source);
+        }
+
+        while (!deque.isEmpty()) {
+            current = deque.pollFirst();
+            if (target.test(current)) {
+                return distance[current];
+            }
+            neighbours.of(current, breadthFirstEdges);
+        }
+
+        return UNREACHABLE;
+    }
+
+    // For graphs whose edges all weigh 0 or 1, nodes reached for free are handled before the others.
+    public int zeroOneBfs(final int[] sources, final Neighbours neighbours, final IntPredicate target) {
+        start(sources);
+        for (final int source : sources) {
+            deque.addLast(source);
+        }
+
+        while (!deque.isEmpty()) {
+            current = deque.pollFirst();
+            if (target.test(current)) {
+                return distance[current];
+            }
+            neighbours.of(current, zeroOneEdges);
+        }
+
+        return UNREACHABLE;
+    }
+
+    public int dijkstra(final int[] sources, final Neighbours neighbours, final IntPredicate target) {
+        return aStar(sources, neighbours, target, NO_HEURISTIC);
+    }
+
+    // The heuristic must never overestimate the remaining distance to the target.
+    public int aStar(final int[] sources, final Neighbours neighbours, final IntPredicate target,
+                     final IntUnaryOperator heuristic) {
+        start(sources);
+        this.heuristic = heuristic;
+        for (final int source : sources) {
+            heap.push(source, heuristic.applyAsInt(source));
+        }
+
+        while (!heap.isEmpty()) {
+            final int priority = heap.peekPriority();
+            current = heap.pop();
+            // A node is pushed again every time a shorter way to it is found, the older entries are skipped.
+            if (priority != distance[current] + heuristic.applyAsInt(current)) {
+                continue;
+            }
+            if (target.test(current)) {
+                return distance[current];
+            }
+            neighbours.of(current, weightedEdges);
+        }
+
+        return UNREACHABLE;
+    }
+
+    public int distance(final int node) {
+        return isReached(node) ? distance[node] : UNREACHABLE;
+    }
+
+    public int parent(final int node) {
+        return isReached(node) ? parent[node] : UNREACHABLE;
+    }
+
+    // The nodes from a source up to and including the given node, empty when it was not reached.
+    public int[] path(final int node) {
+        if (!isReached(node)) {
+            return new int[0];
+        }
+
+        int length = 1;
+        for (int n = node; parent[n] != UNREACHABLE; n = parent[n]) {
+            length++;
+        }
+
+        final int[] path = new int[length];
+        for (int n = node, i = length - 1; i >= 0; n = parent[n], i--) {
+            path[i] = n;
+        }
+
+        return path;
+    }
+
+    private void start(final int[] sources) {
+        if (++generation == 0) {
+            Arrays.fill(reached, 0);
+            generation = 1;
+        }
+        deque.clear();
+        heap.clear();
+        heuristic = NO_HEURISTIC;
+
+        for (final int source : sources) {
+            reach(source, 0, UNREACHABLE);
+        }
+    }
+
+    private boolean isReached(final int node) {
+        return reached[node] == generation;
+    }
+
+    private void reach(final int node, final int nodeDistance, final int nodeParent) {
+        reached[node] = generation;
+        distance[node] = nodeDistance;
+        parent[node] = nodeParent;
+    }
+
+    private void addBreadthFirst(final int node, final int weight) {
+        if (!isReached(node)) {
+            reach(node, distance[current] + 1, current);
+            deque.addLast(node);
+        }
+    }
+
+    private void addZeroOne(final int node, final int weight) {
+        final int nodeDistance = distance[current] + weight;
+        if (!isReached(node) || nodeDistance < distance[node]) {
+            reach(node, nodeDistance, current);
+            if (weight == 0) {
+                deque.addFirst(node);
+            } else {
+                deque.addLast(node);
+            }
+        }
+    }
+
+    private void addWeighted(final int node, final int weight) {
+        final int nodeDistance = distance[current] + weight;
+        if (!isReached(node) || nodeDistance < distance[node]) {
+            reach(node, nodeDistance, current);
+            heap.push(node, nodeDistance + heuristic.applyAsInt(node));
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+package git.goossensmichael.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * A 2D grid of bytes stored row by row in a single array. The grid is surrounded by a border of {@link #BORDER} cells,
+ * so walking from a cell in any direction ends on the border instead of running out of the array. Cells are addressed
+ * by index, the neighbours of a cell are found by adding the offsets of {@link #neighbours4()} or
+ * {@link #neighbours8()}.
+ */
+public class Grid {
+
+    public static final byte BORDER = 0;
+
+    private final byte[] cells;
+    private final int width;
+    private final int height;
+    private final int stride;
+    private final int[] neighbours4;
+    private final int[] neighbours8;
+
+    public Grid(final int width, final int height, final byte fill) {
+        this(filled(width, height, fill), width, height);
+    }
+
+    private Grid(final byte[] cells, final int width, final int height) {
+        this.cells = cells;
+        this.width = width;
+        this.height = height;
+        this.stride = width + 2;
+        this.neighbours4 = new int[]{1, stride, -1, -stride};
+        this.neighbours8 = new int[]{1, stride + 1, stride, stride - 1, -1, -stride - 1, -stride, -stride + 1};
+    }
+
+    // The cells of a grid with every cell but the border set to the fill.
+    private static byte[] filled(final int width, final int height, final byte fill) {
+        final int stride = width + 2;
+        final byte[] cells = new byte[stride * (height + 2)];
+        for (int y = 1; y <= height; y++) {
+            Arrays.fill(cells, y * stride + 1, y * stride + 1 + width, fill);
+        }
+
+        return cells;
+    }
+
+    // Every line of the input is a row, all rows must be as wide as the first one.
+    public static Grid parse(final ByteBuffer input) {
+        final int start = input.position();
+        final int limit = input.limit();
+
+        int width = 0;
+        while (start + width < limit && input.get(start + width) != '\n') {
+            width++;
+        }
+        final int height = (limit - start + 1) / (width + 1);
+
+        final Grid grid = new Grid(new byte[(width + 2) * (height + 2)], width, height);
+        for (int y = 0; y < height; y++) {
+            input.get(start + y * (width + 1), grid.cells, grid.index(0, y), width);
+        }
+
+        return grid;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public int stride() {
+        return stride;
+    }
+
+    // The amount of cells including the border, every index of the grid is below it.
+    public int size() {
+        return cells.length;
+    }
+
+    public int index(final int x, final int y) {
+        return (y + 1) * stride + x + 1;
+    }
+
+    public int x(final int index) {
+        return index % stride - 1;
+    }
+
+    public int y(final int index) {
+        return index / stride - 1;
+    }
+
+    public byte get(final int index) {
+        return cells[index];
+    }
+
+    public void set(final int index, final byte value) {
+        cells[index] = value;
+    }
+
+    public byte get(final int x, final int y) {
+        return cells[index(x, y)];
+    }
+
+    public void set(final int x, final int y, final byte value) {
+        cells[index(x, y)] = value;
+    }
+
+    public boolean isBorder(final int index) {
+        return cells[index] == BORDER;
+    }
+
+    // Offsets to the right, down, left and up neighbour. Shared by all callers, so it must not be modified.
+    public int[] neighbours4() {
+        return neighbours4;
+    }
+
+    // Offsets to all eight neighbours, clockwise starting at the right one. Must not be modified either.
+    public int[] neighbours8() {
+        return neighbours8;
+    }
+
+    // The indices of all cells inside the border, row by row.
+    public IntStream indices() {
+        return IntStream.range(0, height)
+                .flatMap(y -> IntStream.range(index(0, y), index(0, y) + width));
+    }
+
+    public int indexOf(final byte value) {
+        for (int y = 0; y < height; y++) {
+            for (int index = index(0, y); index < index(0, y) + width; index++) {
+                if (cells[index] == value) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    public Line row(final int y) {
+        return new Line(cells, index(0, y), 1, width);
+    }
+
+    public Line column(final int x) {
+        return new Line(cells, index(x, 0), stride, height);
+    }
+
+    public Grid copy() {
+        return new Grid(cells.clone(), width, height);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(height * (width + 1));
+        for (int y = 0; y < height; y++) {
+            for (int index = index(0, y); index < index(0, y) + width; index++) {
+                sb.append((char) cells[index]);
+            }
+            sb.append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    // A row or column of the grid. Writes go straight to the grid.
+    public static final class Line {
+
+        private final byte[] cells;
+        private final int start;
+        private final int step;
+        private final int length;
+
+        private Line(final byte[] cells, final int start, final int step, final int length) {
+            this.cells = cells;
+            this.start = start;
+            this.step = step;
+            this.length = length;
+        }
+
+        public int length() {
+            return length;
+        }
+
+        public byte get(final int i) {
+            return cells[start + i * step];
+        }
+
+        public void set(final int i, final byte value) {
+            cells[start + i * step] = value;
+        }
+
+        public void fill(final byte value) {
+            for (int i = 0; i < length; i++) {
+                set(i, value);
+            }
+        }
+
+    }
+
+}
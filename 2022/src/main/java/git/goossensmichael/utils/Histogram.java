@@ -0,0 +1,104 @@
+package git.goossensmichael.utils;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Counts recorded values in log-linear buckets, like an HDR histogram: every power of two is split into 64 linear
+ * buckets, so a percentile is off by less than 1/64 of its value. Recording does not allocate and may happen from
+ * several threads at once, e.g. from both parts of a day.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * HALF_SUB_BUCKETS;
+
+    private static final VarHandle COUNTS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle COUNT;
+    private static final VarHandle MAX;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            COUNT = lookup.findVarHandle(Histogram.class, "count", long.class);
+            MAX = lookup.findVarHandle(Histogram.class, "max", long.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long[] counts = new long[BUCKETS];
+    private volatile long count;
+    private volatile long max;
+
+    // Negative values are recorded as 0.
+    public void record(final long value) {
+        final long v = Math.max(value, 0);
+        COUNTS.getAndAdd(counts, bucket(v), 1L);
+        COUNT.getAndAdd(this, 1L);
+
+        long current = max;
+        while (v > current && !MAX.compareAndSet(this, current, v)) {
+            current = max;
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long max() {
+        return max;
+    }
+
+    // The highest value in the bucket of the percentile, but never more than the maximum. 0 when nothing is recorded.
+    public long percentile(final double percentile) {
+        final long total = count;
+        if (total == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += (long) COUNTS.getVolatile(counts, bucket);
+            if (seen >= rank) {
+                return Math.min(highestValue(bucket), max);
+            }
+        }
+
+        return max;
+    }
+
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            COUNTS.setVolatile(counts, bucket, 0L);
+        }
+        count = 0;
+        max = 0;
+    }
+
+    // Values below SUB_BUCKETS have a bucket each, above that the top 7 bits of the value pick the bucket.
+    private static int bucket(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final int shift = Long.SIZE - SUB_BUCKET_BITS - Long.numberOfLeadingZeros(value);
+        return shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long highestValue(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        final int shift = bucket / HALF_SUB_BUCKETS - 1;
+        final long subBucket = bucket - (long) shift * HALF_SUB_BUCKETS;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,79 @@
+package git.goossensmichael.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class Inputs {
+
+    // Directory to read the inputs from instead of the classpath, e.g. for inputs that are too large to package.
+    public static final String INPUTS_DIRECTORY_PROPERTY = "adventofcode.inputs";
+
+    private static final String RESOURCE_DIRECTORY = "/inputs/";
+
+    private Inputs() {
+    }
+
+    public static ByteBuffer of(final String input) {
+        return ByteBuffer.wrap(input.getBytes(StandardCharsets.US_ASCII)).asReadOnlyBuffer();
+    }
+
+    // The puzzle input of the given day, read from the inputs directory when it is configured.
+    public static ByteBuffer forDay(final int day) {
+        final String name = "day" + day + ".txt";
+        final String directory = System.getProperty(INPUTS_DIRECTORY_PROPERTY);
+
+        return directory == null ? resource(name) : map(Path.of(directory, name));
+    }
+
+    // Maps the file into memory so its content never has to be copied onto the heap. The solvers take a single buffer,
+    // which holds at most Integer.MAX_VALUE bytes, so an input can be up to 2 GB.
+    public static ByteBuffer map(final Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Input " + path + " has " + size + " bytes, inputs can have at most "
+                        + Integer.MAX_VALUE + " bytes");
+            }
+
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not read input " + path, e);
+        }
+    }
+
+    // Opens an input on the classpath. Resources that live on the file system are mapped, packaged ones are read.
+    public static ByteBuffer resource(final String name) {
+        final URL url = Inputs.class.getResource(RESOURCE_DIRECTORY + name);
+        if (url == null) {
+            throw new IllegalArgumentException("No input named " + name);
+        }
+
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(Path.of(url.toURI()));
+            } catch (final URISyntaxException e) {
+                throw new IllegalArgumentException("Can not locate input " + name, e);
+            }
+        }
+
+        try (InputStream in = url.openStream()) {
+            return ByteBuffer.wrap(in.readAllBytes()).asReadOnlyBuffer();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not read input " + name, e);
+        }
+    }
+
+    // Decodes the remaining bytes without moving the position of the given buffer.
+    public static String asString(final ByteBuffer input) {
+        return StandardCharsets.US_ASCII.decode(input.duplicate()).toString();
+    }
+
+}
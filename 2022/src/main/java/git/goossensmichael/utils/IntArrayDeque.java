@@ -0,0 +1,85 @@
+package git.goossensmichael.utils;
+
+import java.util.NoSuchElementException;
+
+// A double ended queue of ints on a growing ring buffer.
+public class IntArrayDeque {
+
+    private int[] elements;
+    private int head;
+    private int size;
+
+    public IntArrayDeque() {
+        this(16);
+    }
+
+    public IntArrayDeque(final int expectedSize) {
+        elements = new int[Integer.highestOneBit(Math.max(expectedSize, 2) - 1) << 1];
+    }
+
+    public void addFirst(final int value) {
+        ensureCapacity();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+    }
+
+    public void addLast(final int value) {
+        ensureCapacity();
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    public int pollFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+
+        return value;
+    }
+
+    public int pollLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        size--;
+
+        return elements[(head + size) & (elements.length - 1)];
+    }
+
+    public int peekFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return elements[head];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void ensureCapacity() {
+        if (size == elements.length) {
+            final int[] grown = new int[elements.length * 2];
+            final int tail = elements.length - head;
+            System.arraycopy(elements, head, grown, 0, tail);
+            System.arraycopy(elements, 0, grown, tail, head);
+            elements = grown;
+            head = 0;
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package git.goossensmichael.utils;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary min heap of int values ordered by an int priority. Every entry is packed into a single long with the
+ * priority in the high bits, so comparing entries is comparing longs and no object is created per entry.
+ */
+public class IntMinHeap {
+
+    private long[] entries;
+    private int size;
+
+    public IntMinHeap() {
+        this(16);
+    }
+
+    public IntMinHeap(final int expectedSize) {
+        entries = new long[Math.max(expectedSize, 2)];
+    }
+
+    public void push(final int value, final int priority) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+
+        final long entry = ((long) priority << 32) | (value & 0xFFFFFFFFL);
+        int i = size++;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (entries[parent] <= entry) {
+                break;
+            }
+            entries[i] = entries[parent];
+            i = parent;
+        }
+        entries[i] = entry;
+    }
+
+    public int peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return (int) (entries[0] >> 32);
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return (int) entries[0];
+    }
+
+    // Removes the value with the lowest priority.
+    public int pop() {
+        final int value = peek();
+
+        final long last = entries[--size];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && entries[child + 1] < entries[child]) {
+                child++;
+            }
+            if (last <= entries[child]) {
+                break;
+            }
+            entries[i] = entries[child];
+            i = child;
+        }
+        entries[i] = last;
+
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+}
@@ -0,0 +1,235 @@
+package git.goossensmichael.utils;
+
+import java.util.Arrays;
+
+/**
+ * A set of longs kept as sorted, disjoint closed intervals in primitive arrays. Intervals that overlap or touch are
+ * coalesced, so [1, 3] and [4, 6] are kept as [1, 6]. Lookups are a binary search, a bulk build sorts the begins and
+ * the ends and coalesces them in a single sweep. A set can be cleared and reused without allocating again.
+ *
+ * <p>Bounds are inclusive and may not be {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}.
+ */
+public class IntervalSet {
+
+    @FunctionalInterface
+    public interface IntervalConsumer {
+        void accept(long begin, long end);
+    }
+
+    private long[] begins;
+    private long[] ends;
+    private int size;
+
+    // Scratch space of the bulk build.
+    private long[] sortedBegins = new long[0];
+    private long[] sortedEnds = new long[0];
+
+    public IntervalSet() {
+        this(16);
+    }
+
+    public IntervalSet(final int expectedIntervals) {
+        begins = new long[Math.max(expectedIntervals, 1)];
+        ends = new long[Math.max(expectedIntervals, 1)];
+    }
+
+    public void add(final long begin, final long end) {
+        requireInterval(begin, end);
+
+        // The intervals from first up to last overlap or touch the new one and are replaced by their union.
+        final int first = firstEndingFrom(begin - 1);
+        final int last = firstBeginningAfter(end + 1);
+        if (first == last) {
+            ensureCapacity(size + 1);
+            System.arraycopy(begins, first, begins, first + 1, size - first);
+            System.arraycopy(ends, first, ends, first + 1, size - first);
+            begins[first] = begin;
+            ends[first] = end;
+            size++;
+            return;
+        }
+
+        begins[first] = Math.min(begin, begins[first]);
+        ends[first] = Math.max(end, ends[last - 1]);
+        System.arraycopy(begins, last, begins, first + 1, size - last);
+        System.arraycopy(ends, last, ends, first + 1, size - last);
+        size -= last - first - 1;
+    }
+
+    // Adds count intervals at once, in any order, from the begins and ends at the same index.
+    public void addAll(final long[] begins, final long[] ends, final int count) {
+        final int total = size + count;
+        if (sortedBegins.length < total) {
+            sortedBegins = new long[total];
+            sortedEnds = new long[total];
+        }
+        System.arraycopy(this.begins, 0, sortedBegins, 0, size);
+        System.arraycopy(this.ends, 0, sortedEnds, 0, size);
+        for (int i = 0; i < count; i++) {
+            requireInterval(begins[i], ends[i]);
+            sortedBegins[size + i] = begins[i];
+            sortedEnds[size + i] = ends[i];
+        }
+
+        // The union only depends on which points begin and end intervals, not on which begin belongs to which end.
+        Arrays.sort(sortedBegins, 0, total);
+        Arrays.sort(sortedEnds, 0, total);
+        ensureCapacity(total);
+        size = 0;
+        int open = 0;
+        int e = 0;
+        long begin = 0;
+        for (int b = 0; b < total; b++) {
+            // An interval that ends right before the next begins touches it, it is not closed yet.
+            while (sortedEnds[e] + 1 < sortedBegins[b]) {
+                if (--open == 0) {
+                    append(begin, sortedEnds[e]);
+                }
+                e++;
+            }
+            if (open++ == 0) {
+                begin = sortedBegins[b];
+            }
+        }
+        if (total > 0) {
+            append(begin, sortedEnds[total - 1]);
+        }
+    }
+
+    public boolean contains(final long point) {
+        final int i = firstEndingFrom(point);
+        return i < size && begins[i] <= point;
+    }
+
+    // Whether every point from begin up to end is in the set.
+    public boolean containsAll(final long begin, final long end) {
+        final int i = firstEndingFrom(end);
+        return i < size && begins[i] <= begin;
+    }
+
+    // Whether any point from begin up to end is in the set.
+    public boolean intersects(final long begin, final long end) {
+        final int i = firstEndingFrom(begin);
+        return i < size && begins[i] <= end;
+    }
+
+    // The amount of points in the set.
+    public long coveredLength() {
+        long length = 0;
+        for (int i = 0; i < size; i++) {
+            length += ends[i] - begins[i] + 1;
+        }
+
+        return length;
+    }
+
+    // The first point from the given one on that is not in the set.
+    public long nextGap(final long from) {
+        final int i = firstEndingFrom(from);
+        return i < size && begins[i] <= from ? ends[i] + 1 : from;
+    }
+
+    // Passes every run of points from begin up to end that is not in the set, in order.
+    public void forEachGap(final long begin, final long end, final IntervalConsumer action) {
+        long next = begin;
+        for (int i = firstEndingFrom(begin); i < size && begins[i] <= end; i++) {
+            if (begins[i] > next) {
+                action.accept(next, begins[i] - 1);
+            }
+            next = ends[i] + 1;
+        }
+        if (next <= end) {
+            action.accept(next, end);
+        }
+    }
+
+    public void forEach(final IntervalConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(begins[i], ends[i]);
+        }
+    }
+
+    // The amount of disjoint intervals.
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long begin(final int interval) {
+        return begins[interval];
+    }
+
+    public long end(final int interval) {
+        return ends[interval];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            builder.append(i == 0 ? "" : ", ").append('[').append(begins[i]).append(", ").append(ends[i]).append(']');
+        }
+
+        return builder.append(']').toString();
+    }
+
+    // The index of the first interval that ends at or after the point, size when there is none.
+    private int firstEndingFrom(final long point) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (ends[middle] < point) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    // The index of the first interval that begins after the point, size when there is none.
+    private int firstBeginningAfter(final long point) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (begins[middle] <= point) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private void append(final long begin, final long end) {
+        begins[size] = begin;
+        ends[size] = end;
+        size++;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (begins.length < capacity) {
+            final int newCapacity = Math.max(capacity, begins.length * 2);
+            begins = Arrays.copyOf(begins, newCapacity);
+            ends = Arrays.copyOf(ends, newCapacity);
+        }
+    }
+
+    private static void requireInterval(final long begin, final long end) {
+        if (begin > end || begin == Long.MIN_VALUE || end == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Not an interval: [" + begin + ", " + end + "]");
+        }
+    }
+
+}
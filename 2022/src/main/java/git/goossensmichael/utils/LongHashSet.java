@@ -0,0 +1,146 @@
+package git.goossensmichael.utils;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of longs using open addressing with linear probing. Unlike a {@code HashSet<Long>} it does not create an
+ * object per entry, which makes it a good fit for coordinates packed with {@link Coordinates}.
+ */
+public class LongHashSet {
+
+    private long[] keys;
+    private boolean containsZero;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(final int expectedSize) {
+        allocate(LongHashing.capacityFor(expectedSize));
+    }
+
+    public boolean add(final long key) {
+        if (key == 0) {
+            final boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+
+        int slot = LongHashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        if (++size >= resizeAt) {
+            rehash(keys.length * 2);
+        }
+
+        return true;
+    }
+
+    public boolean contains(final long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+
+        return find(key) >= 0;
+    }
+
+    public boolean remove(final long key) {
+        if (key == 0) {
+            final boolean removed = containsZero;
+            containsZero = false;
+            return removed;
+        }
+
+        final int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+
+        shift(slot);
+        size--;
+
+        return true;
+    }
+
+    public int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    public void forEach(final LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (final long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    private int find(final long key) {
+        int slot = LongHashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    // Moves the entries that follow a removed one back so that no lookup stops at the freed slot too early.
+    private void shift(int free) {
+        int next = (free + 1) & mask;
+        while (keys[next] != 0) {
+            if (LongHashing.canShift(free, next, LongHashing.mix(keys[next]) & mask, mask)) {
+                keys[free] = keys[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[free] = 0;
+    }
+
+    private void rehash(final int capacity) {
+        final long[] oldKeys = keys;
+        allocate(capacity);
+
+        for (final long key : oldKeys) {
+            if (key != 0) {
+                int slot = LongHashing.mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LongHashing.LOAD_FACTOR);
+    }
+
+}
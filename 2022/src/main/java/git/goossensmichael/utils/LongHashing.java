@@ -0,0 +1,27 @@
+package git.goossensmichael.utils;
+
+// Shared by the open addressing collections with long keys. The key 0 marks a free slot in their tables.
+final class LongHashing {
+
+    static final float LOAD_FACTOR = 0.5f;
+
+    private LongHashing() {
+    }
+
+    // Spreads the bits of the key, packed coordinates only differ in a few low bits of both halves.
+    static int mix(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static int capacityFor(final int expectedSize) {
+        final int minimum = (int) Math.ceil(Math.max(expectedSize, 2) / LOAD_FACTOR);
+        return Integer.highestOneBit(minimum - 1) << 1;
+    }
+
+    // Whether the entry in slot next, which belongs at slot ideal, may move back to the freed slot.
+    static boolean canShift(final int free, final int next, final int ideal, final int mask) {
+        return ((next - ideal) & mask) >= ((next - free) & mask);
+    }
+
+}
@@ -0,0 +1,172 @@
+package git.goossensmichael.utils;
+
+import java.util.Arrays;
+
+/**
+ * A map from long to long using open addressing with linear probing, without an object per entry.
+ */
+public class LongLongHashMap {
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private long[] keys;
+    private long[] values;
+    private boolean containsZero;
+    private long zeroValue;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongLongHashMap() {
+        this(16);
+    }
+
+    public LongLongHashMap(final int expectedSize) {
+        allocate(LongHashing.capacityFor(expectedSize));
+    }
+
+    public void put(final long key, final long value) {
+        if (key == 0) {
+            containsZero = true;
+            zeroValue = value;
+            return;
+        }
+
+        int slot = LongHashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    // Adds the increment to the value of the key, a missing key starts at 0. Returns the new value.
+    public long addTo(final long key, final long increment) {
+        final long value = getOrDefault(key, 0) + increment;
+        put(key, value);
+
+        return value;
+    }
+
+    public long getOrDefault(final long key, final long defaultValue) {
+        if (key == 0) {
+            return containsZero ? zeroValue : defaultValue;
+        }
+
+        final int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    public boolean containsKey(final long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+
+        return find(key) >= 0;
+    }
+
+    public boolean remove(final long key) {
+        if (key == 0) {
+            final boolean removed = containsZero;
+            containsZero = false;
+            return removed;
+        }
+
+        final int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+
+        shift(slot);
+        size--;
+
+        return true;
+    }
+
+    public int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    public void forEach(final EntryConsumer action) {
+        if (containsZero) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int find(final long key) {
+        int slot = LongHashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    // Moves the entries that follow a removed one back so that no lookup stops at the freed slot too early.
+    private void shift(int free) {
+        int next = (free + 1) & mask;
+        while (keys[next] != 0) {
+            if (LongHashing.canShift(free, next, LongHashing.mix(keys[next]) & mask, mask)) {
+                keys[free] = keys[next];
+                values[free] = values[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[free] = 0;
+    }
+
+    private void rehash(final int capacity) {
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = LongHashing.mix(oldKeys[i]) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LongHashing.LOAD_FACTOR);
+    }
+
+}
@@ -0,0 +1,204 @@
+package git.goossensmichael.utils;
+
+import java.util.Arrays;
+
+/**
+ * A memo from long to long with a maximum capacity, so a memoized search runs in a known amount of memory. It starts
+ * small and doubles until it reaches its capacity, a small search never pays for a large memo. When it is full at its
+ * capacity an entry is evicted with the CLOCK algorithm: the hand sweeps over the entries and evicts the first one that
+ * was not used since the hand passed it before. An evicted state is computed again when the search needs it again.
+ */
+public class LongMemoCache {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    // The entries, the table maps a key to its entry + 1 with 0 as a free slot.
+    private long[] keys;
+    private long[] values;
+    private boolean[] referenced;
+    private int[] table;
+    private int mask;
+    private final int capacity;
+    private int size;
+    private int hand;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public LongMemoCache(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A memo needs room for at least one entry, not " + capacity);
+        }
+
+        this.capacity = capacity;
+        final int initialCapacity = Math.min(capacity, INITIAL_CAPACITY);
+        keys = new long[initialCapacity];
+        values = new long[initialCapacity];
+        referenced = new boolean[initialCapacity];
+        table = new int[LongHashing.capacityFor(initialCapacity)];
+        mask = table.length - 1;
+    }
+
+    public long getOrDefault(final long key, final long defaultValue) {
+        final int entry = find(key);
+        if (entry < 0) {
+            misses++;
+            return defaultValue;
+        }
+
+        hits++;
+        referenced[entry] = true;
+
+        return values[entry];
+    }
+
+    public boolean containsKey(final long key) {
+        final int entry = find(key);
+        if (entry < 0) {
+            misses++;
+            return false;
+        }
+
+        hits++;
+        referenced[entry] = true;
+
+        return true;
+    }
+
+    public void put(final long key, final long value) {
+        int slot = LongHashing.mix(key) & mask;
+        while (table[slot] != 0) {
+            final int entry = table[slot] - 1;
+            if (keys[entry] == key) {
+                values[entry] = value;
+                referenced[entry] = true;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == keys.length && keys.length < capacity) {
+            grow();
+            slot = LongHashing.mix(key) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        final int entry;
+        if (size < keys.length) {
+            entry = size++;
+        } else {
+            entry = evict();
+            // The eviction may have moved entries in the table, the key is probed for again.
+            slot = LongHashing.mix(key) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        keys[entry] = key;
+        values[entry] = value;
+        referenced[entry] = false;
+        table[slot] = entry + 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    // Removes all entries, the statistics keep counting.
+    public void clear() {
+        Arrays.fill(table, 0);
+        Arrays.fill(referenced, false);
+        size = 0;
+        hand = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d entries, %d hits, %d misses, %d evictions",
+                size, capacity, hits, misses, evictions);
+    }
+
+    // Doubles the room for entries up to the capacity and puts all entries in a new table.
+    private void grow() {
+        final int newCapacity = (int) Math.min(keys.length * 2L, capacity);
+        keys = Arrays.copyOf(keys, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+        referenced = Arrays.copyOf(referenced, newCapacity);
+        table = new int[LongHashing.capacityFor(newCapacity)];
+        mask = table.length - 1;
+
+        for (int entry = 0; entry < size; entry++) {
+            int slot = LongHashing.mix(keys[entry]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = entry + 1;
+        }
+    }
+
+    private int find(final long key) {
+        int slot = LongHashing.mix(key) & mask;
+        while (table[slot] != 0) {
+            final int entry = table[slot] - 1;
+            if (keys[entry] == key) {
+                return entry;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    // Frees the entry under the hand that was not used since the last sweep, used entries get a second chance.
+    private int evict() {
+        while (referenced[hand]) {
+            referenced[hand] = false;
+            hand = hand + 1 == keys.length ? 0 : hand + 1;
+        }
+        final int victim = hand;
+        hand = hand + 1 == keys.length ? 0 : hand + 1;
+
+        int slot = LongHashing.mix(keys[victim]) & mask;
+        while (table[slot] != victim + 1) {
+            slot = (slot + 1) & mask;
+        }
+        shift(slot);
+        evictions++;
+
+        return victim;
+    }
+
+    // Moves the entries that follow a removed one back so that no lookup stops at the freed slot too early.
+    private void shift(int free) {
+        int next = (free + 1) & mask;
+        while (table[next] != 0) {
+            if (LongHashing.canShift(free, next, LongHashing.mix(keys[table[next] - 1]) & mask, mask)) {
+                table[free] = table[next];
+                free = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table[free] = 0;
+    }
+
+}
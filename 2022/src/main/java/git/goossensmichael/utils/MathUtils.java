@@ -1,6 +1,8 @@
 package git.goossensmichael.utils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class MathUtils {
@@ -56,6 +58,139 @@ public class MathUtils {
         return new int[] { a[1] * b[2] - a[2] * b[1], a[2] * b[0] - a[0] * b[2], a[0] * b[1] - a[1] * b[0] };
     }
 
+    // The variants with an into argument write their result into it instead of allocating, it may be an argument too.
+
+    public static int[] add(final int[] a, final int[] b, final int[] into) {
+        into[0] = a[0] + b[0];
+        into[1] = a[1] + b[1];
+        into[2] = a[2] + b[2];
+
+        return into;
+    }
+
+    public static int[] negate(final int[] a, final int[] into) {
+        into[0] = -a[0];
+        into[1] = -a[1];
+        into[2] = -a[2];
+
+        return into;
+    }
+
+    public static int[] cross(final int[] a, final int[] b, final int[] into) {
+        final int x = a[1] * b[2] - a[2] * b[1];
+        final int y = a[2] * b[0] - a[0] * b[2];
+        final int z = a[0] * b[1] - a[1] * b[0];
+        into[0] = x;
+        into[1] = y;
+        into[2] = z;
+
+        return into;
+    }
+
+    public static int[] copy(final int[] a, final int[] into) {
+        System.arraycopy(a, 0, into, 0, 3);
+
+        return into;
+    }
+
+    public static boolean equals(final int[] a, final int[] b) {
+        return a[0] == b[0] && a[1] == b[1] && a[2] == b[2];
+    }
+
+    // The 24 rotations of a cube, numbered from 0 for the identity. A rotation is its 3x3 matrix row after row.
+    private static final int ROTATION_COUNT = 24;
+    private static final int[][] ROTATIONS = rotationGroup();
+    // The rotation of applying rotation b and then rotation a at [a * 24 + b].
+    private static final int[] COMPOSITIONS = new int[ROTATION_COUNT * ROTATION_COUNT];
+    private static final int[] INVERSES = new int[ROTATION_COUNT];
+
+    static {
+        for (int a = 0; a < ROTATION_COUNT; a++) {
+            for (int b = 0; b < ROTATION_COUNT; b++) {
+                COMPOSITIONS[a * ROTATION_COUNT + b] = rotationIndex(multiply(ROTATIONS[a], ROTATIONS[b]));
+                if (COMPOSITIONS[a * ROTATION_COUNT + b] == 0) {
+                    INVERSES[a] = b;
+                }
+            }
+        }
+    }
+
+    public static final int IDENTITY_ROTATION = 0;
+    public static final int ROTATION_X = rotationIndex(ROTATE_X);
+    public static final int ROTATION_X_INVERSE = rotationIndex(ROTATE_X_INVERSE);
+    public static final int ROTATION_Y = rotationIndex(ROTATE_Y);
+    public static final int ROTATION_Y_INVERSE = rotationIndex(ROTATE_Y_INVERSE);
+
+    // Rotation a after rotation b, like transform(a, b) on their matrices.
+    public static int compose(final int a, final int b) {
+        return COMPOSITIONS[a * ROTATION_COUNT + b];
+    }
+
+    public static int inverse(final int rotation) {
+        return INVERSES[rotation];
+    }
+
+    public static int[] rotate(final int rotation, final int[] v, final int[] into) {
+        final int[] m = ROTATIONS[rotation];
+        final int x = m[0] * v[0] + m[1] * v[1] + m[2] * v[2];
+        final int y = m[3] * v[0] + m[4] * v[1] + m[5] * v[2];
+        final int z = m[6] * v[0] + m[7] * v[1] + m[8] * v[2];
+        into[0] = x;
+        into[1] = y;
+        into[2] = z;
+
+        return into;
+    }
+
+    // The number of the rotation in the upper left 3x3 of the matrix.
+    public static int rotationIndex(final int[][] m) {
+        return rotationIndex(new int[] {
+                m[0][0], m[0][1], m[0][2],
+                m[1][0], m[1][1], m[1][2],
+                m[2][0], m[2][1], m[2][2]
+        });
+    }
+
+    private static int rotationIndex(final int[] rotation) {
+        for (int i = 0; i < ROTATIONS.length; i++) {
+            if (Arrays.equals(ROTATIONS[i], rotation)) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("Not a rotation of a cube: " + Arrays.toString(rotation));
+    }
+
+    // Quarter turns around the x and the y axis generate all rotations of a cube.
+    private static int[][] rotationGroup() {
+        final int[] identity = { 1, 0, 0, 0, 1, 0, 0, 0, 1 };
+        final int[] x = { 1, 0, 0, 0, 0, -1, 0, 1, 0 };
+        final int[] y = { 0, 0, 1, 0, 1, 0, -1, 0, 0 };
+
+        final List<int[]> rotations = new ArrayList<>(List.of(identity));
+        for (int i = 0; i < rotations.size(); i++) {
+            for (final int[] turn : new int[][] { x, y }) {
+                final int[] rotation = multiply(rotations.get(i), turn);
+                if (rotations.stream().noneMatch(r -> Arrays.equals(r, rotation))) {
+                    rotations.add(rotation);
+                }
+            }
+        }
+
+        return rotations.toArray(int[][]::new);
+    }
+
+    private static int[] multiply(final int[] a, final int[] b) {
+        final int[] product = new int[9];
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 3; column++) {
+                product[row * 3 + column] = a[row * 3] * b[column] + a[row * 3 + 1] * b[3 + column] + a[row * 3 + 2] * b[6 + column];
+            }
+        }
+
+        return product;
+    }
+
     public enum Rotation {
         X_CLOCKWISE, X_COUNTERCLOCKWISE, Y_CLOCKWISE, Y_COUNTERCLOCKWISE
     }
@@ -95,6 +230,28 @@ public class MathUtils {
         };
     }
 
+    // Apply matrix to vector, into may not be the vector.
+    public static int[] transform(final int[][] m, final int[] p, final int[] into) {
+        into[0] = m[0][0] * p[0] + m[0][1] * p[1] + m[0][2] * p[2] + m[0][3] * p[3];
+        into[1] = m[1][0] * p[0] + m[1][1] * p[1] + m[1][2] * p[2] + m[1][3] * p[3];
+        into[2] = m[2][0] * p[0] + m[2][1] * p[1] + m[2][2] * p[2] + m[2][3] * p[3];
+        into[3] = m[3][0] * p[0] + m[3][1] * p[1] + m[3][2] * p[2] + m[3][3] * p[3];
+
+        return into;
+    }
+
+    // Multiply the matrices, into may not be either of them.
+    public static int[][] transform(final int[][] m, final int[][] n, final int[][] into) {
+        for (int row = 0; row < 4; row++) {
+            for (int column = 0; column < 4; column++) {
+                into[row][column] = m[row][0] * n[0][column] + m[row][1] * n[1][column]
+                        + m[row][2] * n[2][column] + m[row][3] * n[3][column];
+            }
+        }
+
+        return into;
+    }
+
     public static int[][] transform(final int[][] m, final int[][] n) {
         return new int[][] {
                 {
@@ -0,0 +1,54 @@
+package git.goossensmichael.utils;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named histograms and counters of the operations inside the solvers, e.g. the time of every round of a simulation.
+ * Solvers look their metrics up once and keep them in a constant, recording is cheap enough for hot loops.
+ */
+public class Metrics {
+
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentSkipListMap<>();
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentSkipListMap<>();
+
+    private Metrics() {
+    }
+
+    public static Histogram histogram(final String name) {
+        return HISTOGRAMS.computeIfAbsent(name, n -> new Histogram());
+    }
+
+    public static LongAdder counter(final String name) {
+        return COUNTERS.computeIfAbsent(name, n -> new LongAdder());
+    }
+
+    // Writes the metrics that were recorded. Histograms hold durations in nanoseconds, they are written in milliseconds.
+    public static void report(final PrintStream out) {
+        if (HISTOGRAMS.values().stream().anyMatch(histogram -> histogram.count() > 0)) {
+            out.println("Metric                  |      count |     p50 ms |     p99 ms |     max ms");
+            HISTOGRAMS.forEach((name, histogram) -> {
+                if (histogram.count() > 0) {
+                    out.printf("%-23s | %10d | %10.3f | %10.3f | %10.3f%n", name, histogram.count(),
+                            histogram.percentile(50) / 1e6, histogram.percentile(99) / 1e6, histogram.max() / 1e6);
+                }
+            });
+        }
+        if (COUNTERS.values().stream().anyMatch(counter -> counter.sum() > 0)) {
+            out.println("Counter                 |      count");
+            COUNTERS.forEach((name, counter) -> {
+                if (counter.sum() > 0) {
+                    out.printf("%-23s | %10d%n", name, counter.sum());
+                }
+            });
+        }
+    }
+
+    public static void reset() {
+        HISTOGRAMS.values().forEach(Histogram::reset);
+        COUNTERS.values().forEach(LongAdder::reset);
+    }
+
+}
@@ -0,0 +1,126 @@
+package git.goossensmichael.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Parsed models of earlier runs, stored on disk as the flat arrays of a {@link ModelWriter}. A model is keyed on the
+ * day, the version of its layout and the SHA-256 of the input, one file per model. The file is mapped into memory when
+ * it is loaded, so its arrays are read in place instead of being copied onto the heap.
+ *
+ * <p>A file starts with a header of the magic, the version of this format, the day, the version of the layout, the
+ * input hash and the amount of sections. Files whose header does not match what is asked for are never read.
+ */
+public class ModelCache {
+
+    private static final int MAGIC = 0x4D434F41;
+    private static final int FORMAT = 1;
+
+    private static final int HASH_SIZE = 32;
+    private static final int HEADER_SIZE = 24 + HASH_SIZE;
+
+    private final Path directory;
+
+    // The directory is created when the first model is stored.
+    public ModelCache(final Path directory) {
+        this.directory = directory;
+    }
+
+    // Next to the answers, ~/.cache/adventofcode/models unless another cache home is configured.
+    public static Path defaultDirectory() {
+        return AnswerCache.defaultDirectory().resolve("models");
+    }
+
+    public Optional<ModelReader> get(final int day, final int version, final byte[] inputHash) {
+        final Path file = file(day, version, inputHash);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                return Optional.empty();
+            }
+
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final ByteBuffer header = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            final byte[] hash = new byte[HASH_SIZE];
+            header.get(24, hash);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT || header.getInt(8) != day
+                    || header.getInt(12) != version || !Arrays.equals(hash, inputHash)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new ModelReader(mapped.slice(HEADER_SIZE, mapped.capacity() - HEADER_SIZE)));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not read " + file + " from the model cache", e);
+        }
+    }
+
+    // Written to a temporary file that is moved in place, so a model is never read while it is being written. It is
+    // written through the channel rather than a mapping, a full disk is then an IOException instead of a fault. Models
+    // of other versions of the layout of the day are dropped.
+    public void put(final int day, final int version, final byte[] inputHash, final ModelWriter model) {
+        final Path file = file(day, version, inputHash);
+        final Path temporary = directory.resolve(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            dropOtherVersions(day, version);
+
+            final ByteBuffer out = ByteBuffer.allocate(Math.toIntExact(HEADER_SIZE + model.size()))
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC).putInt(FORMAT).putInt(day).putInt(version)
+                    .putInt(model.sections()).putInt(0)
+                    .put(inputHash);
+            model.writeTo(out);
+            out.flip();
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+                channel.force(false);
+            }
+
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (final IOException cleanup) {
+                e.addSuppressed(cleanup);
+            }
+            throw new UncheckedIOException("Can not write " + file + " to the model cache", e);
+        }
+    }
+
+    private void dropOtherVersions(final int day, final int version) throws IOException {
+        final String current = prefix(day, version);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "day" + day + "-*.bin")) {
+            for (final Path file : files) {
+                if (!file.getFileName().toString().startsWith(current)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private Path file(final int day, final int version, final byte[] inputHash) {
+        return directory.resolve(prefix(day, version) + HexFormat.of().formatHex(inputHash) + ".bin");
+    }
+
+    private static String prefix(final int day, final int version) {
+        return "day" + day + "-v" + version + "-";
+    }
+
+}
@@ -0,0 +1,90 @@
+package git.goossensmichael.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Reads the arrays written by a {@link ModelWriter} in the order they were written. The buffer variants are views on
+ * the stored bytes, so a mapped model file is read without copying. The array variants copy the values onto the heap.
+ */
+public class ModelReader {
+
+    private final ByteBuffer buffer;
+    private int position;
+
+    public ModelReader(final ByteBuffer buffer) {
+        this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public boolean hasNext() {
+        return position < buffer.limit();
+    }
+
+    public IntBuffer ints() {
+        final int count = next(ModelWriter.INTS, Integer.BYTES);
+        return slice(count * Integer.BYTES).asIntBuffer();
+    }
+
+    public LongBuffer longs() {
+        final int count = next(ModelWriter.LONGS, Long.BYTES);
+        return slice(count * Long.BYTES).asLongBuffer();
+    }
+
+    public ByteBuffer bytes() {
+        final int count = next(ModelWriter.BYTES, Byte.BYTES);
+        return slice(count).asReadOnlyBuffer();
+    }
+
+    public int[] intArray() {
+        final IntBuffer ints = ints();
+        final int[] values = new int[ints.remaining()];
+        ints.get(values);
+
+        return values;
+    }
+
+    public long[] longArray() {
+        final LongBuffer longs = longs();
+        final long[] values = new long[longs.remaining()];
+        longs.get(values);
+
+        return values;
+    }
+
+    public byte[] byteArray() {
+        final ByteBuffer bytes = bytes();
+        final byte[] values = new byte[bytes.remaining()];
+        bytes.get(values);
+
+        return values;
+    }
+
+    // Reads the header of the next section, which must be of the given type and fit in the buffer.
+    private int next(final byte type, final int width) {
+        if (position + ModelWriter.SECTION_HEADER > buffer.limit()) {
+            throw new IllegalStateException("No section left at " + position);
+        }
+        if (buffer.get(position) != type) {
+            throw new IllegalStateException("Expected a section of " + (char) type + " at " + position
+                    + " but found " + (char) buffer.get(position));
+        }
+
+        final int count = buffer.getInt(position + 4);
+        if (count < 0 || position + ModelWriter.SECTION_HEADER + (long) count * width > buffer.limit()) {
+            throw new IllegalStateException("The section at " + position + " does not fit the model");
+        }
+        position += ModelWriter.SECTION_HEADER;
+
+        return count;
+    }
+
+    private ByteBuffer slice(final int bytes) {
+        final ByteBuffer section = buffer.slice(position, bytes).order(ByteOrder.LITTLE_ENDIAN);
+        position += ModelWriter.padded(bytes);
+
+        return section;
+    }
+
+}
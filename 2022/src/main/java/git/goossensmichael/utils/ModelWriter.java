@@ -0,0 +1,88 @@
+package git.goossensmichael.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the flat arrays a parsed model is stored as, a {@link ModelReader} reads them back in the same order. Every
+ * section is a header of 8 bytes, the type and the amount of values, followed by the values padded to 8 bytes, so
+ * every section of a mapped file can be viewed in place.
+ */
+public class ModelWriter {
+
+    static final byte INTS = 'I';
+    static final byte LONGS = 'L';
+    static final byte BYTES = 'B';
+    static final int SECTION_HEADER = 8;
+
+    // The arrays are kept as given until they are written, they must not be modified before that.
+    private final List<Object> sections = new ArrayList<>();
+
+    public ModelWriter ints(final int... values) {
+        sections.add(values);
+        return this;
+    }
+
+    public ModelWriter longs(final long... values) {
+        sections.add(values);
+        return this;
+    }
+
+    public ModelWriter bytes(final byte... values) {
+        sections.add(values);
+        return this;
+    }
+
+    public int sections() {
+        return sections.size();
+    }
+
+    // The amount of bytes written by writeTo.
+    public long size() {
+        long size = 0;
+        for (final Object section : sections) {
+            size += SECTION_HEADER + padded(bytes(section));
+        }
+
+        return size;
+    }
+
+    public void writeTo(final ByteBuffer out) {
+        final ByteBuffer buffer = out.order(ByteOrder.LITTLE_ENDIAN);
+        for (final Object section : sections) {
+            final int start = buffer.position();
+            if (section instanceof int[] ints) {
+                buffer.put(INTS).position(start + 4);
+                buffer.putInt(ints.length);
+                buffer.asIntBuffer().put(ints);
+            } else if (section instanceof long[] longs) {
+                buffer.put(LONGS).position(start + 4);
+                buffer.putInt(longs.length);
+                buffer.asLongBuffer().put(longs);
+            } else {
+                final byte[] bytes = (byte[]) section;
+                buffer.put(BYTES).position(start + 4);
+                buffer.putInt(bytes.length);
+                buffer.put(buffer.position(), bytes);
+            }
+            buffer.position(start + SECTION_HEADER + padded(bytes(section)));
+        }
+    }
+
+    static int padded(final long bytes) {
+        return Math.toIntExact((bytes + 7) & ~7L);
+    }
+
+    private static long bytes(final Object section) {
+        if (section instanceof int[] ints) {
+            return (long) ints.length * Integer.BYTES;
+        } else if (section instanceof long[] longs) {
+            return (long) longs.length * Long.BYTES;
+        }
+
+        return ((byte[]) section).length;
+    }
+
+}
@@ -0,0 +1,175 @@
+package git.goossensmichael.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A 2D grid of one bit or one byte per cell that lives outside the heap, so a simulation over billions of cells neither
+ * needs a heap that large nor has the garbage collector go over its cells. The cells are kept in direct buffers of at
+ * most 1 GB, or in a file that is mapped into memory. A buffer is freed when the grid is no longer reachable.
+ *
+ * <p>Cells are addressed by x and y or by their index, row after row. Neither is checked against the bounds of the
+ * grid, callers that may step outside of it check {@link #contains(int, int)} first.
+ */
+public class OffHeapGrid {
+
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+    // The bytes of all direct buffers ever allocated for grids, the allocation counters of the JVM only see the heap.
+    private static final LongAdder ALLOCATED = Metrics.counter("offheap.bytes");
+
+    private final int width;
+    private final int height;
+    private final boolean bitPerCell;
+    private final ByteBuffer[] chunks;
+
+    private OffHeapGrid(final int width, final int height, final boolean bitPerCell, final ByteBuffer[] chunks) {
+        this.width = width;
+        this.height = height;
+        this.bitPerCell = bitPerCell;
+        this.chunks = chunks;
+    }
+
+    // Cells are 0 or 1.
+    public static OffHeapGrid ofBits(final int width, final int height) {
+        return allocate(width, height, true);
+    }
+
+    // Cells are 0 up to 255.
+    public static OffHeapGrid ofBytes(final int width, final int height) {
+        return allocate(width, height, false);
+    }
+
+    // A grid stored in the file, which is created or grown to fit it. The cells that are already in the file are kept.
+    public static OffHeapGrid mapped(final Path file, final int width, final int height, final boolean bitPerCell) {
+        final long size = size(width, height, bitPerCell);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final ByteBuffer[] chunks = new ByteBuffer[chunkCount(size)];
+            for (int i = 0; i < chunks.length; i++) {
+                final long offset = i * CHUNK_SIZE;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset, Math.min(CHUNK_SIZE, size - offset));
+            }
+
+            return new OffHeapGrid(width, height, bitPerCell, chunks);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not map grid onto " + file, e);
+        }
+    }
+
+    private static OffHeapGrid allocate(final int width, final int height, final boolean bitPerCell) {
+        final long size = size(width, height, bitPerCell);
+        final ByteBuffer[] chunks = new ByteBuffer[chunkCount(size)];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = ByteBuffer.allocateDirect((int) Math.min(CHUNK_SIZE, size - i * CHUNK_SIZE));
+        }
+        ALLOCATED.add(size);
+
+        return new OffHeapGrid(width, height, bitPerCell, chunks);
+    }
+
+    public static long allocatedBytes() {
+        return ALLOCATED.sum();
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public long cells() {
+        return (long) width * height;
+    }
+
+    public boolean contains(final int x, final int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public long index(final int x, final int y) {
+        return (long) y * width + x;
+    }
+
+    public int get(final int x, final int y) {
+        return get(index(x, y));
+    }
+
+    public void set(final int x, final int y, final int value) {
+        set(index(x, y), value);
+    }
+
+    public int get(final long index) {
+        if (bitPerCell) {
+            return (getByte(index >>> 3) >>> (index & 7)) & 1;
+        }
+
+        return getByte(index) & 0xFF;
+    }
+
+    public void set(final long index, final int value) {
+        if (bitPerCell) {
+            final long offset = index >>> 3;
+            final int bit = 1 << (index & 7);
+            final byte b = getByte(offset);
+            putByte(offset, (byte) (value == 0 ? b & ~bit : b | bit));
+        } else {
+            putByte(index, (byte) value);
+        }
+    }
+
+    // Sets every cell to the value, eight bytes at a time.
+    public void fill(final int value) {
+        final long b = bitPerCell ? (value == 0 ? 0 : 0xFF) : value & 0xFF;
+        final long pattern = b * 0x0101010101010101L;
+        for (final ByteBuffer chunk : chunks) {
+            final int limit = chunk.capacity();
+            int i = 0;
+            for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+                chunk.putLong(i, pattern);
+            }
+            for (; i < limit; i++) {
+                chunk.put(i, (byte) b);
+            }
+        }
+    }
+
+    // Writes the cells of a mapped grid to its file, does nothing for other grids.
+    public void force() {
+        for (final ByteBuffer chunk : chunks) {
+            if (chunk instanceof MappedByteBuffer mapped) {
+                mapped.force();
+            }
+        }
+    }
+
+    private byte getByte(final long offset) {
+        return chunks[(int) (offset >>> CHUNK_BITS)].get((int) (offset & CHUNK_MASK));
+    }
+
+    private void putByte(final long offset, final byte b) {
+        chunks[(int) (offset >>> CHUNK_BITS)].put((int) (offset & CHUNK_MASK), b);
+    }
+
+    private static long size(final int width, final int height, final boolean bitPerCell) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException("A grid can not be " + width + " by " + height);
+        }
+
+        final long cells = (long) width * height;
+        return Math.max(bitPerCell ? (cells + 7) >>> 3 : cells, 1);
+    }
+
+    private static int chunkCount(final long size) {
+        return (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS);
+    }
+
+}
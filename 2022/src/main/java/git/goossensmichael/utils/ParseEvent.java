@@ -0,0 +1,26 @@
+package git.goossensmichael.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("git.goossensmichael.Parse")
+@Label("Parse")
+@Category("Advent of Code")
+public class ParseEvent extends PhaseEvent {
+
+    @Label("Input Size")
+    @DataAmount
+    public long inputBytes;
+
+    public static ParseEvent begin(final int day, final long inputBytes) {
+        final ParseEvent event = new ParseEvent();
+        event.day = day;
+        event.inputBytes = inputBytes;
+        event.start();
+
+        return event;
+    }
+
+}
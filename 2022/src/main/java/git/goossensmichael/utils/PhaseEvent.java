@@ -0,0 +1,36 @@
+package git.goossensmichael.utils;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+import java.lang.management.ManagementFactory;
+
+// A phase of a day that runs on a single thread, so the bytes that thread allocated can be attributed to it.
+abstract class PhaseEvent extends Event {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Label("Day")
+    public int day;
+
+    @Label("Allocated")
+    @DataAmount
+    public long allocatedBytes;
+
+    void start() {
+        if (isEnabled()) {
+            allocatedBytes = THREADS.getCurrentThreadAllocatedBytes();
+        }
+        begin();
+    }
+
+    public void finish() {
+        if (shouldCommit()) {
+            allocatedBytes = THREADS.getCurrentThreadAllocatedBytes() - allocatedBytes;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package git.goossensmichael.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * One step of a search, e.g. a minute of a simulation, with the size of the state it keeps and the bytes its thread
+ * allocated. Cheap enough to emit from hot loops, nothing is recorded unless a recording enables it.
+ */
+@Name("git.goossensmichael.SearchIteration")
+@Label("Search Iteration")
+@Category("Advent of Code")
+public class SearchIterationEvent extends Event {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Label("Day")
+    public int day;
+
+    @Label("Iteration")
+    public long iteration;
+
+    @Label("States Explored")
+    public long statesExplored;
+
+    @Label("Memo Size")
+    public long memoSize;
+
+    @Label("Frontier Size")
+    public long frontierSize;
+
+    @Label("Allocated Bytes")
+    @DataAmount
+    public long allocatedBytes;
+
+    public static SearchIterationEvent begin(final int day) {
+        final SearchIterationEvent event = new SearchIterationEvent();
+        event.day = day;
+        if (event.isEnabled()) {
+            event.allocatedBytes = THREADS.getCurrentThreadAllocatedBytes();
+        }
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(final long iteration, final long statesExplored, final long memoSize, final long frontierSize) {
+        if (shouldCommit()) {
+            this.iteration = iteration;
+            this.statesExplored = statesExplored;
+            this.memoSize = memoSize;
+            this.frontierSize = frontierSize;
+            this.allocatedBytes = THREADS.getCurrentThreadAllocatedBytes() - allocatedBytes;
+            commit();
+        }
+    }
+
+}
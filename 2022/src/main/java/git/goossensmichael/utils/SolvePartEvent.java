@@ -0,0 +1,24 @@
+package git.goossensmichael.utils;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("git.goossensmichael.SolvePart")
+@Label("Solve Part")
+@Category("Advent of Code")
+public class SolvePartEvent extends PhaseEvent {
+
+    @Label("Part")
+    public int part;
+
+    public static SolvePartEvent begin(final int day, final int part) {
+        final SolvePartEvent event = new SolvePartEvent();
+        event.day = day;
+        event.part = part;
+        event.start();
+
+        return event;
+    }
+
+}
@@ -0,0 +1,155 @@
+package git.goossensmichael.utils;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the progress of a search from its hot loop. Updates go to striped adders, so threads that update the same
+ * progress do not contend and reading it from JMX never slows the search down. Every run of a part of a day has its
+ * own instance, so runs of the same part in a batch or the daemon do not count into each other. It is registered on the
+ * platform MBean server as {@code git.goossensmichael:type=SolverProgress,day=..,part=..,run=..}. A run finishes when
+ * it is closed, also when it fails, and stays registered until the next run of the same part finishes. A run that is
+ * interrupted, like the Runner does with a day it gives up on, stops at the next state it expands.
+ */
+public class SolverProgress implements SolverProgressMXBean, AutoCloseable {
+
+    private static final AtomicLong RUNS = new AtomicLong();
+    // The last finished run of every part of a day.
+    private static final Map<Long, SolverProgress> FINISHED = new ConcurrentHashMap<>();
+
+    private final int day;
+    private final int part;
+    private final long run;
+    private final ObjectName name;
+    private final LongAdder statesExpanded = new LongAdder();
+    private final LongAdder memoSize = new LongAdder();
+    private final LongAdder frontierSize = new LongAdder();
+    private final LongAccumulator bestAnswer = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    private SolverProgress(final int day, final int part, final long run) throws JMException {
+        this.day = day;
+        this.part = part;
+        this.run = run;
+        this.name = new ObjectName("git.goossensmichael:type=SolverProgress,day=" + day + ",part=" + part + ",run=" + run);
+    }
+
+    // Starts counting from zero for a new run of the part.
+    public static SolverProgress start(final int day, final int part) {
+        try {
+            final SolverProgress progress = new SolverProgress(day, part, RUNS.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(progress, progress.name);
+            progress.startNanos = System.nanoTime();
+
+            return progress;
+        } catch (final JMException e) {
+            throw new IllegalStateException("Can not register the progress of day " + day + " part " + part, e);
+        }
+    }
+
+    public void expanded(final long states) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Run " + run + " of day " + day + " part " + part + " was interrupted");
+        }
+        statesExpanded.add(states);
+    }
+
+    // The memo and the frontier are tracked by their changes, negative when entries are removed.
+    public void memoized(final long entries) {
+        memoSize.add(entries);
+    }
+
+    public void frontier(final long states) {
+        frontierSize.add(states);
+    }
+
+    public void best(final long answer) {
+        bestAnswer.accumulate(answer);
+    }
+
+    // The previous finished run of the part is unregistered, so a long-lived process keeps one finished run per part.
+    @Override
+    public void close() {
+        endNanos = System.nanoTime();
+
+        final SolverProgress previous = FINISHED.put((long) day << 32 | part, this);
+        if (previous != null && previous != this) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(previous.name);
+            } catch (final JMException e) {
+                throw new IllegalStateException("Can not unregister the progress of day " + day + " part " + part, e);
+            }
+        }
+    }
+
+    @Override
+    public int getDay() {
+        return day;
+    }
+
+    @Override
+    public int getPart() {
+        return part;
+    }
+
+    @Override
+    public long getRun() {
+        return run;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return startNanos != 0 && endNanos == 0;
+    }
+
+    @Override
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos());
+    }
+
+    @Override
+    public long getStatesExpanded() {
+        return statesExpanded.sum();
+    }
+
+    @Override
+    public double getStatesExpandedPerSecond() {
+        final long nanos = elapsedNanos();
+        return nanos == 0 ? 0 : statesExpanded.sum() / (nanos / 1e9);
+    }
+
+    @Override
+    public long getMemoSize() {
+        return memoSize.sum();
+    }
+
+    @Override
+    public long getFrontierSize() {
+        return frontierSize.sum();
+    }
+
+    @Override
+    public long getBestAnswer() {
+        return bestAnswer.get();
+    }
+
+    private long elapsedNanos() {
+        final long start = startNanos;
+        if (start == 0) {
+            return 0;
+        }
+        final long end = endNanos;
+
+        return (end == 0 ? System.nanoTime() : end) - start;
+    }
+
+}
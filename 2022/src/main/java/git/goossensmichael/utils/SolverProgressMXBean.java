@@ -0,0 +1,31 @@
+package git.goossensmichael.utils;
+
+/**
+ * Live progress of the search of a part of a day, e.g. to watch a long run with jconsole and decide whether to wait
+ * for it. What a state, the memo and the frontier are depends on the search of the day.
+ */
+public interface SolverProgressMXBean {
+
+    int getDay();
+
+    int getPart();
+
+    // Counts the runs of all parts in this process, a later run has a higher number.
+    long getRun();
+
+    boolean isRunning();
+
+    long getElapsedMillis();
+
+    long getStatesExpanded();
+
+    double getStatesExpandedPerSecond();
+
+    long getMemoSize();
+
+    long getFrontierSize();
+
+    // The best answer found so far, Long.MIN_VALUE when there is none yet.
+    long getBestAnswer();
+
+}
@@ -0,0 +1,184 @@
+package git.goossensmichael.utils;
+
+/**
+ * Packs the fields of a search state into one or two longs, so states can be kept in the primitive collections and
+ * arrays instead of as objects. A codec is declared by the bit widths of its fields, a field never spans two words.
+ * Fields hold values from 0 up to their width, a value that does not fit is refused rather than silently cut off.
+ */
+public class StateCodec {
+
+    private final int[] widths;
+    private final int[] words;
+    private final int[] shifts;
+    private final long[] masks;
+    private final int wordCount;
+
+    public StateCodec(final int... widths) {
+        this.widths = widths.clone();
+        this.words = new int[widths.length];
+        this.shifts = new int[widths.length];
+        this.masks = new long[widths.length];
+
+        int word = 0;
+        int shift = 0;
+        for (int field = 0; field < widths.length; field++) {
+            final int width = widths[field];
+            if (width < 1 || width > Long.SIZE) {
+                throw new IllegalArgumentException("Field " + field + " can not be " + width + " bits wide");
+            }
+            if (shift + width > Long.SIZE) {
+                word++;
+                shift = 0;
+            }
+            if (word > 1) {
+                throw new IllegalArgumentException("The fields do not fit in two longs");
+            }
+
+            words[field] = word;
+            shifts[field] = shift;
+            masks[field] = width == Long.SIZE ? -1L : (1L << width) - 1;
+            shift += width;
+        }
+        wordCount = word + 1;
+    }
+
+    public int fields() {
+        return widths.length;
+    }
+
+    // The amount of longs a state takes, 1 or 2.
+    public int words() {
+        return wordCount;
+    }
+
+    public int width(final int field) {
+        return widths[field];
+    }
+
+    // The value moved into the place of the field, the fields of a state or'ed together are the packed state.
+    public long field(final int field, final long value) {
+        requireSingleWord();
+        return fit(field, value) << shifts[field];
+    }
+
+    // Packs a state of two, three or four fields without the array of the variable arity variant.
+    public long pack(final long first, final long second) {
+        requireFields(2);
+        return field(0, first) | field(1, second);
+    }
+
+    public long pack(final long first, final long second, final long third) {
+        requireFields(3);
+        return field(0, first) | field(1, second) | field(2, third);
+    }
+
+    public long pack(final long first, final long second, final long third, final long fourth) {
+        requireFields(4);
+        return field(0, first) | field(1, second) | field(2, third) | field(3, fourth);
+    }
+
+    // Packs a state of a codec that fits a single long, the values in the order of the fields.
+    public long pack(final long... values) {
+        requireSingleWord();
+        if (values.length != widths.length) {
+            throw new IllegalArgumentException("Expected " + widths.length + " values, got " + values.length);
+        }
+
+        long packed = 0;
+        for (int field = 0; field < values.length; field++) {
+            packed |= fit(field, values[field]) << shifts[field];
+        }
+
+        return packed;
+    }
+
+    public long get(final long packed, final int field) {
+        requireSingleWord();
+        return (packed >>> shifts[field]) & masks[field];
+    }
+
+    // Returns the packed state with another value for the field.
+    public long with(final long packed, final int field, final long value) {
+        requireSingleWord();
+        return (packed & ~(masks[field] << shifts[field])) | fit(field, value) << shifts[field];
+    }
+
+    public void unpack(final long packed, final long[] values) {
+        requireSingleWord();
+        for (int field = 0; field < widths.length; field++) {
+            values[field] = (packed >>> shifts[field]) & masks[field];
+        }
+    }
+
+    // Packs a state into the words of the state at the offset in the array, for codecs of one or two longs.
+    public void pack(final long[] values, final long[] packed, final int offset) {
+        if (values.length < widths.length) {
+            throw new IllegalArgumentException("Expected " + widths.length + " values, got " + values.length);
+        }
+
+        for (int word = 0; word < wordCount; word++) {
+            packed[offset + word] = 0;
+        }
+        for (int field = 0; field < widths.length; field++) {
+            packed[offset + words[field]] |= fit(field, values[field]) << shifts[field];
+        }
+    }
+
+    public long get(final long[] packed, final int offset, final int field) {
+        return (packed[offset + words[field]] >>> shifts[field]) & masks[field];
+    }
+
+    public void unpack(final long[] packed, final int offset, final long[] values) {
+        for (int field = 0; field < widths.length; field++) {
+            values[field] = (packed[offset + words[field]] >>> shifts[field]) & masks[field];
+        }
+    }
+
+    // Packs consecutive states, the values hold the fields of one state after the other.
+    public void packAll(final long[] values, final long[] packed) {
+        final int states = values.length / widths.length;
+        if (states * widths.length != values.length || packed.length < states * wordCount) {
+            throw new IllegalArgumentException("Can not pack " + values.length + " values into " + packed.length + " longs");
+        }
+
+        final long[] state = new long[widths.length];
+        for (int i = 0; i < states; i++) {
+            System.arraycopy(values, i * widths.length, state, 0, widths.length);
+            pack(state, packed, i * wordCount);
+        }
+    }
+
+    public void unpackAll(final long[] packed, final long[] values) {
+        final int states = packed.length / wordCount;
+        if (states * wordCount != packed.length || values.length < states * widths.length) {
+            throw new IllegalArgumentException("Can not unpack " + packed.length + " longs into " + values.length + " values");
+        }
+
+        for (int i = 0; i < states; i++) {
+            for (int field = 0; field < widths.length; field++) {
+                values[i * widths.length + field] = (packed[i * wordCount + words[field]] >>> shifts[field]) & masks[field];
+            }
+        }
+    }
+
+    private long fit(final int field, final long value) {
+        if ((value & ~masks[field]) != 0) {
+            throw new IllegalArgumentException("Value " + value + " does not fit the " + widths[field] + " bits of field " + field);
+        }
+
+        return value;
+    }
+
+    private void requireFields(final int fields) {
+        if (widths.length != fields) {
+            throw new IllegalArgumentException("Expected " + widths.length + " values, got " + fields);
+        }
+    }
+
+    private void requireSingleWord() {
+        if (wordCount != 1) {
+            throw new IllegalStateException("The state takes " + wordCount + " longs, use the array variants");
+        }
+    }
+
+}